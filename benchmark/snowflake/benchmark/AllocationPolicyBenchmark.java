@@ -0,0 +1,180 @@
+package snowflake.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import snowflake.api.IFlake;
+import snowflake.core.FlakeInputStream;
+import snowflake.core.storage.AllocationPolicy;
+import snowflake.core.storage.Storage;
+import snowflake.core.storage.StorageConfiguration;
+
+
+/**
+ * <p>compares the {@link AllocationPolicy allocation policies} after a synthetic churn workload - the number of
+ * chunks per flake and the size of the data file are printed after the churn, the read throughput of all flakes is
+ * measured</p>
+ * <p>
+ * 		The churn creates flakes of random length, deletes a random half of them and repeats this, so that the
+ * 		available chunks become fragmented.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AllocationPolicyBenchmark {
+
+
+	/**
+	 * <p>the number of flakes which exist after every round of the churn</p>
+	 */
+	private final static int NUMBER_OF_FLAKES = 256;
+
+
+	/**
+	 * <p>the number of rounds of the churn</p>
+	 */
+	private final static int NUMBER_OF_ROUNDS = 8;
+
+
+	/**
+	 * <p>the maximum length of a flake</p>
+	 */
+	private final static int MAXIMUM_FLAKE_LENGTH = 256 * 1024;
+
+
+	/**
+	 * <p></p>
+	 */
+	@Param({"Greedy", "BestFit", "FirstFit", "ContiguousFirst", "SegregatedFit"})
+	public AllocationPolicy allocation_policy;
+
+
+	/**
+	 * <p></p>
+	 */
+	private File directory;
+
+
+	/**
+	 * <p></p>
+	 */
+	private Storage storage;
+
+
+	/**
+	 * <p></p>
+	 */
+	private ArrayList<IFlake> flake_list;
+
+
+	/**
+	 * <p></p>
+	 */
+	private ByteBuffer buffer;
+
+
+	/**
+	 * <p></p>
+	 */
+	@Setup(Level.Trial) public void setUp() throws IOException, InterruptedException {
+		directory = Files.createTempDirectory("snowflake_allocation_policy_benchmark").toFile();
+		StorageConfiguration storage_configuration = new StorageConfiguration(
+			new File(directory, "storage.configuration")
+		);
+		storage_configuration.setDataFilePath(new File(directory, "storage.data").getAbsolutePath());
+		storage_configuration.setChunkTableFilePath(new File(directory, "chunk.table").getAbsolutePath());
+		storage_configuration.setAllocationPolicy(allocation_policy);
+		// the arenas would serve the small flakes regardless of the policy
+		storage_configuration.setNumberOfAllocationArenas(0);
+		// the churn is measured as it is - the defragmentation must not repair it in the meantime
+		storage_configuration.setDefragmentationChunkCountTreshhold(Integer.MAX_VALUE);
+		storage_configuration.setDefragmentationChunkSizeTreshhold(1);
+		storage_configuration.setChunkRecyclingTreshhold(Long.MAX_VALUE);
+		storage_configuration.createFiles();
+		storage = new Storage(storage_configuration);
+		Random random = new Random(0x5EED);
+		flake_list = new ArrayList<>(NUMBER_OF_FLAKES);
+		for(int round=0;round<NUMBER_OF_ROUNDS;round++) {
+			while( flake_list.size() < NUMBER_OF_FLAKES ) {
+				IFlake flake = storage.createFlake();
+				flake.expandAtEnd(1 + random.nextInt(MAXIMUM_FLAKE_LENGTH));
+				flake_list.add(flake);
+			}
+			if( round == NUMBER_OF_ROUNDS - 1 ) {
+				break;
+			}
+			for(int a=0;a<NUMBER_OF_FLAKES/2;a++) {
+				flake_list.remove(random.nextInt(flake_list.size())).delete();
+			}
+			// the recycling thread clears the deleted chunks once per second
+			Thread.sleep(1_500);
+		}
+		long number_of_chunks = 0;
+		for( IFlake flake : flake_list ) {
+			number_of_chunks += flake.getNumberOfChunks();
+		}
+		System.out.println(
+			allocation_policy.name() + ": chunks per flake: " + ( (double)number_of_chunks / flake_list.size() )
+			+ " | allocated space: " + storage.getAllocatedSpace()
+			+ " | available chunks: " + storage.getNumberOfFreeChunks()
+		);
+		buffer = ByteBuffer.allocateDirect(65536);
+	}
+
+
+	/**
+	 * <p></p>
+	 */
+	@TearDown(Level.Trial) public void tearDown() throws IOException {
+		storage.close();
+		for( File file : directory.listFiles() ) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+
+	/**
+	 * <p>reads all flakes which remain after the churn</p>
+	 */
+	@Benchmark public long readAfterChurn() throws IOException {
+		long read_in_bytes = 0;
+		for( IFlake flake : flake_list ) {
+			try( FlakeInputStream input_stream = flake.getFlakeInputStream() ) {
+				while( !input_stream.getDataPointer().isEOF() ) {
+					buffer.clear();
+					read_in_bytes += input_stream.read(buffer);
+				}
+			}
+		}
+		return read_in_bytes;
+	}
+
+}
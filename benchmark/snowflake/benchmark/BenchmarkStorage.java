@@ -0,0 +1,106 @@
+package snowflake.benchmark;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.function.Consumer;
+
+import snowflake.api.IFlake;
+import snowflake.core.Flake;
+import snowflake.core.storage.Storage;
+import snowflake.core.storage.StorageConfiguration;
+
+
+/**
+ * <p>a storage in a temporary directory, which is deleted on {@link #close()}</p>
+ * <p>
+ * 		The configuration is generated with the defaults of {@link StorageConfiguration}, except that the
+ * 		defragmentation is disabled, so that it does not move chunks while a benchmark measures them. Benchmarks may
+ * 		change further settings before the storage is created.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+final class BenchmarkStorage implements Closeable {
+
+
+	/**
+	 * <p></p>
+	 */
+	private final File directory;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final Storage storage;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param name the prefix of the name of the temporary directory
+	 * @param configurator changes the generated configuration before the storage is created - may be null
+	 */
+	BenchmarkStorage(String name, Consumer<StorageConfiguration> configurator) throws IOException {
+		directory = Files.createTempDirectory(name).toFile();
+		StorageConfiguration storage_configuration = new StorageConfiguration(
+			new File(directory, "storage.configuration")
+		);
+		storage_configuration.setDataFilePath(new File(directory, "storage.data").getAbsolutePath());
+		storage_configuration.setChunkTableFilePath(new File(directory, "chunk.table").getAbsolutePath());
+		storage_configuration.setDefragmentationChunkCountTreshhold(Integer.MAX_VALUE);
+		storage_configuration.setDefragmentationChunkSizeTreshhold(1);
+		if( configurator != null ) {
+			configurator.accept(storage_configuration);
+		}
+		storage_configuration.createFiles();
+		storage = new Storage(storage_configuration);
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @return the storage
+	 */
+	Storage getStorage() {
+		return storage;
+	}
+
+
+	/**
+	 * <p>creates a flake of chunks of chunk_length bytes - a second flake grows alternately with it, so that no two
+	 * chunks of the returned flake are neighbours</p>
+	 *
+	 * @param flake_length the length of the flake
+	 * @param chunk_length the length of every chunk but the last one
+	 * @return the flake
+	 */
+	Flake createFragmentedFlake(long flake_length, long chunk_length) {
+		IFlake flake = storage.createFlake();
+		IFlake filler_flake = storage.createFlake();
+		while( flake.getLength() < flake_length ) {
+			flake.expandAtEnd(Math.min(chunk_length, flake_length - flake.getLength()));
+			filler_flake.expandAtEnd(1);
+		}
+		// cast is okay, because the storage only creates instances of Flake
+		return (Flake)flake;
+	}
+
+
+	/* (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override public void close() throws IOException {
+		storage.close();
+		for( File file : directory.listFiles() ) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+}
@@ -0,0 +1,227 @@
+package snowflake.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import snowflake.api.DataPointer;
+import snowflake.api.IFlake;
+import snowflake.core.Flake;
+import snowflake.core.FlakeInputStream;
+import snowflake.core.FlakeOutputStream;
+import snowflake.core.storage.Storage;
+import snowflake.core.storage.StorageConfiguration;
+
+
+/**
+ * <p>compares the positional {@link snowflake.core.Channel channel} with the former path, which staged every read
+ * and write in a freshly allocated byte[] and used RandomAccessFile.seek() + read()/write() for every chunk</p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChannelBenchmark {
+
+
+	/**
+	 * <p>the length of the flake which is read and written</p>
+	 */
+	private final static long FLAKE_LENGTH = 16 * 1024 * 1024;
+
+
+	/**
+	 * <p></p>
+	 */
+	@Param({"8192", "65536", "1048576"})
+	public int buffer_size;
+
+
+	/**
+	 * <p></p>
+	 */
+	@Param({"true", "false"})
+	public boolean direct_buffer;
+
+
+	/**
+	 * <p>the length of the chunks the flake is made of</p>
+	 */
+	@Param({"65536", "16777216"})
+	public long chunk_length;
+
+
+	/**
+	 * <p></p>
+	 */
+	private File directory;
+
+
+	/**
+	 * <p></p>
+	 */
+	private Storage storage;
+
+
+	/**
+	 * <p></p>
+	 */
+	private Flake flake;
+
+
+	/**
+	 * <p></p>
+	 */
+	private RandomAccessFile staging_file;
+
+
+	/**
+	 * <p></p>
+	 */
+	private ByteBuffer buffer;
+
+
+	/**
+	 * <p></p>
+	 */
+	@Setup(Level.Trial) public void setUp() throws IOException {
+		directory = Files.createTempDirectory("snowflake_channel_benchmark").toFile();
+		StorageConfiguration storage_configuration = new StorageConfiguration(
+			new File(directory, "storage.configuration")
+		);
+		storage_configuration.setDataFilePath(new File(directory, "storage.data").getAbsolutePath());
+		storage_configuration.setChunkTableFilePath(new File(directory, "chunk.table").getAbsolutePath());
+		storage_configuration.createFiles();
+		storage = new Storage(storage_configuration);
+		// two flakes which grow alternately, so that the chunks of the measured flake are not neighbours
+		IFlake measured_flake = storage.createFlake();
+		IFlake filler_flake = storage.createFlake();
+		while( measured_flake.getLength() < FLAKE_LENGTH ) {
+			measured_flake.expandAtEnd(Math.min(chunk_length, FLAKE_LENGTH - measured_flake.getLength()));
+			filler_flake.expandAtEnd(1);
+		}
+		flake = (Flake)measured_flake;
+		staging_file = new RandomAccessFile(storage_configuration.getDataFilePath(), "rw");
+		buffer = direct_buffer ? ByteBuffer.allocateDirect(buffer_size) : ByteBuffer.allocate(buffer_size);
+	}
+
+
+	/**
+	 * <p></p>
+	 */
+	@TearDown(Level.Trial) public void tearDown() throws IOException {
+		staging_file.close();
+		storage.close();
+		for( File file : directory.listFiles() ) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+
+	/**
+	 * <p>reads the whole flake through the positional channel</p>
+	 */
+	@Benchmark public long readChannel() throws IOException {
+		long read_in_bytes = 0;
+		try( FlakeInputStream input_stream = flake.getFlakeInputStream() ) {
+			while( !input_stream.getDataPointer().isEOF() ) {
+				buffer.clear();
+				read_in_bytes += input_stream.read(buffer);
+			}
+		}
+		return read_in_bytes;
+	}
+
+
+	/**
+	 * <p>writes the whole flake through the positional channel</p>
+	 */
+	@Benchmark public long writeChannel() throws IOException {
+		long written_bytes = 0;
+		try( FlakeOutputStream output_stream = flake.getFlakeOutputStream() ) {
+			while( output_stream.getDataPointer().getRemainingBytes() >= buffer_size ) {
+				buffer.clear();
+				written_bytes += output_stream.write(buffer);
+			}
+		}
+		return written_bytes;
+	}
+
+
+	/**
+	 * <p>reads the whole flake with the former byte[]-staging path</p>
+	 */
+	@Benchmark public long readStaging() throws IOException {
+		DataPointer data_pointer = new DataPointer(flake, 0);
+		long read_in_bytes = 0;
+		while( !data_pointer.isEOF() ) {
+			buffer.clear();
+			byte[] byte_array_buffer = new byte[buffer.remaining()];
+			// cast is okay, because the minimum is smaller than or equal to byte_array_buffer.length
+			int remaining_bytes = (int)Math.min(byte_array_buffer.length, data_pointer.getRemainingBytes());
+			int advance_in_buffer;
+			do {
+				staging_file.seek(data_pointer.getPositionInStorage());
+				advance_in_buffer = (int)Math.min(remaining_bytes, data_pointer.getRemainingBytesInChunk());
+				staging_file.readFully(byte_array_buffer, byte_array_buffer.length - remaining_bytes, advance_in_buffer);
+				remaining_bytes -= advance_in_buffer;
+				data_pointer.changePosition(advance_in_buffer);
+				read_in_bytes += advance_in_buffer;
+			}
+			while( remaining_bytes != 0 );
+			buffer.put(byte_array_buffer);
+		}
+		return read_in_bytes;
+	}
+
+
+	/**
+	 * <p>writes the whole flake with the former byte[]-staging path</p>
+	 */
+	@Benchmark public long writeStaging() throws IOException {
+		DataPointer data_pointer = new DataPointer(flake, 0);
+		long written_bytes = 0;
+		while( data_pointer.getRemainingBytes() >= buffer_size ) {
+			buffer.clear();
+			byte[] byte_array_buffer = new byte[buffer.remaining()];
+			buffer.get(byte_array_buffer);
+			int remaining_bytes = byte_array_buffer.length;
+			int advance_in_buffer;
+			do {
+				staging_file.seek(data_pointer.getPositionInStorage());
+				advance_in_buffer = (int)Math.min(remaining_bytes, data_pointer.getRemainingBytesInChunk());
+				staging_file.write(byte_array_buffer, byte_array_buffer.length - remaining_bytes, advance_in_buffer);
+				remaining_bytes -= advance_in_buffer;
+				data_pointer.changePosition(advance_in_buffer);
+				written_bytes += advance_in_buffer;
+			}
+			while( remaining_bytes != 0 );
+		}
+		return written_bytes;
+	}
+
+}
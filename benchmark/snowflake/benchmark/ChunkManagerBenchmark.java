@@ -0,0 +1,99 @@
+package snowflake.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import snowflake.core.Chunk;
+import snowflake.core.manager.ChunkManager;
+
+
+/**
+ * <p>measures {@link ChunkManager#allocateSpace(long)} - the allocated chunks are handed back as available chunks
+ * right away, so that the data file does not grow during the measurement</p>
+ * <p>
+ * 		Requests of up to a quarter of the allocation arena size are served by the arenas, larger requests by the
+ * 		index of the available chunks.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkManagerBenchmark {
+
+
+	/**
+	 * <p>the number of bytes which are available before the measurement</p>
+	 */
+	private final static long AVAILABLE_SPACE = 64 * 1024 * 1024;
+
+
+	/**
+	 * <p></p>
+	 */
+	@Param({"512", "65536", "4194304"})
+	public long number_of_bytes;
+
+
+	/**
+	 * <p></p>
+	 */
+	private BenchmarkStorage benchmark_storage;
+
+
+	/**
+	 * <p></p>
+	 */
+	private ChunkManager chunk_manager;
+
+
+	/**
+	 * <p></p>
+	 */
+	@Setup(Level.Trial) public void setUp() throws IOException {
+		benchmark_storage = new BenchmarkStorage("snowflake_chunk_manager_benchmark", null);
+		chunk_manager = benchmark_storage.getStorage().getChunkManager();
+		// the data file grows once, so that the measurement does not include its growth
+		chunk_manager.addAvailableChunks(new ArrayList<>(chunk_manager.allocateSpace(AVAILABLE_SPACE)));
+	}
+
+
+	/**
+	 * <p></p>
+	 */
+	@TearDown(Level.Trial) public void tearDown() throws IOException {
+		benchmark_storage.close();
+	}
+
+
+	/**
+	 * <p>allocates number_of_bytes bytes and makes them available again</p>
+	 */
+	@Benchmark public ArrayList<Chunk> allocateSpace() {
+		ArrayList<Chunk> chunk_list = new ArrayList<>(chunk_manager.allocateSpace(number_of_bytes));
+		chunk_manager.addAvailableChunks(chunk_list);
+		return chunk_list;
+	}
+
+}
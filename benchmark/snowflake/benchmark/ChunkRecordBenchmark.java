@@ -0,0 +1,182 @@
+package snowflake.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import j3l.util.TransformValue2;
+import snowflake.core.ChunkData;
+import snowflake.core.ChunkRecord;
+import snowflake.core.ChunkUtility;
+
+
+/**
+ * <p>measures the encoding and decoding of the entries of the chunk table - every invocation handles
+ * {@link #NUMBER_OF_RECORDS} entries</p>
+ * <p>
+ * 		{@link ChunkRecord} is the codec of the current format, {@link ChunkUtility} decodes the entries of the legacy
+ * 		format while a chunk table is converted.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkRecordBenchmark {
+
+
+	/**
+	 * <p></p>
+	 */
+	private final static int NUMBER_OF_RECORDS = 4096;
+
+
+	/**
+	 * <p></p>
+	 */
+	private ChunkData[] chunk_data_array;
+
+
+	/**
+	 * <p>the encoded {@link #chunk_data_array}</p>
+	 */
+	private ByteBuffer record_buffer;
+
+
+	/**
+	 * <p>the destination of {@link #encode()}</p>
+	 */
+	private ByteBuffer output_buffer;
+
+
+	/**
+	 * <p>the {@link #chunk_data_array} in the legacy format</p>
+	 */
+	private byte[][] legacy_record_array;
+
+
+	/**
+	 * <p></p>
+	 */
+	private byte[] long_buffer;
+
+
+	/**
+	 * <p></p>
+	 */
+	private byte[] int_buffer;
+
+
+	/**
+	 * <p></p>
+	 */
+	private CRC32 checksum;
+
+
+	/**
+	 * <p></p>
+	 */
+	@Setup(Level.Trial) public void setUp() {
+		Random random = new Random(0x5EED);
+		chunk_data_array = new ChunkData[ ChunkRecordBenchmark.NUMBER_OF_RECORDS ];
+		record_buffer = ByteBuffer.allocateDirect(ChunkRecordBenchmark.NUMBER_OF_RECORDS * ChunkRecord.RECORD_LENGTH);
+		output_buffer = ByteBuffer.allocateDirect(ChunkRecordBenchmark.NUMBER_OF_RECORDS * ChunkRecord.RECORD_LENGTH);
+		legacy_record_array = new byte[ ChunkRecordBenchmark.NUMBER_OF_RECORDS ][];
+		long_buffer = new byte[8];
+		int_buffer = new byte[4];
+		checksum = new CRC32();
+		for(int a=0;a<chunk_data_array.length;a++) {
+			chunk_data_array[a] = new ChunkData(
+				random.nextLong() & Long.MAX_VALUE,
+				1 + random.nextInt(Integer.MAX_VALUE),
+				random.nextLong() & Long.MAX_VALUE,
+				random.nextInt(Integer.MAX_VALUE),
+				(byte)random.nextInt(4)
+			);
+			ChunkRecord.put(record_buffer, a * ChunkRecord.RECORD_LENGTH, chunk_data_array[a]);
+			legacy_record_array[a] = ChunkRecordBenchmark.toLegacyRecord(
+				chunk_data_array[a], long_buffer, int_buffer, checksum
+			);
+		}
+	}
+
+
+	/**
+	 * <p>encodes chunk_data in the legacy format: the fields followed by the crc32 checksum of them</p>
+	 *
+	 * @param chunk_data the chunk data
+	 * @param long_buffer a scratch buffer of 8 bytes
+	 * @param int_buffer a scratch buffer of 4 bytes
+	 * @param checksum a scratch checksum, which is reset
+	 * @return the entry
+	 */
+	private static byte[] toLegacyRecord(ChunkData chunk_data, byte[] long_buffer, byte[] int_buffer, 
+			CRC32 checksum) {
+		byte[] legacy_record = new byte[ ChunkUtility.BINARY_CHUNK_SIZE ];
+		System.arraycopy(TransformValue2.toByteArray(chunk_data.getStartAddress(), long_buffer), 0, legacy_record, 0, 8);
+		System.arraycopy(TransformValue2.toByteArray(chunk_data.getChunkLength(), long_buffer), 0, legacy_record, 8, 8);
+		System.arraycopy(
+			TransformValue2.toByteArray(chunk_data.getFlakeIdentification(), long_buffer), 0, legacy_record, 16, 8
+		);
+		System.arraycopy(TransformValue2.toByteArray(chunk_data.getIndexInFlake(), int_buffer), 0, legacy_record, 24, 4);
+		legacy_record[28] = chunk_data.getFlagVector();
+		checksum.reset();
+		checksum.update(legacy_record, 0, 29);
+		// cast is necessary, because the actual checksum returned is 32 bit integer
+		System.arraycopy(TransformValue2.toByteArray((int)checksum.getValue(), int_buffer), 0, legacy_record, 29, 4);
+		return legacy_record;
+	}
+
+
+	/**
+	 * <p>encodes every chunk data in the current format</p>
+	 */
+	@Benchmark public ByteBuffer encode() {
+		for(int a=0;a<chunk_data_array.length;a++) {
+			ChunkRecord.put(output_buffer, a * ChunkRecord.RECORD_LENGTH, chunk_data_array[a]);
+		}
+		return output_buffer;
+	}
+
+
+	/**
+	 * <p>decodes every entry in the current format</p>
+	 */
+	@Benchmark public void decode(Blackhole blackhole) {
+		for(int a=0;a<ChunkRecordBenchmark.NUMBER_OF_RECORDS;a++) {
+			blackhole.consume(ChunkRecord.get(record_buffer, a * ChunkRecord.RECORD_LENGTH));
+		}
+	}
+
+
+	/**
+	 * <p>decodes every entry in the legacy format with reused scratch buffers, like the conversion of a chunk table
+	 * does</p>
+	 */
+	@Benchmark public void decodeLegacy(Blackhole blackhole) {
+		for( byte[] legacy_record : legacy_record_array ) {
+			blackhole.consume(ChunkUtility.getChunkData(legacy_record, long_buffer, int_buffer, checksum));
+		}
+	}
+
+}
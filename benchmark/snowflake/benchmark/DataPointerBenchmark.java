@@ -0,0 +1,143 @@
+package snowflake.benchmark;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import snowflake.api.DataPointer;
+
+
+/**
+ * <p>measures the positioning of a {@link DataPointer} followed by the resolution of its position in the storage on
+ * a flake of {@link #FLAKE_LENGTH} bytes</p>
+ * <p>
+ * 		The fragmentation is set by the length of the chunks the flake is made of, so it decides how many chunks the
+ * 		resolution has to search.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataPointerBenchmark {
+
+
+	/**
+	 * <p></p>
+	 */
+	private final static long FLAKE_LENGTH = 16 * 1024 * 1024;
+
+
+	/**
+	 * <p>the number of precomputed random positions - a power of two</p>
+	 */
+	private final static int NUMBER_OF_POSITIONS = 4096;
+
+
+	/**
+	 * <p>the distance {@link #changePosition()} moves the data pointer</p>
+	 */
+	private final static long STEP = 4096;
+
+
+	/**
+	 * <p>the length of the chunks the flake is made of</p>
+	 */
+	@Param({"4096", "65536", "16777216"})
+	public long chunk_length;
+
+
+	/**
+	 * <p></p>
+	 */
+	private BenchmarkStorage benchmark_storage;
+
+
+	/**
+	 * <p></p>
+	 */
+	private DataPointer data_pointer;
+
+
+	/**
+	 * <p></p>
+	 */
+	private long[] position_array;
+
+
+	/**
+	 * <p></p>
+	 */
+	private int position_index;
+
+
+	/**
+	 * <p></p>
+	 */
+	@Setup(Level.Trial) public void setUp() throws IOException {
+		benchmark_storage = new BenchmarkStorage("snowflake_data_pointer_benchmark", null);
+		data_pointer = new DataPointer(
+			benchmark_storage.createFragmentedFlake(DataPointerBenchmark.FLAKE_LENGTH, chunk_length), 0
+		);
+		Random random = new Random(0x5EED);
+		position_array = new long[ DataPointerBenchmark.NUMBER_OF_POSITIONS ];
+		for(int a=0;a<position_array.length;a++) {
+			// cast is okay, because the flake is smaller than Integer.MAX_VALUE
+			position_array[a] = random.nextInt((int)DataPointerBenchmark.FLAKE_LENGTH);
+		}
+		position_index = 0;
+	}
+
+
+	/**
+	 * <p></p>
+	 */
+	@TearDown(Level.Trial) public void tearDown() throws IOException {
+		benchmark_storage.close();
+	}
+
+
+	/**
+	 * <p>moves the data pointer to a random position</p>
+	 */
+	@Benchmark public long setPosition() {
+		position_index = ( position_index + 1 ) & ( DataPointerBenchmark.NUMBER_OF_POSITIONS - 1 );
+		data_pointer.setPosition(position_array[position_index]);
+		return data_pointer.getPositionInStorage();
+	}
+
+
+	/**
+	 * <p>moves the data pointer forward and wraps around at the end of the flake</p>
+	 */
+	@Benchmark public long changePosition() {
+		if( data_pointer.getRemainingBytes() <= DataPointerBenchmark.STEP ) {
+			data_pointer.setPosition(0);
+		}
+		else {
+			data_pointer.changePosition(DataPointerBenchmark.STEP);
+		}
+		return data_pointer.getPositionInStorage();
+	}
+
+}
@@ -0,0 +1,95 @@
+package snowflake.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import snowflake.core.Flake;
+
+
+/**
+ * <p>measures {@link Flake#expandAtEnd(long)} followed by {@link Flake#cutFromEnd(long)}</p>
+ * <p>
+ * 		The cut chunks are recycled in the background, so the space they free is not always available to the next
+ * 		expansion and the data file grows. The measurement runs in fixed batches of {@link #BATCH_SIZE} operations
+ * 		instead of fixed time to bound this growth.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, batchSize = FlakeLengthBenchmark.BATCH_SIZE)
+@Measurement(iterations = 5, batchSize = FlakeLengthBenchmark.BATCH_SIZE)
+@Fork(1)
+public class FlakeLengthBenchmark {
+
+
+	/**
+	 * <p>the number of operations per iteration</p>
+	 */
+	final static int BATCH_SIZE = 1000;
+
+
+	/**
+	 * <p></p>
+	 */
+	@Param({"512", "4096", "65536"})
+	public long number_of_bytes;
+
+
+	/**
+	 * <p></p>
+	 */
+	private BenchmarkStorage benchmark_storage;
+
+
+	/**
+	 * <p></p>
+	 */
+	private Flake flake;
+
+
+	/**
+	 * <p></p>
+	 */
+	@Setup(Level.Trial) public void setUp() throws IOException {
+		benchmark_storage = new BenchmarkStorage("snowflake_flake_length_benchmark", null);
+		flake = benchmark_storage.createFragmentedFlake(number_of_bytes, number_of_bytes);
+	}
+
+
+	/**
+	 * <p></p>
+	 */
+	@TearDown(Level.Trial) public void tearDown() throws IOException {
+		benchmark_storage.close();
+	}
+
+
+	/**
+	 * <p>expands the flake by number_of_bytes bytes and cuts them off again</p>
+	 */
+	@Benchmark public long expandAndCut() {
+		flake.expandAtEnd(number_of_bytes);
+		flake.cutFromEnd(number_of_bytes);
+		return flake.getLength();
+	}
+
+}
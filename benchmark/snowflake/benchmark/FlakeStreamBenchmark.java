@@ -0,0 +1,184 @@
+package snowflake.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import snowflake.core.Flake;
+import snowflake.core.FlakeInputStream;
+import snowflake.core.FlakeOutputStream;
+
+
+/**
+ * <p>measures the sequential and random throughput of the {@link FlakeInputStream} and the {@link FlakeOutputStream}
+ * - every invocation transfers the whole flake of {@link #FLAKE_LENGTH} bytes</p>
+ * <p>
+ * 		The fragmentation is set by the length of the chunks the flake is made of: 16 MiB chunks make a contiguous
+ * 		flake, 64 KiB chunks a flake of 256 chunks. The random order of the blocks is the same in every run.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlakeStreamBenchmark {
+
+
+	/**
+	 * <p>the length of the flake which is read and written</p>
+	 */
+	private final static long FLAKE_LENGTH = 16 * 1024 * 1024;
+
+
+	/**
+	 * <p></p>
+	 */
+	@Param({"4096", "65536", "1048576"})
+	public int buffer_size;
+
+
+	/**
+	 * <p>the length of the chunks the flake is made of</p>
+	 */
+	@Param({"65536", "1048576", "16777216"})
+	public long chunk_length;
+
+
+	/**
+	 * <p></p>
+	 */
+	private BenchmarkStorage benchmark_storage;
+
+
+	/**
+	 * <p></p>
+	 */
+	private Flake flake;
+
+
+	/**
+	 * <p></p>
+	 */
+	private ByteBuffer buffer;
+
+
+	/**
+	 * <p>the positions of all blocks of buffer_size bytes in a random order</p>
+	 */
+	private long[] random_position_array;
+
+
+	/**
+	 * <p></p>
+	 */
+	@Setup(Level.Trial) public void setUp() throws IOException {
+		benchmark_storage = new BenchmarkStorage("snowflake_flake_stream_benchmark", null);
+		flake = benchmark_storage.createFragmentedFlake(FLAKE_LENGTH, chunk_length);
+		buffer = ByteBuffer.allocateDirect(buffer_size);
+		// cast is okay, because the flake consists of at most 4096 blocks
+		random_position_array = new long[ (int)(FLAKE_LENGTH / buffer_size) ];
+		for(int a=0;a<random_position_array.length;a++) {
+			random_position_array[a] = (long)a * buffer_size;
+		}
+		Random random = new Random(0x5EED);
+		long position;
+		for(int a=random_position_array.length-1;a>0;a--) {
+			int b = random.nextInt(a + 1);
+			position = random_position_array[a];
+			random_position_array[a] = random_position_array[b];
+			random_position_array[b] = position;
+		}
+	}
+
+
+	/**
+	 * <p></p>
+	 */
+	@TearDown(Level.Trial) public void tearDown() throws IOException {
+		benchmark_storage.close();
+	}
+
+
+	/**
+	 * <p>reads the whole flake from its start to its end</p>
+	 */
+	@Benchmark public long sequentialRead() throws IOException {
+		long read_in_bytes = 0;
+		try( FlakeInputStream input_stream = flake.getFlakeInputStream() ) {
+			while( !input_stream.getDataPointer().isEOF() ) {
+				buffer.clear();
+				read_in_bytes += input_stream.read(buffer);
+			}
+		}
+		return read_in_bytes;
+	}
+
+
+	/**
+	 * <p>reads every block of the flake in a random order</p>
+	 */
+	@Benchmark public long randomRead() throws IOException {
+		long read_in_bytes = 0;
+		try( FlakeInputStream input_stream = flake.getFlakeInputStream() ) {
+			for( long position : random_position_array ) {
+				input_stream.getDataPointer().setPosition(position);
+				buffer.clear();
+				read_in_bytes += input_stream.read(buffer);
+			}
+		}
+		return read_in_bytes;
+	}
+
+
+	/**
+	 * <p>overwrites the whole flake from its start to its end</p>
+	 */
+	@Benchmark public long sequentialWrite() throws IOException {
+		long written_bytes = 0;
+		try( FlakeOutputStream output_stream = flake.getFlakeOutputStream() ) {
+			while( output_stream.getDataPointer().getRemainingBytes() >= buffer_size ) {
+				buffer.clear();
+				written_bytes += output_stream.write(buffer);
+			}
+		}
+		return written_bytes;
+	}
+
+
+	/**
+	 * <p>overwrites every block of the flake in a random order</p>
+	 */
+	@Benchmark public long randomWrite() throws IOException {
+		long written_bytes = 0;
+		try( FlakeOutputStream output_stream = flake.getFlakeOutputStream() ) {
+			for( long position : random_position_array ) {
+				output_stream.getDataPointer().setPosition(position);
+				buffer.clear();
+				written_bytes += output_stream.write(buffer);
+			}
+		}
+		return written_bytes;
+	}
+
+}
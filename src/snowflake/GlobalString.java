@@ -38,6 +38,12 @@ public enum GlobalString {
 	ChunkCollection("chunk_collection"),
 	ChunkManagerConfiguration("chunk_manager_configuration"),
 	StorageInformation("storage_information"),
+	StorageStatistics("storage_statistics"),
+	MetricRegistry("metric_registry"),
+	ChannelCounters("channel_counters"),
+	LatencyHistogram("latency_histogram"),
+	Gauge("gauge"),
+	Port("port"),
 	AllocateSpace("allocate_space"),
 	FlakeModifier("flake_modifier"),
 	ChunkTableFile("chunk_table_file"),
@@ -100,7 +106,26 @@ public enum GlobalString {
 	BackupFlakeIdentification("backup_flake_identification"),
 	GetFlake("get_flake"),
 	NameLength("name_length"),
-	TypeNameLength("type_name_length");
+	TypeNameLength("type_name_length"),
+	RegionSize("region_size"),
+	ReadMode("read_mode"),
+	InitialCapacity("initial_capacity"),
+	FlakeManagerConfiguration("flake_manager_configuration"),
+	TransferData("transfer_data"),
+	FlakeManager("flake_manager"),
+	AvailableChunkConsumer("available_chunk_consumer"),
+	StreamGrowthPolicy("stream_growth_policy"),
+	MinimumReservation("minimum_reservation"),
+	GrowthRate("growth_rate"),
+	TableDurability("table_durability"),
+	BufferSize("buffer_size"),
+	Parallelism("parallelism"),
+	IndexWordArray("index_word_array"),
+	Task("task"),
+	LoopTimeSpan("loop_time_span"),
+	LayoutEpoch("layout_epoch"),
+	RelocationLock("relocation_lock"),
+	Offset("offset");
 	
 	
 	private final String string;
@@ -12,7 +12,7 @@ import snowflake.filesystem.FileSystem;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.09.29_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public final class SnowFlake implements AutoCloseable {
@@ -91,6 +91,17 @@ public final class SnowFlake implements AutoCloseable {
 	}
 	
 	
+	/**
+	 * <p>compacts the data file - see {@link Storage#compact(long)}</p>
+	 *
+	 * @param io_budget the maximum number of bytes which will be copied
+	 * @return the number of bytes the data file has been truncated by
+	 */
+	public long compact(long io_budget) throws IOException {
+		return storage.compact(io_budget);
+	}
+	
+	
 	/* (non-Javadoc)
 	 * @see java.lang.AutoCloseable#close()
 	 */
@@ -11,7 +11,7 @@ import snowflake.core.IChunk;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.09.30_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public final class DataPointer {	
@@ -59,6 +59,17 @@ public final class DataPointer {
 	}
 	
 	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public Flake getFlake() {
+		return flake;
+	}
+	
+	
 	/**
 	 * <p></p>
 	 *
@@ -13,7 +13,7 @@ import snowflake.core.IChunk;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.07.11_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public interface IFlake extends IStateClosure, IValidate {
@@ -169,6 +169,30 @@ public interface IFlake extends IStateClosure, IValidate {
 	void expandAtEnd(long number_of_bytes);
 	
 	
+	/**
+	 * <p>reserves space at the end of the flake, so that at least number_of_bytes bytes are reserved - the length of
+	 * the flake does not change</p>
+	 * <p>
+	 * 		The space is taken from the available space directly after the last chunk or from a single available chunk
+	 * 		which is large enough - the data file is expanded once, if there is none. Following expansions at the end
+	 * 		use the reserved bytes first. Reserved bytes which have not been used are returned once an output stream
+	 * 		is closed or the flake is changed in any other way.
+	 * </p>
+	 *
+	 * @param number_of_bytes the number of bytes which will be reserved
+	 */
+	void reserveSpace(long number_of_bytes);
+	
+	
+	/**
+	 * <p>joins all runs of consecutive chunks which also follow each other in the data file into single chunks - no
+	 * data is moved</p>
+	 *
+	 * @return the number of chunks the flake consists of less than before
+	 */
+	int coalesceChunks();
+	
+	
 	/**
 	 * <p></p>
 	 *
@@ -7,7 +7,7 @@ import j3l.util.IStateClosure;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.07.11_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public interface IStorageInformation extends IStateClosure {
@@ -117,4 +117,22 @@ public interface IStorageInformation extends IStateClosure {
 	 */
 	double getAverageChunkSize();
 	
+	
+	/**
+	 * <p>the number of bytes at the end of the data file which are free and can be released by truncating it</p>
+	 *
+	 * @param
+	 * @return
+	 */
+	long getReleasableSpace();
+	
+	
+	/**
+	 * <p>the number of bytes the data file has been truncated by since the storage has been opened</p>
+	 *
+	 * @param
+	 * @return
+	 */
+	long getReleasedSpace();
+	
 }
@@ -1,48 +1,133 @@
 package snowflake.core;
 
 import java.io.Closeable;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 import j3l.util.Checker;
 import snowflake.GlobalString;
 import snowflake.StaticMode;
 import snowflake.api.DataPointer;
+import snowflake.core.event.FlakeReadEvent;
+import snowflake.core.event.FlakeWriteEvent;
+import snowflake.core.metrics.ChannelCounters;
 import snowflake.core.storage.IRead;
 import snowflake.core.storage.IWrite;
 
 /**
- * <p></p>
+ * <p>reads and writes the data of flakes with positional I/O directly from and into the buffer of the caller</p>
+ * <p>
+ * 		Every operation resolves the chunks it touches once and issues one positional call per physically contiguous
+ * 		segment instead of one per chunk. The {@link LayoutEpoch} is entered for the duration of the operation.
+ * </p>
  * 
  * @since JDK 1.8
- * @version 2016.09.28_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public final class Channel implements IRead, IWrite, Closeable {
 	
 	
 	/**
-	 * <p></p>
+	 * <p>the data file this channel owns or null, if the {@link #file_channel} is shared with other channels</p>
 	 */
 	private final RandomAccessFile data_file;
 	
 	
+	/**
+	 * <p>the channel of the {@link #data_file} - all operations are positional, so its position is never used</p>
+	 */
+	private final FileChannel file_channel;
+	
+	
+	/**
+	 * <p>the mapping reads are served from or null, if all reads go through the {@link #file_channel}</p>
+	 */
+	private final DataFileMapping data_file_mapping;
+	
+	
+	/**
+	 * <p>the segments of the current operation - a channel is only used by one thread at a time, so the list is
+	 * reused for every operation</p>
+	 */
+	private final SegmentList segment_list;
+	
+	
+	/**
+	 * <p>counts the reads and writes of this channel together with all other channels of the storage</p>
+	 */
+	private final ChannelCounters channel_counters;
+	
+	
+	/**
+	 * <p>is entered while the resolved segments are used, so that replaced chunks are not recycled in the meantime</p>
+	 */
+	private final LayoutEpoch layout_epoch;
+	
+	
 	/**
 	 * <p></p>
 	 *
-	 * @param
-	 * @return
-	 * @throws FileNotFoundException 
+	 * @param data_file the data file
+	 * @param data_file_mapping the mapping of the data file or null, if the data file is not mapped
+	 * @param channel_counters the counters of the reads and writes
+	 * @param layout_epoch the epoch of the layouts of the flakes
 	 */
-	public Channel(RandomAccessFile data_file) {
+	public Channel(RandomAccessFile data_file, DataFileMapping data_file_mapping, ChannelCounters channel_counters,
+			LayoutEpoch layout_epoch) {
 		if( StaticMode.TESTING_MODE ) {
 			this.data_file = Checker.checkForNull(data_file, GlobalString.DataFile.toString());
+			this.channel_counters = Checker.checkForNull(channel_counters, GlobalString.ChannelCounters.toString());
+			this.layout_epoch = Checker.checkForNull(layout_epoch, GlobalString.LayoutEpoch.toString());
 		}
 		else {
 			this.data_file = data_file;
+			this.channel_counters = channel_counters;
+			this.layout_epoch = layout_epoch;
+		}
+		this.data_file_mapping = data_file_mapping;
+		file_channel = this.data_file.getChannel();
+		segment_list = new SegmentList(4);
+	}
+	
+	
+	/**
+	 * <p>creates a channel which uses the shared_file_channel without owning it - closing this channel does not
+	 * close the shared_file_channel</p>
+	 *
+	 * @param shared_file_channel the channel of the data file, which is shared by multiple channels
+	 * @param data_file_mapping the mapping of the data file or null, if the data file is not mapped
+	 * @param channel_counters the counters of the reads and writes
+	 * @param layout_epoch the epoch of the layouts of the flakes
+	 */
+	public Channel(FileChannel shared_file_channel, DataFileMapping data_file_mapping,
+			ChannelCounters channel_counters, LayoutEpoch layout_epoch) {
+		if( StaticMode.TESTING_MODE ) {
+			file_channel = Checker.checkForNull(shared_file_channel, GlobalString.DataFile.toString());
+			this.channel_counters = Checker.checkForNull(channel_counters, GlobalString.ChannelCounters.toString());
+			this.layout_epoch = Checker.checkForNull(layout_epoch, GlobalString.LayoutEpoch.toString());
+		}
+		else {
+			file_channel = shared_file_channel;
+			this.channel_counters = channel_counters;
+			this.layout_epoch = layout_epoch;
 		}
+		this.data_file_mapping = data_file_mapping;
+		data_file = null;
+		segment_list = new SegmentList(4);
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public boolean isShared() {
+		return data_file == null;
 	}
 	
 	
@@ -50,34 +135,41 @@ public final class Channel implements IRead, IWrite, Closeable {
 	 * @see snowflake.core.storage.IWrite#write(snowflake.api.DataPointer, java.nio.ByteBuffer)
 	 */
 	@Override public void write(DataPointer data_pointer, ByteBuffer buffer) throws IOException {
-		if( !data_file.getChannel().isOpen() ) {
+		if( !file_channel.isOpen() ) {
 			throw new IOException("The chanel is not open!");
 		}
-		byte[] byte_array_buffer = new byte[buffer.remaining()];
-		buffer.get(byte_array_buffer);		
-		int remaining_bytes = byte_array_buffer.length;
-		int advance_in_buffer;
-		int remaining_bytes_in_chunk;
-		long actual_remaining_bytes_in_chunk;
-		if( data_pointer.getRemainingBytes() < remaining_bytes ) {
+		int length = buffer.remaining();
+		if( data_pointer.getRemainingBytes() < length ) {
 			throw new IndexOutOfBoundsException("The length must not succeed the number of available bytes in the flake!");
 		}
-		do {
-			data_file.seek(data_pointer.getPositionInStorage());
-			actual_remaining_bytes_in_chunk = data_pointer.getRemainingBytesInChunk();
-			if( actual_remaining_bytes_in_chunk >= Integer.MAX_VALUE ) {
-				remaining_bytes_in_chunk = Integer.MAX_VALUE;
-			}
-			else {
-				// cast to int is okay, because actual_remaining_bytes_in_chunk < Integer.MAX_VALUE
-				remaining_bytes_in_chunk = (int)actual_remaining_bytes_in_chunk;
+		if( length == 0 ) {
+			return;
+		}
+		FlakeWriteEvent flake_write_event = new FlakeWriteEvent();
+		flake_write_event.begin();
+		long start_time = channel_counters.getWriteLatencyHistogram().start();
+		int limit = buffer.limit();
+		long position_in_storage;
+		long entered_epoch = layout_epoch.enter();
+		try {
+			data_pointer.getFlake().resolveSegments(data_pointer.getPositionInFlake(), length, segment_list);
+			for(int a=0,n=segment_list.size();a<n;a++) {
+				position_in_storage = segment_list.getAddress(a);
+				buffer.limit(buffer.position() + segment_list.getLength(a));
+				do {
+					position_in_storage += file_channel.write(buffer, position_in_storage);
+				}
+				while( buffer.hasRemaining() );
 			}
-			advance_in_buffer = Math.min(remaining_bytes, remaining_bytes_in_chunk);
-			data_file.write(byte_array_buffer, byte_array_buffer.length - remaining_bytes, advance_in_buffer);
-			remaining_bytes -= advance_in_buffer;
-			data_pointer.changePosition(advance_in_buffer);
 		}
-		while( remaining_bytes != 0 );
+		finally {
+			layout_epoch.exit(entered_epoch);
+			buffer.limit(limit);
+			channel_counters.getWriteLatencyHistogram().recordSince(start_time);
+		}
+		channel_counters.countWrite(length);
+		flake_write_event.report(data_pointer.getFlake().getIdentification(), length, segment_list.size());
+		data_pointer.changePosition(length);
 	}
 	
 	
@@ -85,49 +177,54 @@ public final class Channel implements IRead, IWrite, Closeable {
 	 * @see snowflake.core.storage.IRead#read(snowflake.api.DataPointer, java.nio.ByteBuffer)
 	 */
 	@Override public int read(DataPointer data_pointer, ByteBuffer buffer) throws IOException {
-		if( !data_file.getChannel().isOpen() ) {
+		if( !file_channel.isOpen() ) {
 			throw new IOException("The chanel is not open!");
 		}
-		byte[] byte_array_buffer = new byte[buffer.remaining()];
-		int remaining_bytes;
-		if( data_pointer.getRemainingBytes() < Integer.MAX_VALUE ) {
-			// cast ok, because data_pointer.getRemainingBytes() < Integer.MAX_VALUE
-			remaining_bytes = Math.min(byte_array_buffer.length, (int)data_pointer.getRemainingBytes());
-		}
-		else {
-			remaining_bytes = Math.min(byte_array_buffer.length, Integer.MAX_VALUE);
-		}
-		if( remaining_bytes == 0 ) {
+		// cast is okay, because the minimum is smaller than or equal to buffer.remaining() (which is int)
+		int length = (int)Math.min(buffer.remaining(), data_pointer.getRemainingBytes());
+		if( length == 0 ) {
 			return 0;
 		}
+		FlakeReadEvent flake_read_event = new FlakeReadEvent();
+		flake_read_event.begin();
+		long start_time = channel_counters.getReadLatencyHistogram().start();
+		int limit = buffer.limit();
 		int read_in_bytes = 0;
 		int current_read_in_bytes;
-		int advance_in_buffer;
-		int remaining_bytes_in_chunk;
-		long actual_remaining_bytes_in_chunk;
-		do {
-			data_file.seek(data_pointer.getPositionInStorage());
-			actual_remaining_bytes_in_chunk = data_pointer.getRemainingBytesInChunk();
-			if( actual_remaining_bytes_in_chunk >= Integer.MAX_VALUE ) {
-				remaining_bytes_in_chunk = Integer.MAX_VALUE;
-			}
-			else {
-				// cast to int is okay, because actual_remaining_bytes_in_chunk < Integer.MAX_VALUE
-				remaining_bytes_in_chunk = (int)actual_remaining_bytes_in_chunk;
+		int segment_length;
+		long position_in_storage;
+		long entered_epoch = layout_epoch.enter();
+		try {
+			data_pointer.getFlake().resolveSegments(data_pointer.getPositionInFlake(), length, segment_list);
+			for(int a=0,n=segment_list.size();a<n;a++) {
+				position_in_storage = segment_list.getAddress(a);
+				segment_length = segment_list.getLength(a);
+				buffer.limit(buffer.position() + segment_length);
+				if( data_file_mapping != null && data_file_mapping.read(position_in_storage, buffer) ) {
+					read_in_bytes += segment_length;
+					continue;
+				}
+				while( buffer.hasRemaining() ) {
+					current_read_in_bytes = file_channel.read(buffer, position_in_storage);
+					if( current_read_in_bytes < 0 ) {
+						channel_counters.countRead(read_in_bytes);
+						flake_read_event.report(data_pointer.getFlake().getIdentification(), read_in_bytes, a + 1);
+						data_pointer.changePosition(read_in_bytes);
+						return read_in_bytes;
+					}
+					position_in_storage += current_read_in_bytes;
+					read_in_bytes += current_read_in_bytes;
+				}
 			}
-			advance_in_buffer = Math.min(remaining_bytes, remaining_bytes_in_chunk);
-			current_read_in_bytes = data_file.read(
-				byte_array_buffer, byte_array_buffer.length - remaining_bytes, advance_in_buffer
-			);
-			if( current_read_in_bytes < 0 ) {
-				return read_in_bytes;
-			}
-			remaining_bytes -= current_read_in_bytes;
-			data_pointer.changePosition(current_read_in_bytes);
-			read_in_bytes += current_read_in_bytes;
 		}
-		while( remaining_bytes != 0 );
-		buffer.put(byte_array_buffer);
+		finally {
+			layout_epoch.exit(entered_epoch);
+			buffer.limit(limit);
+			channel_counters.getReadLatencyHistogram().recordSince(start_time);
+		}
+		channel_counters.countRead(read_in_bytes);
+		flake_read_event.report(data_pointer.getFlake().getIdentification(), read_in_bytes, segment_list.size());
+		data_pointer.changePosition(read_in_bytes);
 		return read_in_bytes;
 	}
 	
@@ -136,6 +233,9 @@ public final class Channel implements IRead, IWrite, Closeable {
 	 * @see java.io.Closeable#close()
 	 */
 	@Override public void close() throws IOException {
+		if( isShared() ) {
+			return;
+		}
 		data_file.close();
 		System.out.println("Channel: close()");
 	}
@@ -27,7 +27,7 @@ import snowflake.core.manager.IChunkMemory;
  * </p>
  * 
  * @since JDK 1.8
- * @version 2016.07.11_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public final class Chunk implements IChunk {
@@ -80,6 +80,13 @@ public final class Chunk implements IChunk {
 	private boolean needs_to_be_cleared;
 	
 	
+	/**
+	 * <p>states if this chunk holds bytes a flake has reserved, but which are not part of its length yet - reserved
+	 * chunks always follow all other chunks of their flake</p>
+	 */
+	private boolean is_reserved;
+	
+	
 	/**
 	 * <p>default initializes {@link #position_in_flake} with -1</p>
 	 * 
@@ -108,6 +115,7 @@ public final class Chunk implements IChunk {
 		position_in_flake = -1;
 		is_valid = true;
 		needs_to_be_cleared = false;
+		is_reserved = false;
 	}
 	
 	
@@ -136,10 +144,12 @@ public final class Chunk implements IChunk {
 	
 	
 	/**
-	 * <p>resets the {@link #position_in_flake} to its default value -1</p>
+	 * <p>resets the {@link #position_in_flake} to its default value -1 - a chunk which is not part of a flake is not
+	 * {@link #is_reserved reserved} either</p>
 	 */
 	public void resetPositionInFlake() {
 		position_in_flake = -1;
+		is_reserved = false;
 	}
 	
 	
@@ -199,6 +209,24 @@ public final class Chunk implements IChunk {
 	}
 	
 	
+	/**
+	 * @return {@link #is_reserved}
+	 */
+	public boolean isReserved() {
+		return is_reserved;
+	}
+	
+	
+	/**
+	 * <p>setter for {@link #is_reserved}</p>
+	 *
+	 * @param is_reserved see {@link #is_reserved}
+	 */
+	public void setReserved(boolean is_reserved) {
+		this.is_reserved = is_reserved;
+	}
+	
+	
 	/**
 	 * <p></p>
 	 *
@@ -1,6 +1,7 @@
 package snowflake.core;
 
-import j3l.util.IBinaryData;
+import java.nio.ByteBuffer;
+
 import j3l.util.Checker;
 import snowflake.GlobalString;
 import snowflake.StaticMode;
@@ -9,10 +10,10 @@ import snowflake.StaticMode;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.07.11_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
-public final class ChunkData implements IBinaryData {
+public final class ChunkData implements IBinaryRecord {
 	
 	
 	/**
@@ -34,7 +35,8 @@ public final class ChunkData implements IBinaryData {
 	
 	
 	/**
-	 * <p></p>
+	 * <p>the chunk table index of the predecessor + 1, if the chunk {@link #isLinked() is linked} - the absolute
+	 * index in the flake otherwise</p>
 	 */
 	private final int index_in_flake;
 	
@@ -126,19 +128,46 @@ public final class ChunkData implements IBinaryData {
 	}
 	
 	
-	/* (non-Javadoc)
-	 * @see snowflake.core.data.IBinaryData#getBinaryData(byte[])
+	/**
+	 * <p>states if the chunk is linked to its predecessor in the flake instead of storing its index in the flake</p>
+	 *
+	 * @return true if the chunk is linked, false if the entry has been written in the older format
+	 */
+	public boolean isLinked() {
+		return ChunkUtility.isLinked(flag_vector);
+	}
+	
+	
+	/**
+	 * <p>states if the chunk holds bytes its flake has reserved, but which are not part of the flake</p>
+	 *
+	 * @return true if the chunk is reserved, false otherwise
+	 */
+	public boolean isReserved() {
+		return ChunkUtility.isReserved(flag_vector);
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the chunk table index of the predecessor in the flake or -1, if the chunk is the first chunk of the
+	 * flake
 	 */
-	@Override public void getBinaryData(byte[] buffer) {
-		ChunkUtility.getBinaryData(this, buffer);
+	public long getPredecessorChunkTableIndex() {
+		if( !isLinked() ) {
+			throw new SecurityException("The chunk data \"" + toString() + "\" is not linked!");
+		}
+		return index_in_flake - 1L;
 	}
 	
 	
 	/* (non-Javadoc)
-	 * @see snowflake.core.data.IBinaryData#getDataLength()
+	 * @see snowflake.core.IBinaryRecord#putRecord(java.nio.ByteBuffer, int)
 	 */
-	@Override public int getDataLength() {
-		return ChunkUtility.BINARY_CHUNK_SIZE;
+	@Override public void putRecord(ByteBuffer buffer, int offset) {
+		ChunkRecord.put(buffer, offset, this);
 	}
 	
 	
@@ -0,0 +1,350 @@
+package snowflake.core;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+
+import j3l.util.Checker;
+import snowflake.GlobalString;
+import snowflake.StaticMode;
+import snowflake.core.manager.ChunkManager;
+
+
+/**
+ * <p>encodes and decodes the entries of the chunk table in the format of version 2</p>
+ * <p>
+ * 		Every entry is {@link #RECORD_LENGTH} bytes long and all fields lie on offsets which are aligned to their size,
+ * 		so that they are read and written with the absolute get and put methods of a ByteBuffer. The table starts with
+ * 		a header of {@link #HEADER_LENGTH} bytes, which contains the {@link #MAGIC_NUMBER}. Neither encoding nor
+ * 		decoding allocates any buffer.
+ * </p>
+ * <p>
+ * 		The checksum of an entry is the CRC32C (Castagnoli) of the bytes in front of it, computed by
+ * 		{@link CRC32C}, which uses the crc32 instructions of the processor where they exist.
+ * </p>
+ * <p>
+ * 		Tables in the format of version 1 (entries of {@link ChunkUtility#BINARY_CHUNK_SIZE} bytes without a header)
+ * 		are converted by the {@link snowflake.core.storage.ChunkTableConverter converter} when the storage is opened.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class ChunkRecord {
+
+
+	/**
+	 * <p></p>
+	 */
+	public final static int RECORD_LENGTH = 40;
+
+
+	/**
+	 * <p>the header occupies the space of one entry, so that all entries stay aligned</p>
+	 */
+	public final static int HEADER_LENGTH = ChunkRecord.RECORD_LENGTH;
+
+
+	/**
+	 * <p>"SNOWCT" followed by the version 2</p>
+	 */
+	public final static long MAGIC_NUMBER = 0x534E_4F57_4354_0002L;
+
+
+	/**
+	 * <p></p>
+	 */
+	public final static byte FORMAT_VERSION = 2;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final static int START_ADDRESS_POSITION = 0;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final static int LENGTH_POSITION = 8;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final static int FLAKE_IDENTIFICATION_POSITION = 16;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final static int INDEX_IN_FLAKE_POSITION = 24;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final static int FLAG_VECTOR_POSITION = 28;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final static int FORMAT_VERSION_POSITION = 29;
+
+
+	/**
+	 * <p>the checksum covers all bytes in front of it</p>
+	 */
+	private final static int CHECKSUM_POSITION = 32;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final static int MAGIC_NUMBER_POSITION = 0;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final static int HEADER_RECORD_LENGTH_POSITION = 8;
+
+
+	/**
+	 * <p>the checksum of the current thread - the entries are decoded by several threads at once</p>
+	 */
+	private final static ThreadLocal<CRC32C> CHECKSUM = ThreadLocal.withInitial(CRC32C::new);
+
+
+	/**
+	 * <p>writes the header of the table at offset</p>
+	 *
+	 * @param buffer the destination
+	 * @param offset the position of the header in buffer
+	 */
+	public static void putHeader(ByteBuffer buffer, int offset) {
+		ChunkRecord.checkBuffer(buffer, offset, ChunkRecord.HEADER_LENGTH);
+		ChunkRecord.clear(buffer, offset, ChunkRecord.HEADER_LENGTH);
+		buffer.putLong(offset + ChunkRecord.MAGIC_NUMBER_POSITION, ChunkRecord.MAGIC_NUMBER);
+		buffer.putInt(offset + ChunkRecord.HEADER_RECORD_LENGTH_POSITION, ChunkRecord.RECORD_LENGTH);
+	}
+
+
+	/**
+	 * <p>checks if there is a header of the format of version 2 at offset</p>
+	 *
+	 * @param buffer the source
+	 * @param offset the position of the header in buffer
+	 * @return true if there is a header, false otherwise
+	 */
+	public static boolean isHeader(ByteBuffer buffer, int offset) {
+		ChunkRecord.checkBuffer(buffer, offset, ChunkRecord.HEADER_LENGTH);
+		return buffer.getLong(offset + ChunkRecord.MAGIC_NUMBER_POSITION) == ChunkRecord.MAGIC_NUMBER
+				&& buffer.getInt(offset + ChunkRecord.HEADER_RECORD_LENGTH_POSITION) == ChunkRecord.RECORD_LENGTH;
+	}
+
+
+	/**
+	 * <p>encodes chunk_data at offset - the {@link ChunkManager#NULL_CHUNK_DATA null chunk data} is encoded as an
+	 * empty entry</p>
+	 *
+	 * @param buffer the destination
+	 * @param offset the position of the entry in buffer
+	 * @param chunk_data the chunk data
+	 */
+	public static void put(ByteBuffer buffer, int offset, ChunkData chunk_data) {
+		if( StaticMode.TESTING_MODE ) {
+			Checker.checkForNull(chunk_data, GlobalString.ChunkData.toString());
+		}
+		ChunkRecord.checkBuffer(buffer, offset, ChunkRecord.RECORD_LENGTH);
+		ChunkRecord.clear(buffer, offset, ChunkRecord.RECORD_LENGTH);
+		if( chunk_data == ChunkManager.NULL_CHUNK_DATA ) {
+			return;
+		}
+		buffer.putLong(offset + ChunkRecord.START_ADDRESS_POSITION, chunk_data.getStartAddress());
+		buffer.putLong(offset + ChunkRecord.LENGTH_POSITION, chunk_data.getChunkLength());
+		buffer.putLong(offset + ChunkRecord.FLAKE_IDENTIFICATION_POSITION, chunk_data.getFlakeIdentification());
+		buffer.putInt(offset + ChunkRecord.INDEX_IN_FLAKE_POSITION, chunk_data.getIndexInFlake());
+		buffer.put(offset + ChunkRecord.FLAG_VECTOR_POSITION, chunk_data.getFlagVector());
+		buffer.put(offset + ChunkRecord.FORMAT_VERSION_POSITION, ChunkRecord.FORMAT_VERSION);
+		buffer.putInt(offset + ChunkRecord.CHECKSUM_POSITION, ChunkRecord.computeChecksum(buffer, offset));
+	}
+
+
+	/**
+	 * <p>checks if the entry at offset is empty</p>
+	 *
+	 * @param buffer the source
+	 * @param offset the position of the entry in buffer
+	 * @return true if all bytes of the entry are equal to 0
+	 */
+	public static boolean isEmpty(ByteBuffer buffer, int offset) {
+		ChunkRecord.checkBuffer(buffer, offset, ChunkRecord.RECORD_LENGTH);
+		for(int a=0;a<ChunkRecord.RECORD_LENGTH;a+=8) {
+			if( buffer.getLong(offset + a) != 0 ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * <p>decodes the entry at offset</p>
+	 *
+	 * @param buffer the source
+	 * @param offset the position of the entry in buffer
+	 * @return the chunk data
+	 * @throws SecurityException if the entry is empty or damaged
+	 */
+	public static ChunkData get(ByteBuffer buffer, int offset) {
+		if( ChunkRecord.isEmpty(buffer, offset) ) {
+			throw new SecurityException("All elements of the buffer are equal to 0!");
+		}
+		ChunkRecord.check(buffer, offset);
+		return new ChunkData(
+			ChunkRecord.getStartAddress(buffer, offset),
+			ChunkRecord.getChunkLength(buffer, offset),
+			ChunkRecord.getFlakeIdentification(buffer, offset),
+			ChunkRecord.getIndexInFlake(buffer, offset),
+			ChunkRecord.getFlagVector(buffer, offset)
+		);
+	}
+
+
+	/**
+	 * <p>checks the format version and the checksum of the entry at offset, so that its fields can be read one by one
+	 * without decoding the whole entry</p>
+	 *
+	 * @param buffer the source
+	 * @param offset the position of the entry in buffer - the entry must not be empty
+	 * @throws SecurityException if the entry is damaged
+	 */
+	public static void check(ByteBuffer buffer, int offset) {
+		ChunkRecord.checkBuffer(buffer, offset, ChunkRecord.RECORD_LENGTH);
+		if( buffer.get(offset + ChunkRecord.FORMAT_VERSION_POSITION) != ChunkRecord.FORMAT_VERSION ) {
+			throw new SecurityException("The entry has not been written in the format of version "
+					+ ChunkRecord.FORMAT_VERSION + "!");
+		}
+		if( buffer.getInt(offset + ChunkRecord.CHECKSUM_POSITION) != ChunkRecord.computeChecksum(buffer, offset) ) {
+			throw new SecurityException("The read-in checksum does not match the calculated checksum!");
+		}
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param buffer the source
+	 * @param offset the position of a {@link #check(ByteBuffer, int) checked} entry in buffer
+	 * @return the start address of the entry
+	 */
+	public static long getStartAddress(ByteBuffer buffer, int offset) {
+		return buffer.getLong(offset + ChunkRecord.START_ADDRESS_POSITION);
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param buffer the source
+	 * @param offset the position of a {@link #check(ByteBuffer, int) checked} entry in buffer
+	 * @return the length of the chunk of the entry
+	 */
+	public static long getChunkLength(ByteBuffer buffer, int offset) {
+		return buffer.getLong(offset + ChunkRecord.LENGTH_POSITION);
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param buffer the source
+	 * @param offset the position of a {@link #check(ByteBuffer, int) checked} entry in buffer
+	 * @return the identification of the flake of the entry
+	 */
+	public static long getFlakeIdentification(ByteBuffer buffer, int offset) {
+		return buffer.getLong(offset + ChunkRecord.FLAKE_IDENTIFICATION_POSITION);
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param buffer the source
+	 * @param offset the position of a {@link #check(ByteBuffer, int) checked} entry in buffer
+	 * @return the index in the flake of the entry - see {@link ChunkData#getIndexInFlake()}
+	 */
+	public static int getIndexInFlake(ByteBuffer buffer, int offset) {
+		return buffer.getInt(offset + ChunkRecord.INDEX_IN_FLAKE_POSITION);
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param buffer the source
+	 * @param offset the position of a {@link #check(ByteBuffer, int) checked} entry in buffer
+	 * @return the flag vector of the entry
+	 */
+	public static byte getFlagVector(ByteBuffer buffer, int offset) {
+		return buffer.get(offset + ChunkRecord.FLAG_VECTOR_POSITION);
+	}
+
+
+	/**
+	 * <p>calculates the CRC32C of the bytes in front of the checksum of the entry at offset - the position and the
+	 * limit of the buffer are restored afterwards</p>
+	 *
+	 * @param buffer the buffer
+	 * @param offset the position of the entry in buffer
+	 * @return the checksum
+	 */
+	private static int computeChecksum(ByteBuffer buffer, int offset) {
+		CRC32C checksum = ChunkRecord.CHECKSUM.get();
+		checksum.reset();
+		if( buffer.hasArray() ) {
+			checksum.update(buffer.array(), buffer.arrayOffset() + offset, ChunkRecord.CHECKSUM_POSITION);
+		}
+		else {
+			int position = buffer.position();
+			int limit = buffer.limit();
+			buffer.limit(offset + ChunkRecord.CHECKSUM_POSITION);
+			buffer.position(offset);
+			checksum.update(buffer);
+			buffer.limit(limit);
+			buffer.position(position);
+		}
+		// cast is okay, because the value of a CRC32C only has 32 bits
+		return (int)checksum.getValue();
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	private static void clear(ByteBuffer buffer, int offset, int length) {
+		for(int a=0;a<length;a+=8) {
+			buffer.putLong(offset + a, 0);
+		}
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	private static void checkBuffer(ByteBuffer buffer, int offset, int length) {
+		if( StaticMode.TESTING_MODE ) {
+			Checker.checkForNull(buffer, GlobalString.Buffer.toString());
+			Checker.checkForBoundaries(offset, 0, buffer.capacity() - length, GlobalString.Offset.toString());
+		}
+	}
+
+}
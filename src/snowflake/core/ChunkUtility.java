@@ -7,15 +7,24 @@ import j3l.util.TransformValue2;
 import j3l.util.Checker;
 import snowflake.GlobalString;
 import snowflake.StaticMode;
-import snowflake.core.manager.ChunkManager;
+import snowflake.api.StorageException;
 import snowflake.core.manager.FlakeManager;
 
 
 /**
  * <p></p>
+ * <p>
+ * 		A chunk of a flake is linked to the chunk table index of the chunk which precedes it in the flake, so that
+ * 		inserting or removing chunks only changes the entries of the chunks directly involved. Entries of older chunk
+ * 		tables store the absolute index in the flake instead and are recognised by the missing {@link #LINKED_FLAG}.
+ * </p>
+ * <p>
+ * 		The entries are written by the {@link ChunkRecord record codec}. The entries of {@link #BINARY_CHUNK_SIZE}
+ * 		bytes decoded here are only read while a chunk table of the format of version 1 is converted.
+ * </p>
  * 
  * @since JDK 1.8
- * @version 2016.07.11_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public final class ChunkUtility {
@@ -63,73 +72,48 @@ public final class ChunkUtility {
 	private final static int CHECKSUM_POSITION = 29;
 	
 	
+	/**
+	 * <p>set in the flag vector, if the chunk needs to be cleared</p>
+	 */
+	private final static byte NEEDS_TO_BE_CLEARED_FLAG = 1;
+	
+	
+	/**
+	 * <p>set in the flag vector, if the index in flake field holds the chunk table index of the predecessor + 1 (0
+	 * for the first chunk of a flake)</p>
+	 */
+	final static byte LINKED_FLAG = 2;
+	
+	
+	/**
+	 * <p>set in the flag vector, if the chunk holds bytes its flake has reserved - these bytes are not part of the
+	 * flake, so the chunk is recycled when the table is loaded</p>
+	 */
+	final static byte RESERVED_FLAG = 4;
+	
+	
 	/**
 	 * <p></p>
 	 *
 	 * @param
 	 * @return
 	 */
-	public static void getBinaryData(ChunkData chunk_data, byte[] buffer) {
-		
-		if( StaticMode.TESTING_MODE ) {
-			Checker.checkForNull(chunk_data, GlobalString.ChunkData.toString());
-			Checker.checkForNull(buffer, GlobalString.Buffer.toString());
-			Checker.checkForBoundaries(
-				buffer.length,
-				ChunkUtility.BINARY_CHUNK_SIZE,
-				ChunkUtility.BINARY_CHUNK_SIZE,
-				GlobalString.BufferLength.toString()
-			);
-		}
-		
-		
-		if( chunk_data == ChunkManager.NULL_CHUNK_DATA ) {
-			for(int a=0;a<buffer.length;a++) {
-				buffer[a] = 0;
-			}
-			return;
-		}
-		
-		
-		CRC32 checksum = new CRC32();
-		byte[] long_buffer = new byte[8];
-		byte[] int_buffer = new byte[4];
-		byte flag_vector = chunk_data.getFlagVector();
-
-		
-		TransformValue2.toByteArray(chunk_data.getStartAddress(), long_buffer);
-		checksum.update(long_buffer);
-		ArrayTool.transferValues(buffer, long_buffer, ChunkUtility.START_ADDRESS_POSITION);
-		
-		TransformValue2.toByteArray(chunk_data.getChunkLength(), long_buffer);
-		checksum.update(long_buffer);
-		ArrayTool.transferValues(buffer, long_buffer, ChunkUtility.LENGTH_POSITION);
-		
-		TransformValue2.toByteArray(chunk_data.getFlakeIdentification(), long_buffer);
-		checksum.update(long_buffer);
-		ArrayTool.transferValues(buffer, long_buffer, ChunkUtility.FLAKE_IDENTIFICATION_POSITION);
-		
-		TransformValue2.toByteArray(chunk_data.getIndexInFlake(), int_buffer);
-		checksum.update(int_buffer);
-		ArrayTool.transferValues(buffer, int_buffer, ChunkUtility.INDEX_IN_FLAKE_POSITION);
-		
-		checksum.update(flag_vector);
-		buffer[ChunkUtility.FLAG_VECTOR_POSITION] = flag_vector;
-		
-		// cast is necessary, because the actual checksum returned is 32 bit integer
-		TransformValue2.toByteArray((int)checksum.getValue(), int_buffer);
-		ArrayTool.transferValues(buffer, int_buffer, ChunkUtility.CHECKSUM_POSITION);
-		
+	public static ChunkData getChunkData(byte[] buffer) {
+		return ChunkUtility.getChunkData(buffer, new byte[8], new byte[4], new CRC32());
 	}
 	
 	
 	/**
-	 * <p></p>
+	 * <p>decodes the entry in buffer with the given scratch buffers - allows loaders to decode many entries without
+	 * allocating new buffers for each of them</p>
 	 *
-	 * @param
-	 * @return
+	 * @param buffer the entry
+	 * @param long_buffer a scratch buffer of 8 bytes
+	 * @param int_buffer a scratch buffer of 4 bytes
+	 * @param checksum a scratch checksum, which is reset
+	 * @return the chunk data
 	 */
-	public static ChunkData getChunkData(byte[] buffer) {
+	public static ChunkData getChunkData(byte[] buffer, byte[] long_buffer, byte[] int_buffer, CRC32 checksum) {
 		
 		if( StaticMode.TESTING_MODE ) {
 			Checker.checkForNull(buffer, GlobalString.Buffer.toString());
@@ -147,10 +131,6 @@ public final class ChunkUtility {
 		}
 		
 		
-		byte[] long_buffer = new byte[8];
-		byte[] int_buffer = new byte[4];
-		
-		CRC32 checksum = new CRC32();
 		int read_in_checksum;
 		long start_address;
 		long length;
@@ -158,25 +138,24 @@ public final class ChunkUtility {
 		int index_in_flake;
 		byte flag_vector;
 		
-
+		
+		// the fields are stored in the order they are added to the checksum
+		checksum.reset();
+		checksum.update(buffer, 0, ChunkUtility.CHECKSUM_POSITION);
+		
 		ArrayTool.transferValues(long_buffer, buffer, 0, ChunkUtility.START_ADDRESS_POSITION, long_buffer.length);
-		checksum.update(long_buffer);
 		start_address = TransformValue2.toLong(long_buffer);	
 		
 		ArrayTool.transferValues(long_buffer, buffer, 0, ChunkUtility.LENGTH_POSITION, long_buffer.length);
-		checksum.update(long_buffer);
 		length = TransformValue2.toLong(long_buffer);	
 		
 		ArrayTool.transferValues(long_buffer, buffer, 0, ChunkUtility.FLAKE_IDENTIFICATION_POSITION, long_buffer.length);
-		checksum.update(long_buffer);
 		flake_identification = TransformValue2.toLong(long_buffer);	
 		
 		ArrayTool.transferValues(int_buffer, buffer, 0, ChunkUtility.INDEX_IN_FLAKE_POSITION, int_buffer.length);
-		checksum.update(int_buffer);
 		index_in_flake = TransformValue2.toInteger(int_buffer);		
 		
 		flag_vector = buffer[ChunkUtility.FLAG_VECTOR_POSITION];
-		checksum.update(flag_vector);
 		
 		ArrayTool.transferValues(int_buffer, buffer, 0, ChunkUtility.CHECKSUM_POSITION, int_buffer.length);
 		read_in_checksum = TransformValue2.toInteger(int_buffer);	
@@ -201,21 +180,30 @@ public final class ChunkUtility {
 		Checker.checkForValidation(chunk, GlobalString.Chunk.toString());
 		
 		long identification = FlakeManager.ROOT_IDENTIFICATION;
-		int index_in_flake = 0;
+		int predecessor_link = 0;
+		byte flag_vector = ChunkUtility.createFlagVector(chunk);
 		
 		
 		if( owner_flake != null ) {
 			identification = owner_flake.getIdentification();
-			index_in_flake = owner_flake.getIndexOfChunk(chunk);
-			if( index_in_flake < 0 ) {
-				throw new IllegalArgumentException("The chunk \"" + chunk.toString() + "\" is not part of the flake\""
-						+ owner_flake.toString() + "\"!");
+			Chunk predecessor_chunk = owner_flake.getPredecessorOfChunk(chunk);
+			if( predecessor_chunk != null ) {
+				if( predecessor_chunk.getChunkTableIndex() >= Integer.MAX_VALUE ) {
+					throw new StorageException("The chunk table index of " + predecessor_chunk.toString() 
+							+ " can not be linked!");
+				}
+				// cast is okay, because the chunk table index is smaller than Integer.MAX_VALUE
+				predecessor_link = (int)predecessor_chunk.getChunkTableIndex() + 1;
+			}
+			flag_vector |= ChunkUtility.LINKED_FLAG;
+			if( chunk.isReserved() ) {
+				flag_vector |= ChunkUtility.RESERVED_FLAG;
 			}
 		}
 		
 		
-		return new ChunkData(chunk.getStartAddress(), chunk.getLength(), identification, index_in_flake, 
-				ChunkUtility.createFlagVector(chunk));
+		return new ChunkData(chunk.getStartAddress(), chunk.getLength(), identification, predecessor_link, 
+				flag_vector);
 		
 	}
 	
@@ -228,7 +216,7 @@ public final class ChunkUtility {
 	 */
 	private static byte createFlagVector(Chunk chunk) {
 		byte flag_vector = 0;
-		flag_vector |= chunk.needsToBeCleared() ? 1 : 0;
+		flag_vector |= chunk.needsToBeCleared() ? ChunkUtility.NEEDS_TO_BE_CLEARED_FLAG : 0;
 		return flag_vector;
 	}
 	
@@ -240,9 +228,31 @@ public final class ChunkUtility {
 	 * @return
 	 */
 	public static void configureChunk(Chunk chunk, byte flag_vector) {
-		if( (flag_vector & 1) == 1 ) {
+		if( (flag_vector & ChunkUtility.NEEDS_TO_BE_CLEARED_FLAG) != 0 ) {
 			chunk.setNeedsToBeCleared(true);
 		}
 	}
 	
+	
+	/**
+	 * <p>states if the flag vector belongs to a chunk which is linked to its predecessor</p>
+	 *
+	 * @param flag_vector the flag vector of an entry
+	 * @return true if the {@link #LINKED_FLAG} is set
+	 */
+	public static boolean isLinked(byte flag_vector) {
+		return (flag_vector & ChunkUtility.LINKED_FLAG) != 0;
+	}
+	
+	
+	/**
+	 * <p>states if the flag vector belongs to a chunk which holds reserved bytes of its flake</p>
+	 *
+	 * @param flag_vector the flag vector of an entry
+	 * @return true if the {@link #RESERVED_FLAG} is set
+	 */
+	public static boolean isReserved(byte flag_vector) {
+		return (flag_vector & ChunkUtility.RESERVED_FLAG) != 0;
+	}
+	
 }
@@ -0,0 +1,190 @@
+package snowflake.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
+
+import j3l.util.Checker;
+import snowflake.GlobalString;
+import snowflake.StaticMode;
+
+
+/**
+ * <p>maps the data file read-only in regions of {@link #region_size} bytes</p>
+ * <p>
+ * 		Only complete regions are mapped: a read-only channel can not map bytes behind the end of the data file, and
+ * 		remapping the incomplete last region would cost one mapping per growth of the data file, while the replaced
+ * 		buffers are only released by the garbage collector. So a region is mapped once the data file has grown across
+ * 		its end, and the bytes behind the last complete region are read through the channel.
+ * </p>
+ * <p>
+ * 		The mapping grows with the data file and shrinks when the data file is truncated. Every change publishes a new
+ * 		array of regions, so that readers never need to lock. A reader which still uses the previous array after a
+ * 		truncation can still reach the truncated range through it, which raises an InternalError (SIGBUS) - the
+ * 		data file may only be truncated by space no reader can resolve an address in anymore.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class DataFileMapping implements Closeable {
+
+
+	/**
+	 * <p></p>
+	 */
+	private final RandomAccessFile data_file;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final FileChannel file_channel;
+
+
+	/**
+	 * <p>the size of every region</p>
+	 */
+	private final int region_size;
+
+
+	/**
+	 * <p>the mapped regions - region n starts at the address n * {@link #region_size}</p>
+	 */
+	private volatile MappedByteBuffer[] region_array;
+
+
+	/**
+	 * <p>the number of mapped bytes - a multiple of the {@link #region_size}</p>
+	 */
+	private volatile long mapped_length;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public DataFileMapping(String data_file_path, int region_size) throws IOException {
+		if( StaticMode.TESTING_MODE ) {
+			Checker.checkForEmptyString(data_file_path, GlobalString.DataFile.toString());
+			this.region_size = Checker.checkForBoundaries(
+				region_size, 1, Integer.MAX_VALUE, GlobalString.RegionSize.toString()
+			);
+		}
+		else {
+			this.region_size = region_size;
+		}
+		data_file = new RandomAccessFile(data_file_path, "r");
+		file_channel = data_file.getChannel();
+		region_array = new MappedByteBuffer[0];
+		mapped_length = 0;
+		map(file_channel.size());
+	}
+
+
+	/**
+	 * <p>maps all complete regions within the first new_length bytes of the data file - does nothing if the data file
+	 * has not grown across the end of a region</p>
+	 *
+	 * @param new_length the new length of the data file
+	 */
+	public synchronized void map(long new_length) throws IOException {
+		long number_of_regions = new_length / region_size;
+		if( number_of_regions * region_size <= mapped_length ) {
+			return;
+		}
+		if( number_of_regions > Integer.MAX_VALUE ) {
+			throw new IOException("Can not map " + new_length + " bytes in regions of " + region_size + " bytes!");
+		}
+		MappedByteBuffer[] current_region_array = region_array;
+		// cast is okay, because number_of_regions is smaller than or equal to Integer.MAX_VALUE
+		MappedByteBuffer[] new_region_array = Arrays.copyOf(current_region_array, (int)number_of_regions);
+		for(int a=current_region_array.length;a<new_region_array.length;a++) {
+			new_region_array[a] = file_channel.map(MapMode.READ_ONLY, (long)a * region_size, region_size);
+		}
+		region_array = new_region_array;
+		mapped_length = number_of_regions * region_size;
+	}
+
+
+	/**
+	 * <p>removes all regions which are not complete within the first new_length bytes of the data file anymore - must
+	 * be called before the data file is truncated</p>
+	 *
+	 * @param new_length the new length of the data file
+	 */
+	public synchronized void truncate(long new_length) {
+		long number_of_regions = new_length / region_size;
+		if( number_of_regions * region_size >= mapped_length ) {
+			return;
+		}
+		// cast is okay, because there are fewer regions than before
+		region_array = Arrays.copyOf(region_array, (int)number_of_regions);
+		mapped_length = number_of_regions * region_size;
+	}
+	
+	
+	/**
+	 * <p>copies the mapped data at address into buffer until the buffer is full</p>
+	 *
+	 * @param address the address in the data file
+	 * @param buffer the destination
+	 * @return true if the data has been copied, false if the data is not mapped (the buffer remains unchanged)
+	 */
+	public boolean read(long address, ByteBuffer buffer) {
+		MappedByteBuffer[] current_region_array = region_array;
+		int length = buffer.remaining();
+		if( length == 0 ) {
+			return true;
+		}
+		long last_region_index = (address + length - 1) / region_size;
+		if( last_region_index >= current_region_array.length ) {
+			return false;
+		}
+		ByteBuffer region_view;
+		int offset_in_region;
+		int advance_in_buffer;
+		long current_address = address;
+		while( buffer.hasRemaining() ) {
+			// casts are okay, because the region index and the offset in the region are both smaller than int
+			region_view = current_region_array[(int)(current_address / region_size)].duplicate();
+			offset_in_region = (int)(current_address % region_size);
+			advance_in_buffer = Math.min(buffer.remaining(), region_view.capacity() - offset_in_region);
+			region_view.limit(offset_in_region + advance_in_buffer);
+			region_view.position(offset_in_region);
+			buffer.put(region_view);
+			current_address += advance_in_buffer;
+		}
+		return true;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public long getMappedLength() {
+		return mapped_length;
+	}
+
+
+	/* (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override public synchronized void close() throws IOException {
+		region_array = new MappedByteBuffer[0];
+		mapped_length = 0;
+		data_file.close();
+	}
+
+}
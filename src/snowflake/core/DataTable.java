@@ -4,24 +4,39 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
-import java.util.ArrayList;
-import java.util.TreeSet;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
-import j3l.util.IBinaryData;
 import j3l.util.Checker;
 import snowflake.GlobalString;
 import snowflake.StaticMode;
 import snowflake.api.StorageException;
+import snowflake.core.metrics.Counter;
+import snowflake.core.metrics.LatencyHistogram;
+import snowflake.core.metrics.MetricRegistry;
+import snowflake.core.storage.TableDurability;
 
 
 /**
  * <p></p>
+ * <p>
+ * 		Unless the table is {@link TableDurability#WriteThrough written through}, added entries are buffered and
+ * 		repeated updates of the same index replace each other. A {@link #flush()} writes the buffered entries ordered
+ * 		by their index with one write per run of consecutive indices.
+ * </p>
+ * <p>
+ * 		The entries are encoded as {@link ChunkRecord records} of the format of version 2 behind the header of the
+ * 		table, which is written when the table file is empty.
+ * </p>
+ * <p>
+ * 		The available indices are kept in an {@link IndexBitmap}, which needs one bit per entry of the table.
+ * </p>
  * 
  * @since JDK 1.8
- * @version 2016.07.11_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
-public final class DataTable<T extends IBinaryData> {
+public final class DataTable<T extends IBinaryRecord> {
 	
 	
 	/**
@@ -33,26 +48,141 @@ public final class DataTable<T extends IBinaryData> {
 	/**
 	 * <p>a list of all available indices</p>
 	 */
-	private final TreeSet<Long> available_index_tree;
+	private final IndexBitmap available_index_bitmap;
+	
+	
+	/**
+	 * <p>the lock of the buffered entries</p>
+	 */
+	private final Object dirty_entry_lock;
+	
+	
+	/**
+	 * <p>the keys of the buffered entries in the order they have been added - the index of an entry in the upper and
+	 * its position in the {@link #dirty_entry_array} in the lower 32 bits, so that sorting the keys sorts the entries
+	 * by their index and keeps the newest entry of an index last</p>
+	 */
+	private long[] dirty_key_array;
+	
+	
+	/**
+	 * <p>the buffered entries - an entry in this array is newer than the one in the {@link #table_file}</p>
+	 */
+	private Object[] dirty_entry_array;
+	
+	
+	/**
+	 * <p>the number of buffered entries - only used while holding the {@link #dirty_entry_lock}</p>
+	 */
+	private int number_of_dirty_entries;
+	
+	
+	/**
+	 * <p></p>
+	 */
+	private final TableDurability table_durability;
+	
+	
+	/**
+	 * <p>the number of buffered entries which causes a flush - an index which is updated twice counts twice</p>
+	 */
+	private final int buffer_size;
+	
+	
+	/**
+	 * <p>the maximum number of entries which are written at once</p>
+	 */
+	private final static int MAXIMUM_RUN_LENGTH = 1024;
+	
+	
+	/**
+	 * <p>the number of entries the table file grows by when no index is available</p>
+	 */
+	private final static int GROWTH_BATCH_SIZE = 4096;
+	
+	
+	/**
+	 * <p>the entries are encoded into this buffer before they are written - only used while the lock of the
+	 * {@link #table_file} is held</p>
+	 */
+	private final ByteBuffer run_buffer;
+	
+	
+	/**
+	 * <p>counts the entries which have been added</p>
+	 */
+	private final Counter update_counter;
+	
+	
+	/**
+	 * <p>counts the writes to the table file</p>
+	 */
+	private final Counter write_counter;
+	
+	
+	/**
+	 * <p></p>
+	 */
+	private final Counter written_byte_counter;
+	
+	
+	/**
+	 * <p>the latencies of {@link #addEntry(TableMember)}</p>
+	 */
+	private final LatencyHistogram update_latency_histogram;
 	
 	
 	/**
 	 * <p></p>
 	 *
-	 * @param
-	 * @return
+	 * @param table_file the file of the table
+	 * @param table_durability states when the entries are written
+	 * @param buffer_size the number of buffered entries which causes a flush
+	 * @param metric_registry the registry of the counters of the table
 	 */
-	public DataTable(File table_file) {
+	public DataTable(File table_file, TableDurability table_durability, int buffer_size,
+			MetricRegistry metric_registry) {
 		if( StaticMode.TESTING_MODE ) {
 			Checker.checkForExistence(table_file, GlobalString.TableFile.toString());
+			Checker.checkForNull(table_durability, GlobalString.TableDurability.toString());
+			Checker.checkForNull(metric_registry, GlobalString.MetricRegistry.toString());
 		}
+		update_counter = metric_registry.getCounter("chunk_table_updates");
+		write_counter = metric_registry.getCounter("chunk_table_writes");
+		written_byte_counter = metric_registry.getCounter("chunk_table_written_bytes");
+		update_latency_histogram = metric_registry.getHistogram("chunk_table_update_latency_nanoseconds");
+		this.table_durability = table_durability;
+		this.buffer_size = Checker.checkForBoundaries(
+			buffer_size, 1, Integer.MAX_VALUE, GlobalString.BufferSize.toString()
+		);
+		dirty_entry_lock = new Object();
+		dirty_key_array = new long[ Math.min(buffer_size, 64) ];
+		dirty_entry_array = new Object[ dirty_key_array.length ];
+		number_of_dirty_entries = 0;
 		try {
 			this.table_file = new RandomAccessFile(table_file, "rw");
 		}
 		catch( FileNotFoundException e ) {
 			throw new StorageException("The " + GlobalString.TableFile.toString() + " could not be found!", e);
 		}
-		available_index_tree = new TreeSet<>();
+		run_buffer = ByteBuffer.allocate(ChunkRecord.RECORD_LENGTH * DataTable.MAXIMUM_RUN_LENGTH);
+		try {
+			if( this.table_file.length() == 0 ) {
+				ChunkRecord.putHeader(run_buffer, 0);
+				this.table_file.write(run_buffer.array(), 0, ChunkRecord.HEADER_LENGTH);
+			}
+			else {
+				this.table_file.readFully(run_buffer.array(), 0, ChunkRecord.HEADER_LENGTH);
+				if( !ChunkRecord.isHeader(run_buffer, 0) ) {
+					throw new StorageException("The " + GlobalString.TableFile.toString() 
+							+ " has not been written in the format of version " + ChunkRecord.FORMAT_VERSION + "!");
+				}
+			}
+		}
+		catch( IOException e ) {
+			throw new StorageException("Can not read the header of the " + GlobalString.TableFile.toString() + "!", e);
+		}
+		available_index_bitmap = new IndexBitmap();
 	}
 	
 	
@@ -67,14 +197,53 @@ public final class DataTable<T extends IBinaryData> {
 		if( table_member == null ) {
 			return;
 		}
-		IBinaryData data = table_member.getBinaryData();
-		byte[] buffer = new byte[data.getDataLength()];
-		data.getBinaryData(buffer);
+		update_counter.increment();
+		long start_time = update_latency_histogram.start();
+		try {
+			putEntry(table_member);
+		}
+		finally {
+			update_latency_histogram.recordSince(start_time);
+		}
+	}
+	
+	
+	/**
+	 * <p>buffers the entry or writes it through according to the {@link TableDurability}</p>
+	 *
+	 * @param table_member the member whose entry is saved
+	 */
+	private void putEntry(TableMember<T> table_member) {
+		T data = table_member.getBinaryData();
+		if( table_durability != TableDurability.WriteThrough ) {
+			boolean is_full;
+			synchronized( dirty_entry_lock ) {
+				if( number_of_dirty_entries == dirty_key_array.length ) {
+					// the buffer may exceed the buffer_size, while another thread flushes it
+					// cast is okay, because the minimum is smaller than or equal to Integer.MAX_VALUE
+					int new_length = (int)Math.min(2L * dirty_key_array.length, Integer.MAX_VALUE);
+					dirty_key_array = Arrays.copyOf(dirty_key_array, new_length);
+					dirty_entry_array = Arrays.copyOf(dirty_entry_array, new_length);
+				}
+				// the index is smaller than 2^31, so it fits into the upper 32 bits
+				dirty_key_array[number_of_dirty_entries] = table_member.getTableIndex() << 32 | number_of_dirty_entries;
+				dirty_entry_array[number_of_dirty_entries] = data;
+				number_of_dirty_entries++;
+				is_full = number_of_dirty_entries >= buffer_size;
+			}
+			if( is_full ) {
+				flush();
+			}
+			return;
+		}
 		try {
 			synchronized( table_file ) {
-				table_file.seek( buffer.length * table_member.getTableIndex() );
-				table_file.write(buffer);
+				data.putRecord(run_buffer, 0);
+				table_file.seek(DataTable.getPosition(table_member.getTableIndex()));
+				table_file.write(run_buffer.array(), 0, ChunkRecord.RECORD_LENGTH);
 			}
+			write_counter.increment();
+			written_byte_counter.add(ChunkRecord.RECORD_LENGTH);
 		}
 		catch( IOException e ) {
 			throw new StorageException("Could not flush the data in this table! Stopped at table_member \""
@@ -87,12 +256,94 @@ public final class DataTable<T extends IBinaryData> {
 	 * <p></p>
 	 *
 	 * @param
-	 * @return
+	 * @return the position of the entry at index in the table file
+	 */
+	private static long getPosition(long index) {
+		return ChunkRecord.HEADER_LENGTH + index * ChunkRecord.RECORD_LENGTH;
+	}
+	
+	
+	/**
+	 * <p>writes all buffered entries</p>
+	 */
+	public void flush() {
+		synchronized( table_file ) {
+			flushDirtyEntries();
+		}
+	}
+	
+	
+	/**
+	 * <p>writes all buffered entries in runs of consecutive indices - the caller must hold the lock of the
+	 * {@link #table_file}, so that an older batch is always written before a newer one</p>
+	 */
+	@SuppressWarnings("unchecked") private void flushDirtyEntries() {
+		long[] flushed_key_array;
+		Object[] flushed_entry_array;
+		int number_of_flushed_entries;
+		synchronized( dirty_entry_lock ) {
+			if( number_of_dirty_entries == 0 ) {
+				return;
+			}
+			number_of_flushed_entries = number_of_dirty_entries;
+			flushed_key_array = Arrays.copyOf(dirty_key_array, number_of_flushed_entries);
+			flushed_entry_array = Arrays.copyOf(dirty_entry_array, number_of_flushed_entries);
+			Arrays.fill(dirty_entry_array, 0, number_of_flushed_entries, null);
+			number_of_dirty_entries = 0;
+		}
+		Arrays.sort(flushed_key_array);
+		int run_length = 0;
+		long run_start_index = 0;
+		long next_index = 0;
+		long current_index;
+		T entry;
+		try {
+			for(int a=0;a<number_of_flushed_entries;a++) {
+				current_index = flushed_key_array[a] >>> 32;
+				// only the newest entry of an index is written - it is the last one of its index
+				if( a + 1 < number_of_flushed_entries && flushed_key_array[a + 1] >>> 32 == current_index ) {
+					continue;
+				}
+				// cast is okay, because the lower 32 bits are the position of the entry
+				entry = (T)flushed_entry_array[(int)flushed_key_array[a]];
+				if( run_length != 0 && ( current_index != next_index || run_length == run_buffer.capacity() ) ) {
+					table_file.seek(DataTable.getPosition(run_start_index));
+					table_file.write(run_buffer.array(), 0, run_length);
+					write_counter.increment();
+					written_byte_counter.add(run_length);
+					run_length = 0;
+				}
+				if( run_length == 0 ) {
+					run_start_index = current_index;
+				}
+				entry.putRecord(run_buffer, run_length);
+				run_length += ChunkRecord.RECORD_LENGTH;
+				next_index = current_index + 1;
+			}
+			table_file.seek(DataTable.getPosition(run_start_index));
+			table_file.write(run_buffer.array(), 0, run_length);
+			write_counter.increment();
+			written_byte_counter.add(run_length);
+			if( table_durability == TableDurability.Forced ) {
+				table_file.getChannel().force(false);
+			}
+		}
+		catch( IOException e ) {
+			throw new StorageException("Could not flush the buffered entries of this table!", e);
+		}
+	}
+	
+	
+	/**
+	 * <p>returns the lowest available index - the table file grows by {@link #GROWTH_BATCH_SIZE} empty entries if no
+	 * index is available</p>
+	 *
+	 * @return the index
 	 */
 	public long getAvailableIndex() {
-		synchronized( available_index_tree ) {
-			if( available_index_tree.size() != 0 ) {
-				return available_index_tree.pollFirst().longValue();
+		synchronized( available_index_bitmap ) {
+			if( !available_index_bitmap.isEmpty() ) {
+				return available_index_bitmap.pollFirst();
 			}
 			long length;
 			synchronized( table_file ) {
@@ -102,12 +353,18 @@ public final class DataTable<T extends IBinaryData> {
 				catch( IOException e ) {
 					throw new StorageException("No more indices available!", e);
 				}
-				long current_index = length / ChunkUtility.BINARY_CHUNK_SIZE;
+				long current_index = (length - ChunkRecord.HEADER_LENGTH) / ChunkRecord.RECORD_LENGTH;
+				long end_index = Math.min(current_index + DataTable.GROWTH_BATCH_SIZE, IndexBitmap.MAXIMUM_INDEX + 1);
+				if( current_index >= end_index ) {
+					throw new StorageException("No more indices available!");
+				}
 				try {
-					table_file.setLength(length + ChunkUtility.BINARY_CHUNK_SIZE);
+					table_file.setLength(DataTable.getPosition(end_index));
 				} catch (IOException e) {
 					throw new StorageException("No more indices available!", e);
 				}
+				// the new entries are empty, so all but the first one become available
+				available_index_bitmap.addRange(current_index + 1, end_index);
 				return current_index;
 			}
 		}
@@ -121,14 +378,10 @@ public final class DataTable<T extends IBinaryData> {
 	 * @return
 	 */
 	public void addAvailableIndex(long index) {
-		Long boxed_index = new Long(index);
-		synchronized( available_index_tree ) {
-			if( available_index_tree.contains(boxed_index) ) {
+		synchronized( available_index_bitmap ) {
+			if( !available_index_bitmap.add(index) ) {
 				throw new Error("An index must never exist more than once!");
 			}
-			if( !available_index_tree.add(boxed_index) ) {
-				throw new StorageException("An index got lost on its way!");
-			}
 		}
 	}
 
@@ -139,59 +392,47 @@ public final class DataTable<T extends IBinaryData> {
 	 * @param
 	 * @return
 	 */
-	public void addAvailableIndices(ArrayList<Long> available_index_list) {
-		synchronized( available_index_tree ) {
-			for( Long index : available_index_list ) {
-				if( index == null ) {
-					throw new NullPointerException("Can not add a null-index!");
-				}
-				if( available_index_tree.contains(index) ) {
-					throw new Error("An index must never exist more than once!");
-				}
-				available_index_tree.add(index);
+	public void addAvailableIndices(long[] index_word_array) {
+		long number_of_indices = 0;
+		for( long index_word : index_word_array ) {
+			number_of_indices += Long.bitCount(index_word);
+		}
+		synchronized( available_index_bitmap ) {
+			if( available_index_bitmap.addAll(index_word_array) != number_of_indices ) {
+				throw new Error("An index must never exist more than once!");
 			}
 		}
 	}
 	
 	
 	/**
-	 * <p>cuts off all empty-entries at the end of the table</p>
+	 * <p>cuts off the available indices at the end of the table, but keeps {@link #GROWTH_BATCH_SIZE} of them, so
+	 * that the table does not grow again right away</p>
+	 * <p>
+	 * 		The indices are taken from the {@link #available_index_bitmap} while its lock is held, like
+	 * 		{@link #getAvailableIndex()} does - an index which has been handed out is never cut, even if its entry has not
+	 * 		been written yet.
+	 * </p>
 	 */
 	public void trim() {
-		byte[] chunk_buffer = new byte[ChunkUtility.BINARY_CHUNK_SIZE];
-		boolean found_non_empty_entry = false;
-		long pointer;
-		synchronized( available_index_tree) {
+		synchronized( available_index_bitmap ) {
 			synchronized( table_file ) {
 				try {
-					pointer = table_file.length() - ChunkUtility.BINARY_CHUNK_SIZE;
-					while( pointer >= 0 ) {
-						table_file.seek(pointer);
-						table_file.readFully(chunk_buffer);
-						if( !Checker.checkAllElementsForZero(chunk_buffer) ) {
-							found_non_empty_entry = true;
-							break;
-						}
-						pointer -= ChunkUtility.BINARY_CHUNK_SIZE;
-					}
-					if( found_non_empty_entry ) {
-						if( table_file.length() - pointer >= ChunkUtility.BINARY_CHUNK_SIZE ) {
-							table_file.setLength(pointer + ChunkUtility.BINARY_CHUNK_SIZE);
-						}
-					}
-					else {
-						table_file.setLength(0);
-						available_index_tree.clear();
+					long number_of_entries = 
+						( table_file.length() - ChunkRecord.HEADER_LENGTH ) / ChunkRecord.RECORD_LENGTH;
+					long new_number_of_entries = available_index_bitmap.lastAbsentBefore(number_of_entries) + 1 
+							+ DataTable.GROWTH_BATCH_SIZE;
+					if( new_number_of_entries >= number_of_entries ) {
+						return;
 					}
+					// a buffered entry behind the new end would grow the table file again
+					flushDirtyEntries();
+					table_file.setLength(DataTable.getPosition(new_number_of_entries));
+					available_index_bitmap.removeFrom(new_number_of_entries);
 				}
 				catch( IOException e ) {
 					throw new StorageException("Can not cut the table file.", e);
 				}
-				// needed, because removeIf wants a final value..
-				final long pointer_copy = pointer;
-				if( !available_index_tree.isEmpty() ) {
-					available_index_tree.removeIf(l -> l.longValue() > pointer_copy);
-				}
 			}
 		}
 	}
@@ -2,8 +2,11 @@ package snowflake.core;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import j3l.util.Checker;
 import j3l.util.ClosureState;
@@ -14,13 +17,15 @@ import snowflake.api.IFlake;
 import snowflake.api.StorageException;
 import snowflake.core.manager.IChannelManager;
 import snowflake.core.manager.IChunkManager;
+import snowflake.core.metrics.LatencyHistogram;
+import snowflake.core.storage.StorageStatistics;
 
 
 /**
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.07.11_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public final class Flake implements IClose<IOException>, IFlake {
@@ -44,6 +49,24 @@ public final class Flake implements IClose<IOException>, IFlake {
 	private long length;
 	
 	
+	/**
+	 * <p>the number of bytes at the end of the chunks which an output stream has reserved, but which are not part of
+	 * the {@link #length} yet - they become part of it by {@link #expandAtEnd(long)}</p>
+	 * <p>
+	 * 		The reserved bytes are held by {@link Chunk#isReserved() reserved chunks} after all other chunks, which are
+	 * 		saved as such, so that they are recycled instead of becoming part of the flake when the storage is loaded
+	 * 		after a crash.
+	 * </p>
+	 */
+	private long reserved_length;
+	
+	
+	/**
+	 * <p>states how much an output stream reserves when it writes beyond the end of this flake</p>
+	 */
+	private StreamGrowthPolicy stream_growth_policy;
+	
+	
 	/**
 	 * <p></p>
 	 */
@@ -56,6 +79,52 @@ public final class Flake implements IClose<IOException>, IFlake {
 	private IChunkManager chunk_manager;
 	
 	
+	/**
+	 * <p>receives every change of the number of chunks and of the length of this flake</p>
+	 */
+	private StorageStatistics storage_statistics;
+	
+	
+	/**
+	 * <p>the latencies of {@link #setLength(long)} - shared by all flakes</p>
+	 */
+	private LatencyHistogram length_latency_histogram;
+	
+	
+	/**
+	 * <p>the {@link #length} when the {@link #layout} has been published last - only used while holding the lock of
+	 * the {@link #chunk_list}</p>
+	 */
+	private long published_length;
+	
+	
+	/**
+	 * <p>incremented whenever the chunks of this flake change - only used while holding the lock of the
+	 * {@link #chunk_list}</p>
+	 */
+	private long modification_count;
+	
+	
+	/**
+	 * <p>the current snapshot of the {@link #chunk_list} - all readers use the snapshot and never lock</p>
+	 */
+	private volatile FlakeLayout layout;
+	
+	
+	/**
+	 * <p>the number of output streams of this flake which are currently open - only used while holding the lock of
+	 * the {@link #chunk_list}</p>
+	 */
+	private int number_of_open_output_streams;
+	
+	
+	/**
+	 * <p>incremented whenever an output stream of this flake is opened - only used while holding the lock of the
+	 * {@link #chunk_list}</p>
+	 */
+	private long write_generation;
+	
+	
 	/**
 	 * <p></p>
 	 */
@@ -110,10 +179,19 @@ public final class Flake implements IClose<IOException>, IFlake {
 		chunk_list = new ArrayList<>(0);
 		channel_manager = null;
 		length = 0;
+		published_length = 0;
+		reserved_length = 0;
+		stream_growth_policy = null;
+		storage_statistics = null;
+		length_latency_histogram = LatencyHistogram.DISABLED;
 		is_damaged = false;
 		is_deleted = false;
 		is_consistency_checked = false;
 		is_consistent = true;
+		modification_count = 0;
+		layout = new FlakeLayout(chunk_list, modification_count);
+		number_of_open_output_streams = 0;
+		write_generation = 0;
 	}
 	
 	
@@ -123,7 +201,9 @@ public final class Flake implements IClose<IOException>, IFlake {
 	 * @param
 	 * @return
 	 */
-	public void initialize(IChannelManager channel_manager, IChunkManager chunk_manager, ArrayList<Chunk> initial_chunk_list) {
+	public void initialize(IChannelManager channel_manager, IChunkManager chunk_manager, 
+			StorageStatistics storage_statistics, LatencyHistogram length_latency_histogram,
+			StreamGrowthPolicy stream_growth_policy, ArrayList<Chunk> initial_chunk_list) {
 		if( hasBeenOpened() ) {
 			throw new SecurityException("Can not change the flake_stream_manager after the flake has been opened!");
 		}
@@ -132,10 +212,22 @@ public final class Flake implements IClose<IOException>, IFlake {
 					channel_manager, GlobalString.ChannelManager.toString()
 			);
 			this.chunk_manager = Checker.checkForNull(chunk_manager, GlobalString.ChunkManager.toString());
+			this.storage_statistics = Checker.checkForNull(
+				storage_statistics, GlobalString.StorageStatistics.toString()
+			);
+			this.length_latency_histogram = Checker.checkForNull(
+				length_latency_histogram, GlobalString.LatencyHistogram.toString()
+			);
+			this.stream_growth_policy = Checker.checkForNull(
+				stream_growth_policy, GlobalString.StreamGrowthPolicy.toString()
+			);
 		}
 		else {
 			this.channel_manager = channel_manager;
 			this.chunk_manager = chunk_manager;
+			this.storage_statistics = storage_statistics;
+			this.length_latency_histogram = length_latency_histogram;
+			this.stream_growth_policy = stream_growth_policy;
 		}
 		if( initial_chunk_list != null && !initial_chunk_list.isEmpty() ) {
 			synchronized( chunk_list ) {
@@ -147,6 +239,7 @@ public final class Flake implements IClose<IOException>, IFlake {
 			for( Chunk chunk : chunk_list ) {
 				length += chunk.getLength();
 			}
+			publishLayout();
 		}
 		is_consistency_checked = false;
 		is_consistent = false;	
@@ -201,6 +294,17 @@ public final class Flake implements IClose<IOException>, IFlake {
 	}
 	
 	
+	/**
+	 * <p>marks the flake as damaged - used while loading, if the order of its chunks could not be rebuilt</p>
+	 */
+	public void markAsDamaged() {
+		if( hasBeenOpened() ) {
+			throw new SecurityException("Can not mark the flake as damaged after it has been opened!");
+		}
+		is_damaged = true;
+	}
+	
+	
 	/**
 	 * <p></p>
 	 *
@@ -225,12 +329,59 @@ public final class Flake implements IClose<IOException>, IFlake {
 		if( StaticMode.TESTING_MODE ) {
 			Checker.checkForValidation(this);
 		}
+		return layout.indexOf(chunk);
+	}
+	
+	
+	/**
+	 * <p>returns the chunk which precedes chunk in this flake</p>
+	 *
+	 * @param chunk a chunk of this flake
+	 * @return the preceding chunk or null, if chunk is the first chunk of this flake
+	 */
+	public Chunk getPredecessorOfChunk(Chunk chunk) {
+		FlakeLayout current_layout = layout;
+		int index = current_layout.indexOf(chunk);
+		if( index < 0 ) {
+			throw new IllegalArgumentException("The chunk \"" + chunk.toString() + "\" is not part of the flake\""
+					+ toString() + "\"!");
+		}
+		return index == 0 ? null : current_layout.getChunk(index - 1);
+	}
+	
+	
+	/**
+	 * <p>saves all chunks of this flake from the first one on - used to convert chunk table entries which have been
+	 * written in an older format</p>
+	 */
+	public void saveChunks() {
 		synchronized( chunk_list ) {
-			return chunk_list.indexOf(chunk);
+			for( Chunk chunk : chunk_list ) {
+				chunk.save(this);
+			}
 		}
 	}
 	
 	
+	/**
+	 * <p>publishes a new snapshot of the {@link #chunk_list} and reports the changes since the last one to the
+	 * {@link #storage_statistics} - the caller must hold its lock</p>
+	 * <p>
+	 * 		Chunks must only be saved after the snapshot which contains them has been published, because saving a
+	 * 		chunk resolves its predecessor via {@link #getPredecessorOfChunk(Chunk)}.
+	 * </p>
+	 */
+	private void publishLayout() {
+		int previous_number_of_chunks = layout.size();
+		layout = new FlakeLayout(chunk_list, ++modification_count);
+		// the length of a damaged flake is not part of the used space
+		storage_statistics.addUsed(
+			layout.size() - previous_number_of_chunks, is_damaged ? 0 : length - published_length
+		);
+		published_length = length;
+	}
+	
+	
 	/**
 	 * <p></p>
 	 *
@@ -242,58 +393,83 @@ public final class Flake implements IClose<IOException>, IFlake {
 			chunk_manager.recycleChunks(chunk_list);
 			chunk_list.clear();
 			length = 0;
+			reserved_length = 0;
 			is_consistency_checked = false;
+			publishLayout();
 		}
 	}
 	
 	
 	/**
-	 * <p>removes all chunks beginning with the chunk at position_in_flake</p>
+	 * <p>makes sure that a chunk starts at position_in_flake by splitting the chunk which contains it - the caller
+	 * must hold the lock of the {@link #chunk_list}</p>
 	 * <p>
-	 * 		guarantees that the order of the chunks remains and relies on the flake to
-	 * 		add the chunks the chunk_list once the process which uses this method is
-	 * 		done - does not save the chunks
+	 * 		Both halves of a split chunk and the chunk after them are added to changed_chunk_set, because they need to
+	 * 		be saved once the new layout has been published.
 	 * </p>
 	 *
 	 * @param position_in_flake position in flake
-	 * @return Collection of the removed chunks
+	 * @param changed_chunk_set the chunks which need to be saved
+	 * @return the index of the chunk which starts at position_in_flake or the number of chunks, if position_in_flake
+	 * is equal to the length of the flake
 	 */
-	private List<Chunk> removeAllChunksFrom(long position_in_flake) {
-		ArrayList<Chunk> list;
-		int left = 0;
-		int right;
-		int index;
+	private int splitAt(long position_in_flake, Set<Chunk> changed_chunk_set) {
+		if( position_in_flake == length ) {
+			return chunk_list.size();
+		}
+		int left_index = 0;
+		int right_index = chunk_list.size() - 1;
+		int current_index;
 		Chunk current_chunk;
-		synchronized( chunk_list ) {
-			Checker.checkForBoundaries(
-				position_in_flake, 0, getLength(), GlobalString.PositionInFlake.toString()
-			);
-			right = chunk_list.size() - 1;
-			do {
-				index = left + (right - left) / 2;
-				current_chunk = chunk_list.get(index);
-				if( current_chunk.containsFlakePosition(position_in_flake) ) {
-					break;
-				}
-				if( position_in_flake < current_chunk.getPositionInFlake() ) {
-					right = index;
-				}
-				else {
-					left = index + 1;
-				}
+		while( left_index <= right_index ) {
+			current_index = (left_index + right_index) >>> 1;
+			current_chunk = chunk_list.get(current_index);
+			if( position_in_flake < current_chunk.getPositionInFlake() ) {
+				right_index = current_index - 1;
 			}
-			while( true );
-			list = new ArrayList<>( chunk_list.size() - index );
-			for(int a=0;a<index;a++) {
-				// does not need to increment the index since the removal will pull
-				// the succeeding chunks to index
-				current_chunk = chunk_list.remove(index);
-				length -= current_chunk.getLength();
-				list.add(current_chunk);
+			else if( position_in_flake >= current_chunk.getPositionInFlake() + current_chunk.getLength() ) {
+				left_index = current_index + 1;
 			}
-			is_consistency_checked = false;
+			else if( position_in_flake == current_chunk.getPositionInFlake() ) {
+				return current_index;
+			}
+			else {
+				SplitChunk split_chunk = chunk_manager.splitChunk(
+					current_chunk, position_in_flake - current_chunk.getPositionInFlake()
+				);
+				chunk_list.set(current_index, split_chunk.getLeftChunk());
+				chunk_list.add(current_index + 1, split_chunk.getRightChunk());
+				changed_chunk_set.remove(current_chunk);
+				changed_chunk_set.add(split_chunk.getLeftChunk());
+				changed_chunk_set.add(split_chunk.getRightChunk());
+				if( current_index + 2 < chunk_list.size() ) {
+					changed_chunk_set.add(chunk_list.get(current_index + 2));
+				}
+				return current_index + 1;
+			}
+		}
+		throw new StorageException("No chunk of " + toString() + " contains the position " + position_in_flake + "!");
+	}
+	
+	
+	/**
+	 * <p>recalculates the position in the flake of all chunks from index on - the caller must hold the lock of the
+	 * {@link #chunk_list}</p>
+	 *
+	 * @param index the index of the first chunk whose position might have changed
+	 */
+	private void updatePositionsFrom(int index) {
+		long position_in_flake = 0;
+		if( index > 0 ) {
+			Chunk previous_chunk = chunk_list.get(index - 1);
+			position_in_flake = previous_chunk.getPositionInFlake() + previous_chunk.getLength();
+		}
+		Chunk current_chunk;
+		for(int a=index,n=chunk_list.size();a<n;a++) {
+			current_chunk = chunk_list.get(a);
+			current_chunk.setPositionInFlake(position_in_flake);
+			position_in_flake += current_chunk.getLength();
 		}
-		return list;
 	}
 	
 	
@@ -339,6 +515,22 @@ public final class Flake implements IClose<IOException>, IFlake {
 	 * @see snowflake.api.IFlake#setLength(long)
 	 */
 	@Override public void setLength(long new_length) {
+		long start_time = length_latency_histogram.start();
+		try {
+			changeLength(new_length);
+		}
+		finally {
+			length_latency_histogram.recordSince(start_time);
+		}
+	}
+	
+	
+	/**
+	 * <p>expands or cuts the flake at its end, so that its length is new_length</p>
+	 *
+	 * @param new_length the new length
+	 */
+	private void changeLength(long new_length) {
 		Checker.checkForValidation(this);
 		if( new_length < 0 ) {
 			throw new IllegalArgumentException("The new_length must be smaller than 0!");
@@ -365,9 +557,7 @@ public final class Flake implements IClose<IOException>, IFlake {
 	 * @see snowflake.api.IFlake#getNumberOfChunks()
 	 */
 	@Override public int getNumberOfChunks() {
-		synchronized( chunk_list ) {
-			return chunk_list.size();
-		}
+		return layout.size();
 	}
 	
 	
@@ -383,9 +573,7 @@ public final class Flake implements IClose<IOException>, IFlake {
 	 * @see snowflake.api.IFlake#getChunks()
 	 */
 	@Override public IChunk[] getChunks() {
-		synchronized( chunk_list ) {
-			return chunk_list.toArray(new Chunk[0]);
-		}
+		return layout.toChunkArray();
 	}
 	
 	
@@ -393,14 +581,13 @@ public final class Flake implements IClose<IOException>, IFlake {
 	 * @see snowflake.api.IFlake#getChunkAtIndex(int)
 	 */
 	@Override public IChunk getChunkAtIndex(int index) {
-		synchronized( chunk_list ) {
-			if( StaticMode.TESTING_MODE ) {
-				return chunk_list.get(
-					Checker.checkForBoundaries(index, 0, chunk_list.size() - 1, GlobalString.Index.toString())
-				);
-			}
-			return chunk_list.get(index);
+		FlakeLayout current_layout = layout;
+		if( StaticMode.TESTING_MODE ) {
+			return current_layout.getChunk(
+				Checker.checkForBoundaries(index, 0, current_layout.size() - 1, GlobalString.Index.toString())
+			);
 		}
+		return current_layout.getChunk(index);
 	}
 	
 	
@@ -414,52 +601,68 @@ public final class Flake implements IClose<IOException>, IFlake {
 				position_in_flake, 0, getLength() - 1, GlobalString.PositionInFlake.toString()
 			);
 		}
-		int chunk_list_size;
-		synchronized( chunk_list ) {
-			chunk_list_size = chunk_list.size();
-			if( chunk_list_size == 1 ) {
-				return chunk_list.get(0);
-			}
-			else if( chunk_list_size == 2 ) {
-				if( chunk_list.get(0).getLength() > position_in_flake ) {
-					return chunk_list.get(0);
-				}
-				return chunk_list.get(1);
-			}
+		FlakeLayout current_layout = layout;
+		return current_layout.getChunk(getIndexOfChunkAtPositionInFlake(current_layout, position_in_flake));
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	private static int getIndexOfChunkAtPositionInFlake(FlakeLayout current_layout, long position_in_flake) {
+		int index = current_layout.getIndexAtPositionInFlake(position_in_flake);
+		if( index == -1 ) {
+			throw new StorageException("The chunk at position \"" + position_in_flake + "\" can not be found!");
 		}
-		int left_index = 0;
-		int right_index;
-		int current_index;
-		Chunk current_chunk;
-		synchronized( chunk_list ) {
-			right_index = chunk_list.size() - 1;
-			do {
-				current_index = left_index + ((right_index - left_index) / 2);
-				current_chunk = chunk_list.get(current_index);
-				if( current_chunk.getPositionInFlake() < position_in_flake ) {
-					if( current_chunk.containsFlakePosition(position_in_flake) ) {
-						return current_chunk;
-					}
-					left_index = current_index;
-				}
-				else {
-					right_index = current_index;
-				}
-				if( right_index - left_index == 1 ) {
-					current_chunk = chunk_list.get(right_index);
-					if( current_chunk.containsFlakePosition(position_in_flake) ) {
-						return current_chunk;
-					}
-					current_chunk = chunk_list.get(left_index);
-					if( current_chunk.containsFlakePosition(position_in_flake) ) {
-						return current_chunk;
-					}
-					break;
-				}
+		return index;
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public long getModificationCount() {
+		return layout.getModificationCount();
+	}
+	
+	
+	/**
+	 * <p>resolves all segments in the data file which hold the bytes from position_in_flake to
+	 * position_in_flake + length - 1 - physically adjacent chunks result in a single segment</p>
+	 *
+	 * @param position_in_flake the position of the first byte
+	 * @param length the number of bytes
+	 * @param segment_list the list which will contain the segments in the order of the flake
+	 */
+	public void resolveSegments(long position_in_flake, int length, SegmentList segment_list) {
+		segment_list.clear();
+		if( length == 0 ) {
+			return;
+		}
+		FlakeLayout current_layout = layout;
+		int remaining_bytes = length;
+		int advance_in_chunk;
+		int current_index = getIndexOfChunkAtPositionInFlake(current_layout, position_in_flake);
+		long offset_in_chunk = position_in_flake - current_layout.getPositionInFlake(current_index);
+		do {
+			if( current_index == current_layout.size() ) {
+				throw new StorageException("The flake " + toString() + " does not contain " + length 
+						+ " bytes at position \"" + position_in_flake + "\"!");
 			}
-			while( left_index != right_index );
+			// cast is okay, because the minimum is smaller than or equal to remaining_bytes (which is int)
+			advance_in_chunk = (int)Math.min(remaining_bytes, current_layout.getLength(current_index) - offset_in_chunk);
+			segment_list.add(current_layout.getStartAddress(current_index) + offset_in_chunk, advance_in_chunk);
+			remaining_bytes -= advance_in_chunk;
+			offset_in_chunk = 0;
+			current_index++;
 		}
-		throw new StorageException("The chunk at position \"" + position_in_flake + "\" can not be found!");
+		while( remaining_bytes != 0 );
 	}
 	
 	
@@ -475,7 +678,143 @@ public final class Flake implements IClose<IOException>, IFlake {
 	 * @see snowflake.api.IFlake#getFlakeOutputStream()
 	 */
 	@Override public FlakeOutputStream getFlakeOutputStream() throws IOException {
-		return new FlakeOutputStream(this, channel_manager.getChannel(), channel_manager);
+		synchronized( chunk_list ) {
+			number_of_open_output_streams++;
+			write_generation++;
+		}
+		try {
+			return new FlakeOutputStream(this, channel_manager.getChannel(), channel_manager);
+		}
+		catch( RuntimeException e ) {
+			closeOutputStream();
+			throw e;
+		}
+	}
+	
+	
+	/**
+	 * <p>called by the {@link FlakeOutputStream} once it has been closed</p>
+	 */
+	void closeOutputStream() {
+		synchronized( chunk_list ) {
+			number_of_open_output_streams--;
+		}
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public boolean isBeingWritten() {
+		synchronized( chunk_list ) {
+			return number_of_open_output_streams != 0;
+		}
+	}
+	
+	
+	/**
+	 * <p>changes whenever an output stream of this flake is opened - if the write generation and the modification
+	 * count did not change and no output stream is open, the data of the flake did not change</p>
+	 *
+	 * @return the write generation
+	 */
+	public long getWriteGeneration() {
+		synchronized( chunk_list ) {
+			return write_generation;
+		}
+	}
+	
+	
+	/**
+	 * <p>replaces old_chunk by new_chunk, which must already contain a copy of the data of old_chunk - nothing is
+	 * replaced if the flake has been changed or written since the copy started</p>
+	 * <p>
+	 * 		old_chunk is saved as an available chunk which needs to be cleared, but is not recycled.
+	 * </p>
+	 *
+	 * @param old_chunk the chunk which will be replaced
+	 * @param new_chunk the chunk which contains the data of old_chunk
+	 * @param expected_modification_count the {@link #getModificationCount() modification count} before the copy
+	 * @param expected_write_generation the {@link #getWriteGeneration() write generation} before the copy
+	 * @return true if old_chunk has been replaced, false if the flake has been changed
+	 */
+	public boolean replaceChunk(Chunk old_chunk, Chunk new_chunk, long expected_modification_count, 
+			long expected_write_generation) {
+		if( StaticMode.TESTING_MODE ) {
+			Checker.checkForValidation(new_chunk, GlobalString.Chunk.toString());
+		}
+		int index;
+		synchronized( chunk_list ) {
+			if( modification_count != expected_modification_count || write_generation != expected_write_generation
+					|| number_of_open_output_streams != 0 || new_chunk.getLength() != old_chunk.getLength() ) {
+				return false;
+			}
+			index = chunk_list.indexOf(old_chunk);
+			if( index == -1 ) {
+				return false;
+			}
+			new_chunk.setPositionInFlake(old_chunk.getPositionInFlake());
+			new_chunk.setReserved(old_chunk.isReserved());
+			chunk_list.set(index, new_chunk);
+			is_consistency_checked = false;
+			publishLayout();
+			// old_chunk must leave the chunk table before new_chunk is saved at its index
+			old_chunk.resetPositionInFlake();
+			old_chunk.setNeedsToBeCleared(true);
+			old_chunk.save(null);
+			new_chunk.save(this);
+			// the chunk after new_chunk is linked to the chunk table index of its predecessor
+			if( index + 1 < chunk_list.size() ) {
+				chunk_list.get(index + 1).save(this);
+			}
+		}
+		return true;
+	}
+	
+	
+	/**
+	 * <p>replaces all chunks of this flake by new_chunk, which must already contain a copy of the data of this
+	 * flake - nothing is replaced if the flake has been changed or written since the copy started or if it holds
+	 * reserved bytes</p>
+	 * <p>
+	 * 		The replaced chunks are saved as available chunks which need to be cleared, but are not recycled, because
+	 * 		readers might still read from them - the caller must recycle them once these readers are done.
+	 * </p>
+	 *
+	 * @param new_chunk the chunk which contains the data of this flake
+	 * @param expected_modification_count the {@link #getModificationCount() modification count} before the copy
+	 * @param expected_write_generation the {@link #getWriteGeneration() write generation} before the copy
+	 * @return the replaced chunks or null, if the flake has been changed
+	 */
+	public List<Chunk> relocate(Chunk new_chunk, long expected_modification_count, long expected_write_generation) {
+		if( StaticMode.TESTING_MODE ) {
+			Checker.checkForValidation(new_chunk, GlobalString.Chunk.toString());
+		}
+		ArrayList<Chunk> replaced_chunk_list;
+		synchronized( chunk_list ) {
+			if( modification_count != expected_modification_count || write_generation != expected_write_generation
+					|| number_of_open_output_streams != 0 || reserved_length != 0 
+					|| new_chunk.getLength() != length ) {
+				return null;
+			}
+			replaced_chunk_list = new ArrayList<>(chunk_list);
+			chunk_list.clear();
+			new_chunk.setPositionInFlake(0);
+			chunk_list.add(new_chunk);
+			is_consistency_checked = false;
+			publishLayout();
+			// the replaced chunks must leave the chunk table before the new chunk is saved at their index
+			for( Chunk chunk : replaced_chunk_list ) {
+				chunk.resetPositionInFlake();
+				chunk.setNeedsToBeCleared(true);
+				chunk.save(null);
+			}
+			new_chunk.save(this);
+		}
+		return replaced_chunk_list;
 	}
 	
 	
@@ -508,10 +847,15 @@ public final class Flake implements IClose<IOException>, IFlake {
 					previous_chunk = chunk;
 				}
 			}
+			publishLayout();
 		}
 		is_consistency_checked = false;
-		if( !isConsistent() ) {
-			is_damaged = true;
+		if( is_damaged || !isConsistent() ) {
+			synchronized( chunk_list ) {
+				is_damaged = true;
+				storage_statistics.addUsed(0, -published_length);
+			}
+			storage_statistics.addDamagedFlake();
 		}
 		closure_state = ClosureState.Open;
 	}
@@ -581,38 +925,7 @@ public final class Flake implements IClose<IOException>, IFlake {
 	 * @see snowflake.api.IFlake#cutFromStart(long)
 	 */
 	@Override public void cutFromStart(long number_of_bytes) {
-		Chunk current_chunk;
-		long remaining_bytes;
-		synchronized( chunk_list ) {
-			remaining_bytes = Checker.checkForBoundaries(
-				number_of_bytes, 1, getLength(), GlobalString.NumberOfBytes.toString()
-			);
-			do {
-				current_chunk = chunk_list.remove(0);
-				length -= current_chunk.getLength();
-				if( current_chunk.getLength() > remaining_bytes ) {
-					SplitChunk split_chunk = chunk_manager.splitChunk(current_chunk, remaining_bytes);
-					chunk_manager.recycleChunk(split_chunk.getLeftChunk());
-					chunk_list.add(0, split_chunk.getRightChunk());
-					length += split_chunk.getRightChunk().getLength();
-					remaining_bytes = 0;
-				}
-				else {
-					remaining_bytes -= current_chunk.getLength();
-					chunk_manager.recycleChunk(current_chunk);
-				}
-			}
-			while( remaining_bytes > 0 );
-			current_chunk = chunk_list.get(0);
-			current_chunk.setPositionInFlake(0);
-			current_chunk.save(this);
-			for(int a=1,n=chunk_list.size();a<n;a++) {
-				chunk_list.get(a).setPositionInFlake(current_chunk.getPositionInFlake() + current_chunk.getLength());
-				current_chunk = chunk_list.get(a);
-				current_chunk.save(this);
-			}
-			is_consistency_checked = false;
-		}
+		cutAt(0, number_of_bytes);
 	}
 	
 	
@@ -620,67 +933,34 @@ public final class Flake implements IClose<IOException>, IFlake {
 	 * @see snowflake.api.IFlake#cutFromEnd(long)
 	 */
 	@Override public void cutFromEnd(long number_of_bytes) {
-		Chunk current_chunk;
-		long remaining_bytes;
 		synchronized( chunk_list ) {
-			remaining_bytes = Checker.checkForBoundaries(
-				number_of_bytes, 1, getLength(), GlobalString.NumberOfBytes.toString()
+			releaseReservation();
+			removeFromEnd(
+				Checker.checkForBoundaries(number_of_bytes, 1, getLength(), GlobalString.NumberOfBytes.toString()), 
+				false
 			);
-			do {
-				current_chunk = chunk_list.remove( chunk_list.size() - 1 );
-				length -= current_chunk.getLength();
-				if( current_chunk.getLength() > remaining_bytes ) {
-					chunk_manager.trimToSize(current_chunk, current_chunk.getLength() - remaining_bytes);
-					chunk_list.add(current_chunk);
-					current_chunk.save(this);
-					length += current_chunk.getLength();
-					remaining_bytes = 0;
-				}
-				else {
-					remaining_bytes -= current_chunk.getLength();
-					chunk_manager.recycleChunk(current_chunk);
-				}
-			}
-			while( remaining_bytes > 0 );
-			is_consistency_checked = false;
 		}
 	}
 	
 	
-	/* (non-Javadoc)
-	 * @see snowflake.api.IFlake#cutAt(long, long)
+	/**
+	 * <p>removes number_of_bytes bytes from the end of the chunks - the caller must hold the lock of the
+	 * {@link #chunk_list}</p>
+	 *
+	 * @param number_of_bytes the number of bytes
+	 * @param is_reservation true if the bytes are taken from the {@link #reserved_length}, false if they are taken
+	 * from the {@link #length}
 	 */
-	@Override public void cutAt(long position_in_flake, long number_of_bytes) {
-		long remaining_bytes = Checker.checkForBoundaries(
-			number_of_bytes, 1, getLength(), GlobalString.NumberOfBytes.toString()
-		);
-		List<Chunk> list = removeAllChunksFrom(position_in_flake);
+	private void removeFromEnd(long number_of_bytes, boolean is_reservation) {
 		Chunk current_chunk;
-		if( list.get(0).containsFlakePosition(position_in_flake) ) {
-			current_chunk = list.remove(0);
-			SplitChunk split_chunk = chunk_manager.splitChunk(
-				current_chunk, current_chunk.getPositionInFlake() - position_in_flake
-			);
-			synchronized( chunk_list ) {
-				chunk_list.add(split_chunk.getLeftChunk());
-				if( chunk_list.isEmpty() ) {
-					split_chunk.getLeftChunk().setPositionInFlake(0);
-				}
-				else {
-					Chunk previous_chunk = chunk_list.get(chunk_list.size() - 1);
-					split_chunk.getLeftChunk().setPositionInFlake(
-						previous_chunk.getPositionInFlake() + previous_chunk.getLength()
-					);
-				}
-			}
-			list.add(0, split_chunk.getRightChunk());
-		}
+		Chunk trimmed_chunk = null;
+		long remaining_bytes = number_of_bytes;
 		do {
-			current_chunk = list.remove(0);
+			current_chunk = chunk_list.remove( chunk_list.size() - 1 );
 			if( current_chunk.getLength() > remaining_bytes ) {
-				SplitChunk split_chunk = chunk_manager.splitChunk(current_chunk, remaining_bytes);
-				chunk_manager.recycleChunk(split_chunk.getLeftChunk());
-				list.add(0, split_chunk.getRightChunk());
+				trimmed_chunk = chunk_manager.trimToSize(current_chunk, current_chunk.getLength() - remaining_bytes);
+				trimmed_chunk.setReserved(current_chunk.isReserved());
+				chunk_list.add(trimmed_chunk);
 				remaining_bytes = 0;
 			}
 			else {
@@ -689,70 +969,323 @@ public final class Flake implements IClose<IOException>, IFlake {
 			}
 		}
 		while( remaining_bytes > 0 );
-		Chunk last_chunk;
-		long length_change = 0;
+		if( is_reservation ) {
+			reserved_length -= number_of_bytes;
+		}
+		else {
+			length -= number_of_bytes;
+		}
+		is_consistency_checked = false;
+		publishLayout();
+		if( trimmed_chunk != null ) {
+			trimmed_chunk.save(this);
+		}
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.api.IFlake#coalesceChunks()
+	 */
+	@Override public int coalesceChunks() {
 		synchronized( chunk_list ) {
-			if( chunk_list.isEmpty() ) {
-				last_chunk = null;
-			}
-			else {
-				last_chunk = chunk_list.get( chunk_list.size() - 1 );
+			int chunk_list_size = chunk_list.size();
+			if( chunk_list_size < 2 ) {
+				return 0;
 			}
-			for( Chunk chunk : list ) {
-				length_change += chunk.getLength();
-				if( last_chunk != null ) {
-					chunk.setPositionInFlake( last_chunk.getPositionInFlake() + last_chunk.getLength() );
+			ArrayList<Chunk> coalesced_chunk_list = new ArrayList<>(chunk_list_size);
+			ArrayList<Chunk> removed_chunk_list = new ArrayList<>();
+			ArrayList<Chunk> run_list = new ArrayList<>();
+			BitSet changed_index_set = new BitSet(chunk_list_size);
+			// the reserved chunks are not part of the flake and stay as they are
+			int index_of_reservation = getIndexOfReservation();
+			Chunk current_chunk;
+			Chunk last_chunk;
+			for(int a=0;a<=index_of_reservation;a++) {
+				current_chunk = a < index_of_reservation ? chunk_list.get(a) : null;
+				if( !run_list.isEmpty() ) {
+					last_chunk = run_list.get(run_list.size() - 1);
+					if( current_chunk == null 
+							|| last_chunk.getStartAddress() + last_chunk.getLength() != current_chunk.getStartAddress() ) {
+						if( run_list.size() == 1 ) {
+							coalesced_chunk_list.add(last_chunk);
+						}
+						else {
+							// the chunk after the joined chunk has been linked to the last chunk of the run
+							changed_index_set.set(coalesced_chunk_list.size(), coalesced_chunk_list.size() + 2);
+							coalesced_chunk_list.add(chunk_manager.joinChunks(run_list));
+							removed_chunk_list.addAll(run_list.subList(1, run_list.size()));
+						}
+						run_list.clear();
+					}
 				}
-				else {
-					chunk.setPositionInFlake(0);
+				if( current_chunk != null ) {
+					run_list.add(current_chunk);
 				}
-				last_chunk = chunk;
 			}
-			chunk_list.addAll(list);
-			length += length_change;
+			if( removed_chunk_list.isEmpty() ) {
+				return 0;
+			}
+			coalesced_chunk_list.addAll(chunk_list.subList(index_of_reservation, chunk_list_size));
+			chunk_list.clear();
+			chunk_list.addAll(coalesced_chunk_list);
 			is_consistency_checked = false;
+			publishLayout();
+			// the joined chunks would overlap the entries of the removed chunks, so these are deleted first - a crash
+			// in between only loses space, if the table is written through (see TableDurability.Buffered)
+			for( Chunk chunk : removed_chunk_list ) {
+				chunk.delete();
+			}
+			for(int a=changed_index_set.nextSetBit(0);a!=-1 && a<chunk_list.size();a=changed_index_set.nextSetBit(a+1)) {
+				chunk_list.get(a).save(this);
+			}
+			return removed_chunk_list.size();
+		}
+	}
+	
+	
+	/**
+	 * <p>the index of the first {@link Chunk#isReserved() reserved chunk} - the caller must hold the lock of the
+	 * {@link #chunk_list}</p>
+	 *
+	 * @return the index of the first reserved chunk or the number of chunks, if no bytes are reserved
+	 */
+	private int getIndexOfReservation() {
+		int index = chunk_list.size();
+		while( index > 0 && chunk_list.get(index - 1).isReserved() ) {
+			index--;
+		}
+		return index;
+	}
+	
+	
+	/**
+	 * <p>returns the reserved bytes at the end of the chunks</p>
+	 */
+	void releaseReservation() {
+		synchronized( chunk_list ) {
+			if( reserved_length != 0 ) {
+				removeFromEnd(reserved_length, true);
+			}
 		}
 	}
 	
 	
 	/* (non-Javadoc)
-	 * @see snowflake.api.IFlake#expandAtStart(long)
+	 * @see snowflake.api.IFlake#reserveSpace(long)
 	 */
-	@Override public void expandAtStart(long number_of_bytes) {
-		Collection<Chunk> chunk_collection = chunk_manager.allocateSpace(number_of_bytes);
-		Chunk previous_chunk, current_chunk;
+	@Override public void reserveSpace(long number_of_bytes) {
+		Checker.checkForBoundaries(number_of_bytes, 0, Long.MAX_VALUE, GlobalString.NumberOfBytes.toString());
 		synchronized( chunk_list ) {
-			for( Chunk chunk : chunk_collection ) {
-				Checker.checkForValidation(chunk, GlobalString.Chunk.toString());
-				if( chunk_list.contains(chunk) ) {
-					throw new SecurityException("The flake already contains this chunk: " + chunk.toString() + "!");
-				}
+			if( reserved_length < number_of_bytes ) {
+				appendSpace(number_of_bytes - reserved_length, true);
 			}
-			if( !chunk_list.isEmpty() ) {
-				chunk_collection.addAll(chunk_list);
-				chunk_list.clear();
+		}
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return {@link #reserved_length}
+	 */
+	public long getReservedLength() {
+		synchronized( chunk_list ) {
+			return reserved_length;
+		}
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	StreamGrowthPolicy getStreamGrowthPolicy() {
+		return stream_growth_policy;
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.api.IFlake#cutAt(long, long)
+	 */
+	@Override public void cutAt(long position_in_flake, long number_of_bytes) {
+		synchronized( chunk_list ) {
+			releaseReservation();
+			Checker.checkForBoundaries(position_in_flake, 0, getLength() - 1, GlobalString.PositionInFlake.toString());
+			Checker.checkForBoundaries(
+				number_of_bytes, 1, getLength() - position_in_flake, GlobalString.NumberOfBytes.toString()
+			);
+			LinkedHashSet<Chunk> changed_chunk_set = new LinkedHashSet<>();
+			int start_index = splitAt(position_in_flake, changed_chunk_set);
+			int end_index = splitAt(position_in_flake + number_of_bytes, changed_chunk_set);
+			List<Chunk> removed_chunk_list = chunk_list.subList(start_index, end_index);
+			changed_chunk_set.removeAll(removed_chunk_list);
+			chunk_manager.recycleChunks(new ArrayList<>(removed_chunk_list));
+			removed_chunk_list.clear();
+			length -= number_of_bytes;
+			// the chunk after the removed chunks is the only one whose predecessor has changed
+			if( start_index < chunk_list.size() ) {
+				changed_chunk_set.add(chunk_list.get(start_index));
 			}
-			chunk_list.addAll(chunk_collection);
+			updatePositionsFrom(start_index);
 			is_consistency_checked = false;
-			previous_chunk = chunk_list.get(0);
-			previous_chunk.setPositionInFlake(0);
-			previous_chunk.save(this);
-			for(int a=1,n=chunk_list.size();a<n;a++) {
-				current_chunk = chunk_list.get(a);
-				current_chunk.setPositionInFlake(previous_chunk.getPositionInFlake() + previous_chunk.getLength());
-				current_chunk.save(this);
+			publishLayout();
+			for( Chunk chunk : changed_chunk_set ) {
+				chunk.save(this);
 			}
 		}
 	}
 	
 	
+	/* (non-Javadoc)
+	 * @see snowflake.api.IFlake#expandAtStart(long)
+	 */
+	@Override public void expandAtStart(long number_of_bytes) {
+		expandAt(0, number_of_bytes);
+	}
+	
+	
 	/* (non-Javadoc)
 	 * @see snowflake.api.IFlake#expandAtEnd(long)
 	 */
 	@Override public void expandAtEnd(long number_of_bytes) {
-		Collection<Chunk> chunk_collection = chunk_manager.allocateSpace(number_of_bytes);
+		synchronized( chunk_list ) {
+			// the reserved bytes already follow the last byte of the flake
+			long reserved_bytes = Math.min(reserved_length, number_of_bytes);
+			if( reserved_bytes != 0 ) {
+				useReservation(reserved_bytes);
+			}
+			if( reserved_bytes != number_of_bytes ) {
+				appendSpace(number_of_bytes - reserved_bytes, false);
+			}
+		}
+	}
+	
+	
+	/**
+	 * <p>turns the first number_of_bytes reserved bytes into bytes of the {@link #length} - the caller must hold the
+	 * lock of the {@link #chunk_list}</p>
+	 * <p>
+	 * 		Whole reserved chunks are saved without their reservation. A reserved chunk which is only partly used hands
+	 * 		its first bytes over to the last chunk of the flake, if it directly follows this chunk in the data file, and
+	 * 		is split otherwise. The shrunk reserved chunk is saved before the chunk which grows - a crash in between
+	 * 		only loses space, if the chunk table is written through
+	 * 		(see {@link snowflake.core.storage.TableDurability#Buffered}).
+	 * </p>
+	 *
+	 * @param number_of_bytes the number of bytes - must not be larger than the {@link #reserved_length}
+	 */
+	private void useReservation(long number_of_bytes) {
+		ArrayList<Chunk> changed_chunk_list = new ArrayList<>(2);
+		int index = getIndexOfReservation();
+		long remaining_bytes = number_of_bytes;
+		Chunk reserved_chunk;
 		Chunk last_chunk;
+		SplitChunk split_chunk;
+		while( remaining_bytes != 0 ) {
+			reserved_chunk = chunk_list.get(index);
+			if( reserved_chunk.getLength() <= remaining_bytes ) {
+				reserved_chunk.setReserved(false);
+				changed_chunk_list.add(reserved_chunk);
+				remaining_bytes -= reserved_chunk.getLength();
+				index++;
+				continue;
+			}
+			last_chunk = index == 0 ? null : chunk_list.get(index - 1);
+			if( last_chunk != null 
+					&& last_chunk.getStartAddress() + last_chunk.getLength() == reserved_chunk.getStartAddress() ) {
+				split_chunk = chunk_manager.moveChunkBoundary(last_chunk, reserved_chunk, remaining_bytes);
+				chunk_list.set(index - 1, split_chunk.getLeftChunk());
+				// the last chunk might have been reserved until now - it is saved with its new length instead
+				changed_chunk_list.remove(last_chunk);
+			}
+			else {
+				split_chunk = chunk_manager.splitChunk(reserved_chunk, remaining_bytes);
+				chunk_list.add(index, split_chunk.getLeftChunk());
+				index++;
+			}
+			split_chunk.getRightChunk().setReserved(true);
+			chunk_list.set(index, split_chunk.getRightChunk());
+			changed_chunk_list.add(0, split_chunk.getRightChunk());
+			changed_chunk_list.add(split_chunk.getLeftChunk());
+			remaining_bytes = 0;
+		}
+		reserved_length -= number_of_bytes;
+		length += number_of_bytes;
+		is_consistency_checked = false;
+		// must be published before chunk.save(this) is called
+		publishLayout();
+		for( Chunk chunk : changed_chunk_list ) {
+			chunk.save(this);
+		}
+	}
+	
+	
+	/**
+	 * <p>adds number_of_bytes bytes at the end of the chunks</p>
+	 *
+	 * @param number_of_bytes the number of bytes
+	 * @param is_reservation true if the bytes are added to the {@link #reserved_length} in reserved chunks, false if
+	 * they are added to the {@link #length} - which requires that no bytes are reserved
+	 */
+	private void appendSpace(long number_of_bytes, boolean is_reservation) {
+		long remaining_bytes = number_of_bytes;
 		synchronized( chunk_list ) {
+			if( !is_reservation && reserved_length != 0 ) {
+				throw new SecurityException("The reserved bytes must be used before the flake is expanded!");
+			}
+			if( !chunk_list.isEmpty() ) {
+				int last_index = chunk_list.size() - 1;
+				Chunk last_chunk = chunk_list.get(last_index);
+				Chunk changed_chunk;
+				long appended_length = 0;
+				if( is_reservation && !last_chunk.isReserved() ) {
+					// the reserved bytes need a chunk of their own - directly after the last chunk, so that they can be
+					// handed over to it when they are used
+					changed_chunk = chunk_manager.allocateSpaceAt(
+						last_chunk.getStartAddress() + last_chunk.getLength(), remaining_bytes
+					);
+					if( changed_chunk != null ) {
+						changed_chunk.setPositionInFlake(last_chunk.getPositionInFlake() + last_chunk.getLength());
+						chunk_list.add(changed_chunk);
+						appended_length = changed_chunk.getLength();
+					}
+				}
+				else {
+					// the last chunk is extended in place, if the space directly after it is available
+					changed_chunk = chunk_manager.extendChunk(last_chunk, remaining_bytes);
+					if( changed_chunk != null ) {
+						chunk_list.set(last_index, changed_chunk);
+						appended_length = changed_chunk.getLength() - last_chunk.getLength();
+					}
+				}
+				if( changed_chunk != null ) {
+					changed_chunk.setReserved(is_reservation);
+					remaining_bytes -= appended_length;
+					is_consistency_checked = false;
+					if( remaining_bytes == 0 ) {
+						addLength(number_of_bytes, is_reservation);
+					}
+					// must be published before chunk.save(this) is called
+					publishLayout();
+					changed_chunk.save(this);
+				}
+			}
+			if( remaining_bytes == 0 ) {
+				return;
+			}
+			// the lock is held during the allocation, so that no reservation can come in between
+			Collection<Chunk> chunk_collection;
+			if( is_reservation ) {
+				chunk_collection = new ArrayList<>(1);
+				chunk_collection.add(chunk_manager.allocateContiguousSpace(remaining_bytes));
+			}
+			else {
+				chunk_collection = chunk_manager.allocateSpace(remaining_bytes);
+			}
+			Chunk last_chunk;
 			if( chunk_list.isEmpty() ) {
 				last_chunk = null;
 			}
@@ -764,6 +1297,7 @@ public final class Flake implements IClose<IOException>, IFlake {
 				if( chunk_list.contains(chunk) ) {
 					throw new SecurityException("The flake already contains this chunk: " + chunk.toString() + "!");
 				}
+				chunk.setReserved(is_reservation);
 				if( last_chunk != null ) {
 					chunk.setPositionInFlake( last_chunk.getPositionInFlake() + last_chunk.getLength() );
 				}
@@ -771,11 +1305,28 @@ public final class Flake implements IClose<IOException>, IFlake {
 					chunk.setPositionInFlake(0);
 				}
 				chunk_list.add(chunk);
-				length += chunk.getLength();
-				chunk.save(this);
 				is_consistency_checked = false;
 				last_chunk = chunk;
 			}
+			addLength(number_of_bytes, is_reservation);
+			publishLayout();
+			for( Chunk chunk : chunk_collection ) {
+				chunk.save(this);
+			}
+		}
+	}
+	
+	
+	/**
+	 * <p>adds number_of_bytes to the {@link #reserved_length} or to the {@link #length} - the caller must hold the
+	 * lock of the {@link #chunk_list}</p>
+	 */
+	private void addLength(long number_of_bytes, boolean is_reservation) {
+		if( is_reservation ) {
+			reserved_length += number_of_bytes;
+		}
+		else {
+			length += number_of_bytes;
 		}
 	}
 	
@@ -784,53 +1335,34 @@ public final class Flake implements IClose<IOException>, IFlake {
 	 * @see snowflake.api.IFlake#expandAt(long, long)
 	 */
 	@Override public void expandAt(long position_in_flake, long number_of_bytes) {
-		Checker.checkForBoundaries(
-			number_of_bytes, 1, getLength(), GlobalString.NumberOfBytes.toString()
-		);
-		List<Chunk> list = removeAllChunksFrom(position_in_flake);
-		Chunk current_chunk;
-		if( !list.isEmpty() && list.get(0).containsFlakePosition(position_in_flake) ) {
-			current_chunk = list.remove(0);
-			SplitChunk split_chunk = chunk_manager.splitChunk(
-				current_chunk, current_chunk.getPositionInFlake() - position_in_flake
-			);
-			synchronized( chunk_list ) {
-				chunk_list.add(split_chunk.getLeftChunk());
-				if( chunk_list.isEmpty() ) {
-					split_chunk.getLeftChunk().setPositionInFlake(0);
-				}
-				else {
-					Chunk previous_chunk = chunk_list.get(chunk_list.size() - 1);
-					split_chunk.getLeftChunk().setPositionInFlake(
-						previous_chunk.getPositionInFlake() + previous_chunk.getLength()
-					);
+		Checker.checkForBoundaries(number_of_bytes, 1, Long.MAX_VALUE, GlobalString.NumberOfBytes.toString());
+		synchronized( chunk_list ) {
+			releaseReservation();
+			Checker.checkForBoundaries(position_in_flake, 0, getLength(), GlobalString.PositionInFlake.toString());
+			LinkedHashSet<Chunk> changed_chunk_set = new LinkedHashSet<>();
+			int start_index = splitAt(position_in_flake, changed_chunk_set);
+			Collection<Chunk> chunk_collection = chunk_manager.allocateSpace(number_of_bytes);
+			for( Chunk chunk : chunk_collection ) {
+				Checker.checkForValidation(chunk, GlobalString.Chunk.toString());
+				if( chunk_list.contains(chunk) ) {
+					throw new SecurityException("The flake already contains this chunk: " + chunk.toString() + "!");
 				}
 			}
-			list.add(0, split_chunk.getRightChunk());
-		}
-		Collection<Chunk> collection = chunk_manager.allocateSpace(number_of_bytes);
-		collection.addAll(list);
-		synchronized( chunk_list ) {
-			Chunk previous_chunk = null;
-			if( !chunk_list.isEmpty() ) {
-				previous_chunk = chunk_list.get( chunk_list.size() - 1 );
+			// must be added and published before chunk.save(this) is called
+			chunk_list.addAll(start_index, chunk_collection);
+			changed_chunk_set.addAll(chunk_collection);
+			// the chunk after the new chunks is the only one whose predecessor has changed
+			int end_index = start_index + chunk_collection.size();
+			if( end_index < chunk_list.size() ) {
+				changed_chunk_set.add(chunk_list.get(end_index));
 			}
-			// must be added before chunk.save(this) is called
-			chunk_list.addAll(collection);
-			long length_change = 0;
-			for( Chunk chunk : collection ) {
-				if( previous_chunk == null ) {
-					chunk.setPositionInFlake(0);
-				}
-				else {
-					chunk.setPositionInFlake( previous_chunk.getPositionInFlake() + previous_chunk.getLength() );
-				}
+			length += number_of_bytes;
+			updatePositionsFrom(start_index);
+			is_consistency_checked = false;
+			publishLayout();
+			for( Chunk chunk : changed_chunk_set ) {
 				chunk.save(this);
-				length_change += chunk.getLength();
-				previous_chunk = chunk;
 			}
-			length += length_change;
-			is_consistency_checked = false;
 		}
 	}
 	
@@ -0,0 +1,194 @@
+package snowflake.core;
+
+import java.util.List;
+
+
+/**
+ * <p>an immutable snapshot of the chunks of a flake</p>
+ * <p>
+ * 		The positions, lengths and start addresses are copied into primitive arrays at the time the snapshot is
+ * 		taken, so that readers never need to lock the flake and never see a chunk whose position is being changed.
+ * 		The flake publishes a new snapshot after every change of its chunks.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+final class FlakeLayout {
+	
+	
+	/**
+	 * <p></p>
+	 */
+	private final Chunk[] chunk_array;
+	
+	
+	/**
+	 * <p></p>
+	 */
+	private final long[] position_array;
+	
+	
+	/**
+	 * <p></p>
+	 */
+	private final long[] length_array;
+	
+	
+	/**
+	 * <p></p>
+	 */
+	private final long[] address_array;
+	
+	
+	/**
+	 * <p>the modification count of the flake this snapshot has been taken at</p>
+	 */
+	private final long modification_count;
+	
+	
+	/**
+	 * <p>takes the snapshot - the caller must hold the lock of the chunk_list</p>
+	 *
+	 * @param chunk_list the chunks of the flake
+	 * @param modification_count the modification count of the flake
+	 */
+	FlakeLayout(List<Chunk> chunk_list, long modification_count) {
+		int size = chunk_list.size();
+		chunk_array = chunk_list.toArray(new Chunk[size]);
+		position_array = new long[size];
+		length_array = new long[size];
+		address_array = new long[size];
+		for(int a=0;a<size;a++) {
+			position_array[a] = chunk_array[a].getPositionInFlake();
+			length_array[a] = chunk_array[a].getLength();
+			address_array[a] = chunk_array[a].getStartAddress();
+		}
+		this.modification_count = modification_count;
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	int size() {
+		return chunk_array.length;
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	long getModificationCount() {
+		return modification_count;
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	Chunk getChunk(int index) {
+		return chunk_array[index];
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	Chunk[] toChunkArray() {
+		return chunk_array.clone();
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	long getPositionInFlake(int index) {
+		return position_array[index];
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	long getLength(int index) {
+		return length_array[index];
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	long getStartAddress(int index) {
+		return address_array[index];
+	}
+	
+	
+	/**
+	 * <p>binary search for the chunk which contains position_in_flake</p>
+	 *
+	 * @param position_in_flake position in flake
+	 * @return the index of the chunk or -1, if no chunk contains the position
+	 */
+	int getIndexAtPositionInFlake(long position_in_flake) {
+		int left_index = 0;
+		int right_index = position_array.length - 1;
+		int current_index;
+		while( left_index <= right_index ) {
+			current_index = (left_index + right_index) >>> 1;
+			if( position_in_flake < position_array[current_index] ) {
+				right_index = current_index - 1;
+			}
+			else if( position_in_flake >= position_array[current_index] + length_array[current_index] ) {
+				left_index = current_index + 1;
+			}
+			else {
+				return current_index;
+			}
+		}
+		return -1;
+	}
+	
+	
+	/**
+	 * <p>searches the chunk by its position in the flake first and compares all chunks only if that fails</p>
+	 *
+	 * @param chunk the chunk
+	 * @return the index of the chunk or -1, if the snapshot does not contain the chunk
+	 */
+	int indexOf(Chunk chunk) {
+		int index = getIndexAtPositionInFlake(chunk.getPositionInFlake());
+		if( index != -1 && chunk_array[index].equals(chunk) ) {
+			return index;
+		}
+		for(int a=0;a<chunk_array.length;a++) {
+			if( chunk_array[a].equals(chunk) ) {
+				return a;
+			}
+		}
+		return -1;
+	}
+	
+}
@@ -14,9 +14,14 @@ import snowflake.core.storage.IWrite;
 
 /**
  * <p></p>
+ * <p>
+ * 		A write beyond the end of the flake reserves space according to the {@link StreamGrowthPolicy} of the flake.
+ * 		Following writes use the reserved bytes without allocating and the bytes which have not been written are
+ * 		returned on {@link #close()}.
+ * </p>
  * 
  * @since JDK 1.8
- * @version 2016.09.30_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public final class FlakeOutputStream implements WritableByteChannel {
@@ -106,6 +111,8 @@ public final class FlakeOutputStream implements WritableByteChannel {
 	 */
 	public void ensureCapacity(long number_of_bytes) {
 		if( number_of_bytes > flake.getLength() ) {
+			// reserving first lays the new bytes out contiguously
+			flake.reserveSpace(number_of_bytes - flake.getLength());
 			flake.setLength(number_of_bytes);
 		}
 	}
@@ -119,11 +126,25 @@ public final class FlakeOutputStream implements WritableByteChannel {
 	 */
 	public void ensureRemainingCapacity(long number_of_bytes) {
 		if( number_of_bytes > data_pointer.getRemainingBytes() ) {
+			flake.reserveSpace(number_of_bytes - data_pointer.getRemainingBytes());
 			flake.setLength(data_pointer.getFlakeLength() - data_pointer.getRemainingBytes() + number_of_bytes);
 		}
 	}
 	
 	
+	/**
+	 * <p>reserves space, so that number_of_bytes bytes can be written from the current position without any further
+	 * allocation - the length of the flake does not change and the unused space is returned on {@link #close()}</p>
+	 *
+	 * @param number_of_bytes the number of bytes which will be written
+	 */
+	public void reserveSpace(long number_of_bytes) {
+		if( number_of_bytes > data_pointer.getRemainingBytes() ) {
+			flake.reserveSpace(number_of_bytes - data_pointer.getRemainingBytes());
+		}
+	}
+	
+	
 	/* (non-Javadoc)
 	 * @see java.nio.channels.WritableByteChannel#write(java.nio.ByteBuffer)
 	 */
@@ -134,7 +155,11 @@ public final class FlakeOutputStream implements WritableByteChannel {
 		long remaining_bytes = data_pointer.getRemainingBytes();
 		int length = buffer.remaining();
 		if( remaining_bytes < length ) {
-			flake.setLength( flake.getLength() + length - remaining_bytes );
+			long missing_bytes = length - remaining_bytes;
+			if( flake.getReservedLength() < missing_bytes ) {
+				flake.reserveSpace(flake.getStreamGrowthPolicy().getReservation(flake.getLength(), missing_bytes));
+			}
+			flake.expandAtEnd(missing_bytes);
 		}
 		write.write(data_pointer, buffer);
 		return length;
@@ -149,8 +174,10 @@ public final class FlakeOutputStream implements WritableByteChannel {
 		if( is_closed ) {
 			return;
 		}
-		channel_returner.returnChannel(write);
 		is_closed = true;
+		flake.releaseReservation();
+		flake.closeOutputStream();
+		channel_returner.returnChannel(write);
 	}
 	
 	
@@ -0,0 +1,24 @@
+package snowflake.core;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * <p>data which is stored as an entry of fixed length in a {@link DataTable}</p>
+ * 
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public interface IBinaryRecord {
+	
+	
+	/**
+	 * <p>writes this entry into buffer without changing its position</p>
+	 *
+	 * @param buffer the destination
+	 * @param offset the position of the entry in buffer
+	 */
+	void putRecord(ByteBuffer buffer, int offset);
+	
+}
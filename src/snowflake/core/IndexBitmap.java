@@ -0,0 +1,348 @@
+package snowflake.core;
+
+import java.util.ArrayList;
+
+import j3l.util.Checker;
+import snowflake.GlobalString;
+import snowflake.StaticMode;
+
+
+/**
+ * <p>a set of indices which is stored as a hierarchical bitmap</p>
+ * <p>
+ * 		The lowest level holds one bit per index. Every higher level holds one bit per word of the level below it, which
+ * 		is set if that word is not 0. The highest level consists of a single word, so that the lowest index is found by
+ * 		descending from this word - one step per level, which are at most 6 levels for all indices up to
+ * 		{@link #MAXIMUM_INDEX}. The set is not synchronized.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class IndexBitmap {
+
+
+	/**
+	 * <p>the highest index which can be stored - the indices of the chunk table are stored as int</p>
+	 */
+	public final static long MAXIMUM_INDEX = Integer.MAX_VALUE;
+
+
+	/**
+	 * <p>level 0 holds the bits of the indices, the last level consists of a single word</p>
+	 */
+	private long[][] level_array;
+
+
+	/**
+	 * <p>the number of indices in the set</p>
+	 */
+	private long size;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public IndexBitmap() {
+		clear();
+	}
+
+
+	/**
+	 * <p>adds the index</p>
+	 *
+	 * @param index the index
+	 * @return true if the index has been added, false if it is already in the set
+	 */
+	public boolean add(long index) {
+		IndexBitmap.checkIndex(index);
+		ensureCapacity(index);
+		// cast is okay, because index is at most MAXIMUM_INDEX
+		int word_index = (int)(index >>> 6);
+		long[] bit_array = level_array[0];
+		long mask = 1L << index;
+		if( ( bit_array[word_index] & mask ) != 0 ) {
+			return false;
+		}
+		boolean was_empty = bit_array[word_index] == 0;
+		bit_array[word_index] |= mask;
+		for(int level=1;level<level_array.length&&was_empty;level++) {
+			was_empty = level_array[level][word_index >>> 6] == 0;
+			level_array[level][word_index >>> 6] |= 1L << word_index;
+			word_index >>>= 6;
+		}
+		size++;
+		return true;
+	}
+
+
+	/**
+	 * <p>adds all indices from first_index to end_index (exclusive)</p>
+	 *
+	 * @param first_index the first index
+	 * @param end_index the index after the last index
+	 * @return the number of indices which have been added
+	 */
+	public long addRange(long first_index, long end_index) {
+		if( end_index <= first_index ) {
+			return 0;
+		}
+		IndexBitmap.checkIndex(end_index - 1);
+		long number_of_added_indices = 0;
+		for(long index=first_index;index<end_index;index++) {
+			if( add(index) ) {
+				number_of_added_indices++;
+			}
+		}
+		return number_of_added_indices;
+	}
+
+
+	/**
+	 * <p>adds all indices whose bits are set in word_array - bit b of word w stands for the index 64 * w + b, like in
+	 * the lowest level of the bitmap</p>
+	 *
+	 * @param word_array the bits of the indices
+	 * @return the number of indices which have been added
+	 */
+	public long addAll(long[] word_array) {
+		if( StaticMode.TESTING_MODE ) {
+			Checker.checkForNull(word_array, GlobalString.IndexWordArray.toString());
+		}
+		int end_word_index = word_array.length;
+		while( end_word_index > 0 && word_array[end_word_index - 1] == 0 ) {
+			end_word_index--;
+		}
+		if( end_word_index == 0 ) {
+			return 0;
+		}
+		long last_index = ( (long)( end_word_index - 1 ) << 6 ) + 63 
+				- Long.numberOfLeadingZeros(word_array[end_word_index - 1]);
+		IndexBitmap.checkIndex(last_index);
+		ensureCapacity(last_index);
+		long[] bit_array = level_array[0];
+		long number_of_added_indices = 0;
+		for(int a=0;a<end_word_index;a++) {
+			number_of_added_indices += Long.bitCount(word_array[a] & ~bit_array[a]);
+			bit_array[a] |= word_array[a];
+		}
+		buildLevels(bit_array);
+		size += number_of_added_indices;
+		return number_of_added_indices;
+	}
+
+
+	/**
+	 * <p>removes the index</p>
+	 *
+	 * @param index the index
+	 * @return true if the index has been removed, false if it is not in the set
+	 */
+	public boolean remove(long index) {
+		if( !contains(index) ) {
+			return false;
+		}
+		// cast is okay, because the index is in the set
+		int word_index = (int)(index >>> 6);
+		level_array[0][word_index] &= ~(1L << index);
+		for(int level=1;level<level_array.length&&level_array[level-1][word_index]==0;level++) {
+			level_array[level][word_index >>> 6] &= ~(1L << word_index);
+			word_index >>>= 6;
+		}
+		size--;
+		return true;
+	}
+
+
+	/**
+	 * <p>removes all indices which are greater than or equal to first_index</p>
+	 *
+	 * @param first_index the first index which will be removed
+	 */
+	public void removeFrom(long first_index) {
+		if( StaticMode.TESTING_MODE ) {
+			Checker.checkForBoundaries(first_index, 0, Long.MAX_VALUE, GlobalString.Index.toString());
+		}
+		long[] bit_array = level_array[0];
+		if( ( first_index >>> 6 ) >= bit_array.length ) {
+			return;
+		}
+		// cast is okay, because first_index >>> 6 is smaller than bit_array.length
+		int word_index = (int)(first_index >>> 6);
+		long mask = ( 1L << first_index ) - 1;
+		size -= Long.bitCount(bit_array[word_index] & ~mask);
+		bit_array[word_index] &= mask;
+		for(int a=word_index+1;a<bit_array.length;a++) {
+			size -= Long.bitCount(bit_array[a]);
+			bit_array[a] = 0;
+		}
+		buildLevels(bit_array);
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public boolean contains(long index) {
+		if( index < 0 || ( index >>> 6 ) >= level_array[0].length ) {
+			return false;
+		}
+		// cast is okay, because index >>> 6 is smaller than the length of the array
+		return ( level_array[0][(int)(index >>> 6)] & ( 1L << index ) ) != 0;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the lowest index or -1, if the set is empty
+	 */
+	public long first() {
+		if( size == 0 ) {
+			return -1;
+		}
+		int word_index = 0;
+		for(int level=level_array.length-1;level>0;level--) {
+			word_index = ( word_index << 6 ) + Long.numberOfTrailingZeros(level_array[level][word_index]);
+		}
+		return ( (long)word_index << 6 ) + Long.numberOfTrailingZeros(level_array[0][word_index]);
+	}
+
+
+	/**
+	 * <p>searches the highest index below end_index which is not in the set - the words are searched from the end,
+	 * so the cost grows with the number of indices in the set behind the result</p>
+	 *
+	 * @param end_index the index after the last index which is searched
+	 * @return the highest index which is not in the set or -1, if all indices below end_index are in the set
+	 */
+	public long lastAbsentBefore(long end_index) {
+		long[] bit_array = level_array[0];
+		long index = end_index - 1;
+		long word_index;
+		long absent_bits;
+		while( index >= 0 ) {
+			word_index = index >>> 6;
+			if( word_index >= bit_array.length ) {
+				return index;
+			}
+			// cast is okay, because word_index is smaller than bit_array.length - the bits above index are ignored
+			absent_bits = ~bit_array[(int)word_index] & ( -1L >>> ( 63 - ( index & 63 ) ) );
+			if( absent_bits != 0 ) {
+				return ( word_index << 6 ) + 63 - Long.numberOfLeadingZeros(absent_bits);
+			}
+			index = ( word_index << 6 ) - 1;
+		}
+		return -1;
+	}
+
+
+	/**
+	 * <p>removes the lowest index</p>
+	 *
+	 * @return the lowest index or -1, if the set is empty
+	 */
+	public long pollFirst() {
+		long index = first();
+		if( index != -1 ) {
+			remove(index);
+		}
+		return index;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public long size() {
+		return size;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+
+	/**
+	 * <p>removes all indices and releases the memory of the bitmap</p>
+	 */
+	public void clear() {
+		level_array = new long[][] { new long[1] };
+		size = 0;
+	}
+
+
+	/**
+	 * <p>grows the lowest level, so that it can hold index - the length is at least doubled</p>
+	 *
+	 * @param index the index
+	 */
+	private void ensureCapacity(long index) {
+		long[] bit_array = level_array[0];
+		if( ( index >>> 6 ) < bit_array.length ) {
+			return;
+		}
+		long new_length = Math.max(( index >>> 6 ) + 1, 2L * bit_array.length);
+		// cast is okay, because the number of words needed for MAXIMUM_INDEX is smaller than int
+		long[] new_bit_array = new long[(int)Math.min(new_length, ( IndexBitmap.MAXIMUM_INDEX >>> 6 ) + 1)];
+		System.arraycopy(bit_array, 0, new_bit_array, 0, bit_array.length);
+		buildLevels(new_bit_array);
+	}
+
+
+	/**
+	 * <p>builds all higher levels on top of bit_array</p>
+	 *
+	 * @param bit_array the bits of the indices
+	 */
+	private void buildLevels(long[] bit_array) {
+		ArrayList<long[]> level_list = new ArrayList<>();
+		level_list.add(bit_array);
+		long[] lower_level = bit_array;
+		long[] upper_level;
+		while( lower_level.length > 1 ) {
+			upper_level = new long[( lower_level.length + 63 ) >>> 6];
+			for(int a=0;a<lower_level.length;a++) {
+				if( lower_level[a] != 0 ) {
+					upper_level[a >>> 6] |= 1L << a;
+				}
+			}
+			level_list.add(upper_level);
+			lower_level = upper_level;
+		}
+		level_array = level_list.toArray(new long[level_list.size()][]);
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	private static void checkIndex(long index) {
+		if( index < 0 || index > IndexBitmap.MAXIMUM_INDEX ) {
+			throw new IndexOutOfBoundsException("The index " + index + " must lie between 0 and "
+					+ IndexBitmap.MAXIMUM_INDEX + "!");
+		}
+	}
+
+}
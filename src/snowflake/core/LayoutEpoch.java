@@ -0,0 +1,101 @@
+package snowflake.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * <p>tracks the channels which use the layout of a flake, so that chunks which have been replaced are only recycled
+ * or released after every reader which could still see them is gone</p>
+ * <p>
+ * 		A channel {@link #enter() enters} the current epoch before it resolves the segments of a flake and
+ * 		{@link #exit(long) exits} it after its io is done. The layout is resolved anew by every call, so an open
+ * 		stream does not hold on to an old layout between two calls. After the chunks of a flake have been replaced,
+ * 		{@link #awaitReaders()} advances the epoch and waits until all channels which have entered the previous one
+ * 		have exited it - the replaced chunks can not be seen by anyone afterwards.
+ * </p>
+ * <p>
+ * 		The readers are counted in two slots by the parity of the epoch, so a reader never waits and
+ * 		{@link #awaitReaders()} only waits for the readers which have entered before it has been called.
+ * 		{@link #awaitReaders()} must not be called while holding a lock a reader may need.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class LayoutEpoch {
+
+
+	/**
+	 * <p>the time in nanoseconds {@link #awaitReaders()} parks between two checks</p>
+	 */
+	private final static long PARK_TIME = 100_000L;
+
+
+	/**
+	 * <p>the number of readers in the even and in the odd epochs</p>
+	 */
+	private final AtomicLongArray reader_count_array;
+
+
+	/**
+	 * <p></p>
+	 */
+	private volatile long epoch;
+
+
+	/**
+	 * <p></p>
+	 */
+	public LayoutEpoch() {
+		reader_count_array = new AtomicLongArray(2);
+		epoch = 0;
+	}
+
+
+	/**
+	 * <p>enters the current epoch - must be called before the segments of a flake are resolved</p>
+	 *
+	 * @return the epoch which has to be passed to {@link #exit(long)}
+	 */
+	public long enter() {
+		long current_epoch;
+		while( true ) {
+			current_epoch = epoch;
+			// cast is okay, because the slot is either 0 or 1
+			reader_count_array.incrementAndGet((int)(current_epoch & 1));
+			if( epoch == current_epoch ) {
+				return current_epoch;
+			}
+			// the epoch has been advanced in the meantime, so the reader might not be awaited
+			reader_count_array.decrementAndGet((int)(current_epoch & 1));
+		}
+	}
+
+
+	/**
+	 * <p>exits the epoch - must be called once the io which used the resolved segments is done</p>
+	 *
+	 * @param entered_epoch the epoch returned by {@link #enter()}
+	 */
+	public void exit(long entered_epoch) {
+		// cast is okay, because the slot is either 0 or 1
+		reader_count_array.decrementAndGet((int)(entered_epoch & 1));
+	}
+
+
+	/**
+	 * <p>advances the epoch and waits until every reader which has entered the previous epoch has exited it</p>
+	 */
+	public synchronized void awaitReaders() {
+		long previous_epoch = epoch;
+		epoch = previous_epoch + 1;
+		// cast is okay, because the slot is either 0 or 1
+		int previous_slot = (int)(previous_epoch & 1);
+		while( reader_count_array.get(previous_slot) != 0 ) {
+			LockSupport.parkNanos(LayoutEpoch.PARK_TIME);
+		}
+	}
+
+}
@@ -0,0 +1,121 @@
+package snowflake.core;
+
+import java.util.Arrays;
+
+import j3l.util.Checker;
+import snowflake.GlobalString;
+
+
+/**
+ * <p>a reusable list of the segments in the data file a range of a flake consists of</p>
+ * <p>
+ * 		A segment which starts directly at the end of the previously added segment is merged into it, so that a
+ * 		range spanning physically adjacent chunks results in a single segment.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class SegmentList {
+
+
+	/**
+	 * <p></p>
+	 */
+	private long[] address_array;
+
+
+	/**
+	 * <p></p>
+	 */
+	private int[] length_array;
+
+
+	/**
+	 * <p></p>
+	 */
+	private int size;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public SegmentList(int initial_capacity) {
+		Checker.checkForBoundaries(initial_capacity, 1, Integer.MAX_VALUE, GlobalString.InitialCapacity.toString());
+		address_array = new long[initial_capacity];
+		length_array = new int[initial_capacity];
+		size = 0;
+	}
+
+
+	/**
+	 * <p>removes all segments</p>
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+
+	/**
+	 * <p>adds the segment or merges it into the last segment, if it starts directly at its end</p>
+	 *
+	 * @param address the address of the segment in the data file
+	 * @param length the length of the segment
+	 */
+	public void add(long address, int length) {
+		if( size != 0 ) {
+			int last_index = size - 1;
+			if( address_array[last_index] + length_array[last_index] == address
+					&& length_array[last_index] <= Integer.MAX_VALUE - length ) {
+				length_array[last_index] += length;
+				return;
+			}
+		}
+		if( size == address_array.length ) {
+			int new_capacity = size < (Integer.MAX_VALUE >> 1) ? size << 1 : Integer.MAX_VALUE;
+			address_array = Arrays.copyOf(address_array, new_capacity);
+			length_array = Arrays.copyOf(length_array, new_capacity);
+		}
+		address_array[size] = address;
+		length_array[size] = length;
+		size++;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public int size() {
+		return size;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public long getAddress(int index) {
+		return address_array[index];
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public int getLength(int index) {
+		return length_array[index];
+	}
+
+}
@@ -0,0 +1,61 @@
+package snowflake.core;
+
+import j3l.util.Checker;
+import snowflake.GlobalString;
+
+
+/**
+ * <p>states how many bytes a {@link FlakeOutputStream} reserves when it writes beyond the end of its flake</p>
+ * <p>
+ * 		The reservation grows with the flake, so that the number of allocations while streaming into a flake is
+ * 		logarithmic in its final length. It is never smaller than the minimum reservation.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class StreamGrowthPolicy {
+
+
+	/**
+	 * <p>the minimum number of bytes which are reserved at once</p>
+	 */
+	private final long minimum_reservation;
+
+
+	/**
+	 * <p>the share of the current length of the flake which is reserved at once</p>
+	 */
+	private final double growth_rate;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public StreamGrowthPolicy(long minimum_reservation, double growth_rate) {
+		this.minimum_reservation = Checker.checkForBoundaries(
+			minimum_reservation, 0, Long.MAX_VALUE, GlobalString.MinimumReservation.toString()
+		);
+		this.growth_rate = Checker.checkForBoundaries(
+			growth_rate, 0, Double.MAX_VALUE, GlobalString.GrowthRate.toString()
+		);
+	}
+
+
+	/**
+	 * <p>the number of bytes which will be reserved</p>
+	 *
+	 * @param flake_length the current length of the flake
+	 * @param missing_bytes the number of bytes which are needed right away
+	 * @return the number of bytes to reserve - never smaller than missing_bytes
+	 */
+	public long getReservation(long flake_length, long missing_bytes) {
+		long reservation = Math.max(minimum_reservation, (long)( flake_length * growth_rate ));
+		return Math.max(reservation, missing_bytes);
+	}
+
+}
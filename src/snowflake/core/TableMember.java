@@ -1,6 +1,5 @@
 package snowflake.core;
 
-import j3l.util.IBinaryData;
 import j3l.util.Checker;
 import snowflake.GlobalString;
 import snowflake.StaticMode;
@@ -10,10 +9,10 @@ import snowflake.StaticMode;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.07.11_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
-public final class TableMember<T extends IBinaryData> {
+public final class TableMember<T extends IBinaryRecord> {
 	
 	
 	/**
@@ -25,7 +24,7 @@ public final class TableMember<T extends IBinaryData> {
 	/**
 	 * <p></p>
 	 */
-	private final IBinaryData binary_data;
+	private final T binary_data;
 	
 	
 	/**
@@ -65,7 +64,7 @@ public final class TableMember<T extends IBinaryData> {
 	 * @param
 	 * @return
 	 */
-	public IBinaryData getBinaryData() {
+	public T getBinaryData() {
 		return binary_data;
 	}
 	
@@ -76,7 +75,7 @@ public final class TableMember<T extends IBinaryData> {
 	 */
 	@Override public boolean equals(Object object) {
 		if( object != null && object instanceof TableMember<?> ) {
-			IBinaryData extern_binary_data = ((TableMember<?>)object).getBinaryData();
+			IBinaryRecord extern_binary_data = ((TableMember<?>)object).getBinaryData();
 			return 	extern_binary_data == binary_data
 					|| ( extern_binary_data != null && extern_binary_data.equals(binary_data));	
 		}
@@ -0,0 +1,54 @@
+package snowflake.core.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+
+/**
+ * <p>an allocation of the {@link snowflake.core.manager.ChunkManager}</p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@Name("snowflake.ChunkAllocation")
+@Label("Chunk Allocation")
+@Category({ "Snowflake", "Chunk" })
+@Description("Space has been allocated for a flake")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class ChunkAllocationEvent extends Event {
+
+
+	@Label("Bytes")
+	@Description("The number of bytes which have been requested")
+	@DataAmount
+	private long bytes;
+
+
+	@Label("Chunks")
+	@Description("The number of chunks the request has been served with")
+	private int chunks;
+
+
+	/**
+	 * <p>sets the values and commits the event, if it is enabled and exceeds its threshold</p>
+	 *
+	 * @param bytes the number of bytes which have been requested
+	 * @param chunks the number of chunks the request has been served with
+	 */
+	public void report(long bytes, int chunks) {
+		if( shouldCommit() ) {
+			this.bytes = bytes;
+			this.chunks = chunks;
+			commit();
+		}
+	}
+
+}
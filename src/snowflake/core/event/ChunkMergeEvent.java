@@ -0,0 +1,50 @@
+package snowflake.core.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * <p>a merge or join of neighbouring chunks by the {@link snowflake.core.manager.ChunkManager}</p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@Name("snowflake.ChunkMerge")
+@Label("Chunk Merge")
+@Category({ "Snowflake", "Chunk" })
+@Description("Neighbouring chunks have been merged into one chunk")
+public final class ChunkMergeEvent extends Event {
+
+
+	@Label("Chunks")
+	@Description("The number of chunks which have been merged")
+	private int chunks;
+
+
+	@Label("Length")
+	@Description("The length of the merged chunk")
+	@DataAmount
+	private long length;
+
+
+	/**
+	 * <p>sets the values and commits the event, if it is enabled and exceeds its threshold</p>
+	 *
+	 * @param chunks the number of chunks which have been merged
+	 * @param length the length of the merged chunk
+	 */
+	public void report(int chunks, long length) {
+		if( shouldCommit() ) {
+			this.chunks = chunks;
+			this.length = length;
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,52 @@
+package snowflake.core.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * <p>a run of the thread of the {@link snowflake.core.manager.ChunkRecyclingManager} which recycled at least one chunk</p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@Name("snowflake.ChunkRecycling")
+@Label("Chunk Recycling")
+@Category({ "Snowflake", "Background" })
+@Description("A batch of chunks has been cleared and made available again")
+@StackTrace(false)
+public final class ChunkRecyclingEvent extends Event {
+
+
+	@Label("Chunks")
+	@Description("The number of chunks which have been cleared")
+	private int chunks;
+
+
+	@Label("Bytes")
+	@Description("The number of bytes which have been cleared")
+	@DataAmount
+	private long bytes;
+
+
+	/**
+	 * <p>sets the values and commits the event, if it is enabled and exceeds its threshold</p>
+	 *
+	 * @param chunks the number of chunks which have been cleared
+	 * @param bytes the number of bytes which have been cleared
+	 */
+	public void report(int chunks, long bytes) {
+		if( shouldCommit() ) {
+			this.chunks = chunks;
+			this.bytes = bytes;
+			commit();
+		}
+	}
+
+}
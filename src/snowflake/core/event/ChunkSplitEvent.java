@@ -0,0 +1,51 @@
+package snowflake.core.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * <p>a split of a chunk by the {@link snowflake.core.manager.ChunkManager}</p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@Name("snowflake.ChunkSplit")
+@Label("Chunk Split")
+@Category({ "Snowflake", "Chunk" })
+@Description("A chunk has been split into two chunks")
+public final class ChunkSplitEvent extends Event {
+
+
+	@Label("Length")
+	@Description("The length of the chunk which has been split")
+	@DataAmount
+	private long length;
+
+
+	@Label("Position")
+	@Description("The length of the left chunk")
+	@DataAmount
+	private long position;
+
+
+	/**
+	 * <p>sets the values and commits the event, if it is enabled and exceeds its threshold</p>
+	 *
+	 * @param length the length of the chunk which has been split
+	 * @param position the length of the left chunk
+	 */
+	public void report(long length, long position) {
+		if( shouldCommit() ) {
+			this.length = length;
+			this.position = position;
+			commit();
+		}
+	}
+
+}
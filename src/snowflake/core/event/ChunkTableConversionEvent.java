@@ -0,0 +1,53 @@
+package snowflake.core.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * <p>the conversion of the chunk table into the current format by the
+ * {@link snowflake.core.storage.ChunkTableConverter}</p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@Name("snowflake.ChunkTableConversion")
+@Label("Chunk Table Conversion")
+@Category({ "Snowflake", "Chunk" })
+@Description("The chunk table has been converted into the current format while the storage has been opened")
+@StackTrace(false)
+public final class ChunkTableConversionEvent extends Event {
+
+
+	@Label("Entries")
+	@Description("The number of entries of the chunk table")
+	private long entries;
+
+
+	@Label("Table Size")
+	@Description("The length of the file of the chunk table before the conversion")
+	@DataAmount
+	private long table_size;
+
+
+	/**
+	 * <p>sets the values and commits the event, if it is enabled and exceeds its threshold</p>
+	 *
+	 * @param entries the number of entries of the chunk table
+	 * @param table_size the length of the file of the chunk table before the conversion
+	 */
+	public void report(long entries, long table_size) {
+		if( shouldCommit() ) {
+			this.entries = entries;
+			this.table_size = table_size;
+			commit();
+		}
+	}
+
+}
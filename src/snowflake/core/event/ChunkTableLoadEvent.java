@@ -0,0 +1,66 @@
+package snowflake.core.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * <p>the loading of the chunk table by the {@link snowflake.core.storage.ChunkTableLoader}</p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@Name("snowflake.ChunkTableLoad")
+@Label("Chunk Table Load")
+@Category({ "Snowflake", "Chunk" })
+@Description("The chunk table has been loaded while the storage has been opened")
+@StackTrace(false)
+public final class ChunkTableLoadEvent extends Event {
+
+
+	@Label("Entries")
+	@Description("The number of entries of the chunk table")
+	private long entries;
+
+
+	@Label("Table Size")
+	@Description("The length of the file of the chunk table")
+	@DataAmount
+	private long table_size;
+
+
+	@Label("Flakes")
+	@Description("The number of flakes whose chunks have been found")
+	private int flakes;
+
+
+	@Label("Parallelism")
+	@Description("The number of threads which have decoded the table")
+	private int parallelism;
+
+
+	/**
+	 * <p>sets the values and commits the event, if it is enabled and exceeds its threshold</p>
+	 *
+	 * @param entries the number of entries of the chunk table
+	 * @param table_size the length of the file of the chunk table
+	 * @param flakes the number of flakes whose chunks have been found
+	 * @param parallelism the number of threads which have decoded the table
+	 */
+	public void report(long entries, long table_size, int flakes, int parallelism) {
+		if( shouldCommit() ) {
+			this.entries = entries;
+			this.table_size = table_size;
+			this.flakes = flakes;
+			this.parallelism = parallelism;
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,57 @@
+package snowflake.core.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * <p>the deduplication of a file by the {@link snowflake.filesystem.manager.DeduplicationManager}</p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@Name("snowflake.Deduplication")
+@Label("Deduplication")
+@Category({ "Snowflake", "File System" })
+@Description("The blocks of a file have been deduplicated")
+@StackTrace(false)
+public final class DeduplicationEvent extends Event {
+
+
+	@Label("Blocks")
+	@Description("The number of blocks which have been processed")
+	private long blocks;
+
+
+	@Label("Duplicate Blocks")
+	@Description("The number of blocks which have already been in the deduplication table")
+	private long duplicate_blocks;
+
+
+	@Label("Registered Blocks")
+	@Description("The number of blocks which have been added to the deduplication table")
+	private long registered_blocks;
+
+
+	/**
+	 * <p>sets the values and commits the event, if it is enabled and exceeds its threshold</p>
+	 *
+	 * @param blocks the number of blocks which have been processed
+	 * @param duplicate_blocks the number of blocks which have already been in the deduplication table
+	 * @param registered_blocks the number of blocks which have been added to the deduplication table
+	 */
+	public void report(long blocks, long duplicate_blocks, long registered_blocks) {
+		if( shouldCommit() ) {
+			this.blocks = blocks;
+			this.duplicate_blocks = duplicate_blocks;
+			this.registered_blocks = registered_blocks;
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,57 @@
+package snowflake.core.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * <p>a run of the thread of the {@link snowflake.core.manager.DefragmentationManager}</p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@Name("snowflake.Defragmentation")
+@Label("Defragmentation")
+@Category({ "Snowflake", "Background" })
+@Description("The flakes have been coalesced and the fragmented ones have been defragmented")
+@StackTrace(false)
+public final class DefragmentationEvent extends Event {
+
+
+	@Label("Inspected Flakes")
+	@Description("The number of flakes whose chunks have been coalesced")
+	private int inspected_flakes;
+
+
+	@Label("Fragmented Flakes")
+	@Description("The number of flakes which have still been fragmented afterwards")
+	private int fragmented_flakes;
+
+
+	@Label("Defragmented Flakes")
+	@Description("The number of flakes which have been defragmented")
+	private int defragmented_flakes;
+
+
+	/**
+	 * <p>sets the values and commits the event, if it is enabled and exceeds its threshold</p>
+	 *
+	 * @param inspected_flakes the number of flakes whose chunks have been coalesced
+	 * @param fragmented_flakes the number of flakes which have still been fragmented afterwards
+	 * @param defragmented_flakes the number of flakes which have been defragmented
+	 */
+	public void report(int inspected_flakes, int fragmented_flakes, int defragmented_flakes) {
+		if( shouldCommit() ) {
+			this.inspected_flakes = inspected_flakes;
+			this.fragmented_flakes = fragmented_flakes;
+			this.defragmented_flakes = defragmented_flakes;
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,61 @@
+package snowflake.core.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+
+/**
+ * <p>the read of a {@link snowflake.core.Channel channel} from a flake</p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+@Name("snowflake.FlakeRead")
+@Label("Flake Read")
+@Category({ "Snowflake", "Flake" })
+@Description("Data has been read from a flake through a channel")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class FlakeReadEvent extends Event {
+
+
+	@Label("Flake")
+	@Description("The identification of the flake")
+	private long flake_identification;
+
+
+	@Label("Bytes")
+	@Description("The number of bytes which have been read")
+	@DataAmount
+	private long bytes;
+
+
+	@Label("Chunks")
+	@Description("The number of chunks the read touched")
+	private int chunks;
+
+
+	/**
+	 * <p>sets the values and commits the event, if it is enabled and exceeds its threshold</p>
+	 *
+	 * @param flake_identification the identification of the flake
+	 * @param bytes the number of bytes which have been read
+	 * @param chunks the number of chunks the read touched
+	 */
+	public void report(long flake_identification, long bytes, int chunks) {
+		if( shouldCommit() ) {
+			this.flake_identification = flake_identification;
+			this.bytes = bytes;
+			this.chunks = chunks;
+			commit();
+		}
+	}
+
+}
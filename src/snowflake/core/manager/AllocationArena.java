@@ -0,0 +1,154 @@
+package snowflake.core.manager;
+
+import j3l.util.Checker;
+import snowflake.GlobalString;
+import snowflake.StaticMode;
+import snowflake.core.Chunk;
+import snowflake.core.storage.StorageStatistics;
+
+
+/**
+ * <p>a region of available space which is reserved for a group of threads - chunks are carved from the start of
+ * the region without touching the shared {@link AvailableChunkIndex}</p>
+ * <p>
+ * 		Consecutive allocations from one arena are physical neighbours. The region is carved in memory: the entry of
+ * 		the region is emptied when it is set, but its chunk table index stays reserved for the rest of the region,
+ * 		which is only saved again when it is removed from the arena. The carved chunks are saved by their owners, so
+ * 		a crash only loses the rest of the region. All methods must be called while holding the lock of the arena.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class AllocationArena {
+
+
+	/**
+	 * <p></p>
+	 */
+	private final ChunkManager chunk_manager;
+
+
+	/**
+	 * <p>the region counts as available space</p>
+	 */
+	private final StorageStatistics storage_statistics;
+
+
+	/**
+	 * <p>the reserved available chunk, which has not been saved, or null, if the arena is empty</p>
+	 */
+	private Chunk region;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public AllocationArena(ChunkManager chunk_manager, StorageStatistics storage_statistics) {
+		if( StaticMode.TESTING_MODE ) {
+			this.chunk_manager = Checker.checkForNull(chunk_manager, GlobalString.ChunkManager.toString());
+			this.storage_statistics = Checker.checkForNull(
+				storage_statistics, GlobalString.StorageStatistics.toString()
+			);
+		}
+		else {
+			this.chunk_manager = chunk_manager;
+			this.storage_statistics = storage_statistics;
+		}
+		region = null;
+	}
+
+
+	/**
+	 * <p>carves a chunk of number_of_bytes bytes from the start of the region - the chunk has not been saved yet</p>
+	 *
+	 * @param number_of_bytes number of bytes
+	 * @return the chunk or null, if the region is smaller than number_of_bytes
+	 */
+	public Chunk allocate(long number_of_bytes) {
+		if( region == null || region.getLength() < number_of_bytes ) {
+			return null;
+		}
+		if( region.getLength() == number_of_bytes ) {
+			// the whole region is handed out with its reserved chunk table index
+			Chunk chunk = region;
+			region = null;
+			storage_statistics.addFree(-1, -number_of_bytes);
+			return chunk;
+		}
+		Chunk chunk = chunk_manager.createChunk(region.getStartAddress(), number_of_bytes);
+		removeFront(number_of_bytes);
+		return chunk;
+	}
+
+
+	/**
+	 * <p>removes the first number_of_bytes bytes from the region - they must be saved by the caller</p>
+	 *
+	 * @param number_of_bytes number of bytes - must not be larger than the length of the region
+	 */
+	public void removeFront(long number_of_bytes) {
+		if( region.getLength() == number_of_bytes ) {
+			// releases the reserved chunk table index
+			region.delete();
+			region = null;
+			storage_statistics.addFree(-1, -number_of_bytes);
+			return;
+		}
+		region = new Chunk(
+			chunk_manager, region.getStartAddress() + number_of_bytes, region.getLength() - number_of_bytes,
+			region.getChunkTableIndex()
+		);
+		storage_statistics.addFree(0, -number_of_bytes);
+	}
+
+
+	/**
+	 * <p>sets the region and empties its entry in the chunk table</p>
+	 *
+	 * @param region an available chunk, which is neither part of any flake nor in the {@link AvailableChunkIndex}
+	 */
+	public void setRegion(Chunk region) {
+		if( StaticMode.TESTING_MODE ) {
+			if( this.region != null ) {
+				throw new SecurityException("The region of the arena must be removed before a new one is set!");
+			}
+			Checker.checkForValidation(region, GlobalString.Chunk.toString());
+		}
+		chunk_manager.emptyEntry(region);
+		this.region = region;
+		storage_statistics.addFree(1, region.getLength());
+	}
+
+
+	/**
+	 * <p>empties the arena and saves the rest of the region as an available chunk</p>
+	 *
+	 * @return the region or null, if the arena is empty
+	 */
+	public Chunk removeRegion() {
+		Chunk removed_region = region;
+		region = null;
+		if( removed_region != null ) {
+			removed_region.save(null);
+			storage_statistics.addFree(-1, -removed_region.getLength());
+		}
+		return removed_region;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the region or null, if the arena is empty
+	 */
+	public Chunk getRegion() {
+		return region;
+	}
+
+}
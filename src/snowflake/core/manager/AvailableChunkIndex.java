@@ -0,0 +1,350 @@
+package snowflake.core.manager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import j3l.util.Checker;
+import snowflake.GlobalString;
+import snowflake.StaticMode;
+import snowflake.core.Chunk;
+import snowflake.core.IChunk;
+import snowflake.core.storage.StorageStatistics;
+
+
+/**
+ * <p>indexes the available chunks by their start address and by their length</p>
+ * <p>
+ * 		A chunk which is added is merged with its physical neighbours in the index right away, so that the index never
+ * 		contains two neighbouring chunks. The merged chunk is saved as a single entry in the chunk table. Every chunk
+ * 		which enters or leaves the index is reported to the {@link StorageStatistics}.
+ * </p>
+ * <p>
+ * 		Adding, removing and the lookups by length take O(log n) for n available chunks. Two lookups are linear:
+ * 		{@link #removeFirstInRange(long, long)} visits every distinct length in the range, which are up to n, and
+ * 		{@link #removeFirstBefore(long, long)} visits the chunks in the order of their addresses until one is long
+ * 		enough, which are up to n before end_address. Both hold the lock of the index in the meantime.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class AvailableChunkIndex {
+
+
+	/**
+	 * <p>the available chunks by their start address</p>
+	 */
+	private final TreeMap<Long, Chunk> address_map;
+
+
+	/**
+	 * <p>the available chunks by their length and then by their start address</p>
+	 */
+	private final TreeMap<Long, TreeMap<Long, Chunk>> length_map;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final IChunkManager chunk_manager;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final StorageStatistics storage_statistics;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public AvailableChunkIndex(IChunkManager chunk_manager, StorageStatistics storage_statistics) {
+		if( StaticMode.TESTING_MODE ) {
+			this.chunk_manager = Checker.checkForNull(chunk_manager, GlobalString.ChunkManager.toString());
+			this.storage_statistics = Checker.checkForNull(
+				storage_statistics, GlobalString.StorageStatistics.toString()
+			);
+		}
+		else {
+			this.chunk_manager = chunk_manager;
+			this.storage_statistics = storage_statistics;
+		}
+		address_map = new TreeMap<>();
+		length_map = new TreeMap<>();
+	}
+
+
+	/**
+	 * <p>adds the chunk and merges it with the available chunks directly before and after it</p>
+	 *
+	 * @param chunk an available chunk, which does not need to be cleared
+	 * @return the chunk which has been added - either chunk itself or the merged chunk
+	 */
+	public synchronized Chunk add(Chunk chunk) {
+		if( StaticMode.TESTING_MODE ) {
+			Checker.checkForValidation(chunk, GlobalString.Chunk.toString());
+		}
+		long start_address = chunk.getStartAddress();
+		long end_address = start_address + chunk.getLength();
+		Map.Entry<Long, Chunk> previous_entry = address_map.lowerEntry(Long.valueOf(start_address));
+		if( previous_entry != null
+				&& previous_entry.getValue().getStartAddress() + previous_entry.getValue().getLength() > start_address ) {
+			throw new SecurityException("The chunk " + chunk.toString() + " overlaps the available chunk "
+					+ previous_entry.getValue().toString() + "!");
+		}
+		Map.Entry<Long, Chunk> next_entry = address_map.ceilingEntry(Long.valueOf(start_address));
+		if( next_entry != null && next_entry.getValue().getStartAddress() < end_address ) {
+			throw new SecurityException("The chunk " + chunk.toString() + " overlaps the available chunk "
+					+ next_entry.getValue().toString() + "!");
+		}
+		Chunk previous_chunk = null;
+		Chunk next_chunk = null;
+		if( previous_entry != null && previous_entry.getValue().isNeighbourOf(chunk) ) {
+			previous_chunk = previous_entry.getValue();
+			remove(previous_chunk);
+		}
+		if( next_entry != null && next_entry.getValue().getStartAddress() == end_address ) {
+			next_chunk = next_entry.getValue();
+			remove(next_chunk);
+		}
+		Chunk added_chunk;
+		if( previous_chunk == null && next_chunk == null ) {
+			added_chunk = chunk;
+		}
+		else if( previous_chunk == null ) {
+			added_chunk = chunk_manager.mergeChunks(Arrays.asList(chunk, next_chunk));
+		}
+		else if( next_chunk == null ) {
+			added_chunk = chunk_manager.mergeChunks(Arrays.asList(previous_chunk, chunk));
+		}
+		else {
+			added_chunk = chunk_manager.mergeChunks(Arrays.asList(previous_chunk, chunk, next_chunk));
+		}
+		address_map.put(Long.valueOf(added_chunk.getStartAddress()), added_chunk);
+		length_map.computeIfAbsent(Long.valueOf(added_chunk.getLength()), length -> new TreeMap<>()).put(
+			Long.valueOf(added_chunk.getStartAddress()), added_chunk
+		);
+		storage_statistics.addFree(1, added_chunk.getLength());
+		return added_chunk;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public synchronized void addAll(Collection<Chunk> chunk_collection) {
+		if( StaticMode.TESTING_MODE ) {
+			Checker.checkForNull(chunk_collection, GlobalString.ChunkCollection.toString());
+		}
+		for( Chunk chunk : chunk_collection ) {
+			add(chunk);
+		}
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	private void remove(Chunk chunk) {
+		address_map.remove(Long.valueOf(chunk.getStartAddress()));
+		Long length = Long.valueOf(chunk.getLength());
+		TreeMap<Long, Chunk> chunk_map = length_map.get(length);
+		chunk_map.remove(Long.valueOf(chunk.getStartAddress()));
+		if( chunk_map.isEmpty() ) {
+			length_map.remove(length);
+		}
+		storage_statistics.addFree(-1, -chunk.getLength());
+	}
+	
+	
+	/**
+	 * <p>removes the chunk with the lowest start address in the length entry</p>
+	 *
+	 * @param length_entry an entry of the {@link #length_map} or null
+	 * @return the chunk or null, if length_entry is null
+	 */
+	private Chunk removeFirstOfLength(Map.Entry<Long, TreeMap<Long, Chunk>> length_entry) {
+		if( length_entry == null ) {
+			return null;
+		}
+		Chunk chunk = length_entry.getValue().firstEntry().getValue();
+		remove(chunk);
+		return chunk;
+	}
+
+
+	/**
+	 * <p>removes the smallest chunk which is at least minimum_length bytes long</p>
+	 *
+	 * @param minimum_length the minimum length of the chunk
+	 * @return the chunk or null, if no chunk is large enough
+	 */
+	public synchronized Chunk removeAtLeast(long minimum_length) {
+		return removeFirstOfLength(length_map.ceilingEntry(Long.valueOf(minimum_length)));
+	}
+
+
+	/**
+	 * <p>removes the largest chunk which is at most maximum_length bytes long</p>
+	 *
+	 * @param maximum_length the maximum length of the chunk
+	 * @return the chunk or null, if every chunk is larger
+	 */
+	public synchronized Chunk removeAtMost(long maximum_length) {
+		return removeFirstOfLength(length_map.floorEntry(Long.valueOf(maximum_length)));
+	}
+
+
+	/**
+	 * <p>removes the chunk with the lowest start address whose length lies in the given range - takes O(n) for n
+	 * distinct lengths in the range</p>
+	 *
+	 * @param minimum_length the minimum length of the chunk
+	 * @param end_length the length the chunk must be shorter than
+	 * @return the chunk or null, if there is no such chunk
+	 */
+	public synchronized Chunk removeFirstInRange(long minimum_length, long end_length) {
+		Chunk chunk = null;
+		Chunk current_chunk;
+		Collection<TreeMap<Long, Chunk>> chunk_map_collection = length_map.subMap(
+			Long.valueOf(minimum_length), Long.valueOf(end_length)
+		).values();
+		for( TreeMap<Long, Chunk> chunk_map : chunk_map_collection ) {
+			current_chunk = chunk_map.firstEntry().getValue();
+			if( chunk == null || current_chunk.getStartAddress() < chunk.getStartAddress() ) {
+				chunk = current_chunk;
+			}
+		}
+		if( chunk != null ) {
+			remove(chunk);
+		}
+		return chunk;
+	}
+	
+	
+	/**
+	 * <p>removes the chunk with the lowest start address</p>
+	 *
+	 * @return the chunk or null, if the index is empty
+	 */
+	public synchronized Chunk removeFirst() {
+		Map.Entry<Long, Chunk> entry = address_map.firstEntry();
+		if( entry == null ) {
+			return null;
+		}
+		remove(entry.getValue());
+		return entry.getValue();
+	}
+	
+	
+	/**
+	 * <p>removes the chunk with the lowest start address which is at least minimum_length bytes long and whose
+	 * first minimum_length bytes lie before end_address - takes O(n) for n available chunks before end_address</p>
+	 *
+	 * @param minimum_length the minimum length of the chunk
+	 * @param end_address the address the first minimum_length bytes must not reach beyond
+	 * @return the chunk or null, if there is no such chunk
+	 */
+	public synchronized Chunk removeFirstBefore(long minimum_length, long end_address) {
+		for( Chunk chunk : address_map.values() ) {
+			if( minimum_length > end_address - chunk.getStartAddress() ) {
+				return null;
+			}
+			if( chunk.getLength() >= minimum_length ) {
+				remove(chunk);
+				return chunk;
+			}
+		}
+		return null;
+	}
+
+
+	/**
+	 * <p>removes the chunk which starts at start_address</p>
+	 *
+	 * @param start_address the start address of the chunk
+	 * @return the chunk or null, if no available chunk starts at start_address
+	 */
+	public synchronized Chunk removeStartingAt(long start_address) {
+		Chunk chunk = address_map.get(Long.valueOf(start_address));
+		if( chunk != null ) {
+			remove(chunk);
+		}
+		return chunk;
+	}
+	
+	
+	/**
+	 * <p>removes the chunk which ends directly before end_address</p>
+	 *
+	 * @param end_address the address directly after the chunk
+	 * @return the chunk or null, if no available chunk ends at end_address
+	 */
+	public synchronized Chunk removeEndingAt(long end_address) {
+		Map.Entry<Long, Chunk> entry = address_map.lowerEntry(Long.valueOf(end_address));
+		if( entry == null || entry.getValue().getStartAddress() + entry.getValue().getLength() != end_address ) {
+			return null;
+		}
+		remove(entry.getValue());
+		return entry.getValue();
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the available chunk with the highest start address or null, if the index is empty
+	 */
+	public synchronized Chunk getLast() {
+		Map.Entry<Long, Chunk> entry = address_map.lastEntry();
+		return entry != null ? entry.getValue() : null;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public synchronized int size() {
+		return address_map.size();
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public synchronized boolean isEmpty() {
+		return address_map.isEmpty();
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the available chunks ordered by their start address
+	 */
+	public synchronized ArrayList<IChunk> getChunks() {
+		return new ArrayList<>(address_map.values());
+	}
+
+}
@@ -0,0 +1,27 @@
+package snowflake.core.manager;
+
+import snowflake.core.Chunk;
+
+
+/**
+ * <p>see {@link snowflake.core.storage.AllocationPolicy#BestFit}</p>
+ * 
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class BestFitAllocationPolicy implements IAllocationPolicy {
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.manager.IAllocationPolicy#removeChunk(snowflake.core.manager.AvailableChunkIndex, long)
+	 */
+	@Override public Chunk removeChunk(AvailableChunkIndex available_chunk_index, long remaining_bytes) {
+		Chunk chunk = available_chunk_index.removeAtLeast(remaining_bytes);
+		if( chunk == null ) {
+			chunk = available_chunk_index.removeAtMost(Long.MAX_VALUE);
+		}
+		return chunk;
+	}
+	
+}
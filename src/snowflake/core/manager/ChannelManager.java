@@ -4,36 +4,70 @@ import java.io.Closeable;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
-import java.util.ArrayList;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import j3l.util.Checker;
 import snowflake.GlobalString;
 import snowflake.StaticMode;
 import snowflake.api.StorageException;
 import snowflake.core.Channel;
+import snowflake.core.DataFileMapping;
+import snowflake.core.LayoutEpoch;
 import snowflake.core.Returnable;
+import snowflake.core.metrics.ChannelCounters;
+import snowflake.core.metrics.Counter;
+import snowflake.core.metrics.MetricRegistry;
+import snowflake.core.storage.ChannelMode;
 import snowflake.core.storage.IChannelManagerConfiguration;
+import snowflake.core.storage.ReadMode;
 
 /**
- * <p></p>
+ * <p>hands out the {@link Channel channels} of the data file according to the {@link ChannelMode}</p>
+ * <p>
+ * 		In the {@link ChannelMode#Shared shared} mode every call of {@link #getChannel()} creates a lightweight channel
+ * 		over one of a fixed number of shared data files - nothing is checked out and returning the channel does
+ * 		nothing. In the {@link ChannelMode#Pooled pooled} mode every channel owns its data file and is used exclusively.
+ * 		The number of these channels is bounded and {@link #getChannel()} blocks until a channel has been returned.
+ * </p>
  * 
  * @since JDK 1.8
- * @version 2016.07.11_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public final class ChannelManager implements Closeable, IChannelManager {
 	
 	
 	/**
-	 * <p></p>
+	 * <p>the exclusive channels which are currently not in use - {@link ChannelMode#Pooled} only</p>
 	 */
-	private final ArrayList<Channel> available_channel_list;
+	private final ArrayDeque<Channel> available_channel_deque;
 	
 	
 	/**
-	 * <p></p>
+	 * <p>the exclusive channels which are currently in use - {@link ChannelMode#Pooled} only</p>
+	 */
+	private final HashSet<Channel> unavailable_channel_set;
+	
+	
+	/**
+	 * <p>the data files all channels share - {@link ChannelMode#Shared} only</p>
+	 */
+	private final RandomAccessFile[] shared_data_file_array;
+	
+	
+	/**
+	 * <p>the channels of the {@link #shared_data_file_array}</p>
 	 */
-	private final ArrayList<Channel> unavailable_channel_list;
+	private final FileChannel[] shared_file_channel_array;
+	
+	
+	/**
+	 * <p>decides which shared data file the next channel uses</p>
+	 */
+	private final AtomicInteger shared_channel_counter;
 	
 	
 	/**
@@ -45,16 +79,71 @@ public final class ChannelManager implements Closeable, IChannelManager {
 	/**
 	 * <p></p>
 	 */
-	private boolean is_closed;
+	private final ChannelMode channel_mode;
+	
+	
+	/**
+	 * <p>the mapping shared by all channels or null, if the {@link ReadMode} is not {@link ReadMode#MemoryMapped}</p>
+	 */
+	private final DataFileMapping data_file_mapping;
+	
+	
+	/**
+	 * <p>the maximum number of exclusive channels</p>
+	 */
+	private final int maximum_number_of_channels;
+	
+	
+	/**
+	 * <p>the number of exclusive channels which are currently open - only used while holding the lock of the
+	 * {@link #available_channel_deque}</p>
+	 */
+	private int number_of_channels;
+	
+	
+	/**
+	 * <p>the counters shared by all channels</p>
+	 */
+	private final ChannelCounters channel_counters;
+	
+	
+	/**
+	 * <p>the epoch all channels enter while they use the layout of a flake</p>
+	 */
+	private final LayoutEpoch layout_epoch;
+	
+	
+	/**
+	 * <p>counts the calls of {@link #getChannel()}</p>
+	 */
+	private final Counter checkout_counter;
+	
+	
+	/**
+	 * <p>counts how often a thread had to wait for an exclusive channel</p>
+	 */
+	private final Counter wait_counter;
+	
+	
+	/**
+	 * <p>counts the opened data files</p>
+	 */
+	private final Counter creation_counter;
+	
+	
+	/**
+	 * <p></p>
+	 */
+	private volatile boolean is_closed;
 	
 	
 	/**
 	 * <p></p>
 	 *
-	 * @param
-	 * @return
+	 * @param channel_manager_configuration
+	 * @param metric_registry the registry of the counters of the channels and the pool
 	 */
-	public ChannelManager(IChannelManagerConfiguration channel_manager_configuration) {
+	public ChannelManager(IChannelManagerConfiguration channel_manager_configuration, MetricRegistry metric_registry) {
 		if( StaticMode.TESTING_MODE ) {
 			this.channel_manager_configuration = Checker.checkForNull(
 					channel_manager_configuration, GlobalString.ChannelManagerConfiguration.toString()
@@ -63,8 +152,91 @@ public final class ChannelManager implements Closeable, IChannelManager {
 		else {
 			this.channel_manager_configuration = channel_manager_configuration;
 		}
-		available_channel_list = new ArrayList<>();
-		unavailable_channel_list = new ArrayList<>();
+		channel_counters = new ChannelCounters(metric_registry);
+		layout_epoch = new LayoutEpoch();
+		checkout_counter = metric_registry.getCounter("channel_pool_checkouts");
+		wait_counter = metric_registry.getCounter("channel_pool_waits");
+		creation_counter = metric_registry.getCounter("channel_pool_creations");
+		channel_mode = channel_manager_configuration.getChannelMode();
+		maximum_number_of_channels = channel_manager_configuration.getMaximumNumberOfChannels();
+		available_channel_deque = new ArrayDeque<>();
+		unavailable_channel_set = new HashSet<>();
+		number_of_channels = 0;
+		shared_channel_counter = new AtomicInteger(0);
+		if( channel_mode == ChannelMode.Shared ) {
+			int number_of_shared_channels = channel_manager_configuration.getNumberOfSharedChannels();
+			shared_data_file_array = new RandomAccessFile[number_of_shared_channels];
+			shared_file_channel_array = new FileChannel[number_of_shared_channels];
+			for(int a=0;a<number_of_shared_channels;a++) {
+				openSharedDataFile(a);
+			}
+		}
+		else {
+			shared_data_file_array = null;
+			shared_file_channel_array = null;
+		}
+		if( channel_manager_configuration.getReadMode() == ReadMode.MemoryMapped ) {
+			try {
+				data_file_mapping = new DataFileMapping(
+					channel_manager_configuration.getDataFilePath(), channel_manager_configuration.getMappedRegionSize()
+				);
+			}
+			catch( IOException e ) {
+				throw new StorageException("Can not map the " + GlobalString.DataFile.toString() + "!", e);
+			}
+		}
+		else {
+			data_file_mapping = null;
+		}
+		metric_registry.registerGauge("channel_pool_open_channels", () -> {
+			synchronized( available_channel_deque ) {
+				return number_of_channels;
+			}
+		});
+	}
+	
+	
+	/**
+	 * <p>returns the epoch all channels enter while they use the layout of a flake - chunks which have been replaced
+	 * must only be recycled or released after {@link LayoutEpoch#awaitReaders()}</p>
+	 *
+	 * @return the layout epoch
+	 */
+	public LayoutEpoch getLayoutEpoch() {
+		return layout_epoch;
+	}
+	
+	
+	/**
+	 * <p>extends the mapping of the data file, if the data file is mapped</p>
+	 *
+	 * @param data_file_length the new length of the data file
+	 */
+	public void mapDataFile(long data_file_length) {
+		if( data_file_mapping == null ) {
+			return;
+		}
+		try {
+			data_file_mapping.map(data_file_length);
+		}
+		catch( IOException e ) {
+			throw new StorageException("Can not map the first " + data_file_length + " bytes of the "
+					+ GlobalString.DataFile.toString() + "!", e);
+		}
+	}
+	
+	
+	/**
+	 * <p>reduces the mapping of the data file, if the data file is mapped - must be called before the data file is
+	 * truncated</p>
+	 *
+	 * @param data_file_length the new length of the data file
+	 */
+	public void truncateDataFileMapping(long data_file_length) {
+		if( data_file_mapping == null ) {
+			return;
+		}
+		data_file_mapping.truncate(data_file_length);
 	}
 	
 	
@@ -73,51 +245,131 @@ public final class ChannelManager implements Closeable, IChannelManager {
 	 *
 	 * @param
 	 * @return
-	 * @throws FileNotFoundException 
 	 */
-	@SuppressWarnings("resource") private void createChannel() {
-		RandomAccessFile random_access_file;
+	private RandomAccessFile openDataFile() {
 		try {
-			random_access_file = new RandomAccessFile(channel_manager_configuration.getDataFilePath(), "rw");
+			return new RandomAccessFile(channel_manager_configuration.getDataFilePath(), "rw");
 		}
 		catch( FileNotFoundException e ) {
 			throw new StorageException("Can not create a new " + GlobalString.Channel.toString()
 					+ ", because the " + GlobalString.DataFile.toString() + " does not exist!", e);
 		}
-		synchronized (available_channel_list) {
-			available_channel_list.add(new Channel(random_access_file));
+	}
+	
+	
+	/**
+	 * <p>(re)opens the shared data file at index - a FileChannel is closed for good, if a thread gets interrupted
+	 * while using it, so a closed shared channel must be replaced</p>
+	 *
+	 * @param index the index of the shared data file
+	 * @return the open channel of the shared data file
+	 */
+	private FileChannel openSharedDataFile(int index) {
+		synchronized( shared_data_file_array ) {
+			if( shared_file_channel_array[index] != null && shared_file_channel_array[index].isOpen() ) {
+				return shared_file_channel_array[index];
+			}
+			if( shared_data_file_array[index] != null ) {
+				try {
+					shared_data_file_array[index].close();
+				}
+				catch( IOException e ) {
+					e.printStackTrace();
+				}
+			}
+			shared_data_file_array[index] = openDataFile();
+			creation_counter.increment();
+			shared_file_channel_array[index] = shared_data_file_array[index].getChannel();
+			return shared_file_channel_array[index];
 		}
 	}
 	
 	
-	/*
-	 * (non-Javadoc)
-	 * @see snowflake.core.manager.IGetChannel#getChannel()
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
 	 */
-	@SuppressWarnings("resource") @Override public Channel getChannel() {
-		Channel channel = null;
-		while( !is_closed ) {
-			synchronized( available_channel_list ) {
-				if( !available_channel_list.isEmpty() ) {
-					channel = available_channel_list.remove(0);
-					break;
+	private Channel getSharedChannel() {
+		int index = Math.floorMod(shared_channel_counter.getAndIncrement(), shared_file_channel_array.length);
+		FileChannel shared_file_channel = shared_file_channel_array[index];
+		if( shared_file_channel == null || !shared_file_channel.isOpen() ) {
+			shared_file_channel = openSharedDataFile(index);
+		}
+		return new Channel(shared_file_channel, data_file_mapping, channel_counters, layout_epoch);
+	}
+	
+	
+	/**
+	 * <p>takes an available exclusive channel, opens a new one if the maximum number of channels has not been
+	 * reached or waits until a channel has been returned</p>
+	 *
+	 * @return an exclusive channel
+	 */
+	@SuppressWarnings("resource") private Channel getPooledChannel() {
+		Channel channel;
+		synchronized( available_channel_deque ) {
+			while( available_channel_deque.isEmpty() && number_of_channels >= maximum_number_of_channels ) {
+				if( is_closed ) {
+					throw new StorageException("The " + GlobalString.ChannelManager.toString() + " has been closed!");
+				}
+				wait_counter.increment();
+				try {
+					available_channel_deque.wait();
+				}
+				catch( InterruptedException e ) {
+					Thread.currentThread().interrupt();
+					throw new StorageException("Interrupted while waiting for a " + GlobalString.Channel.toString() + "!", e);
 				}
 			}
-			createChannel();
+			if( is_closed ) {
+				throw new StorageException("The " + GlobalString.ChannelManager.toString() + " has been closed!");
+			}
+			channel = available_channel_deque.pollFirst();
+			if( channel == null ) {
+				number_of_channels++;
+			}
 		}
-		synchronized( unavailable_channel_list ) {
-			if( unavailable_channel_list.contains(channel) ) {
+		if( channel == null ) {
+			try {
+				channel = new Channel(openDataFile(), data_file_mapping, channel_counters, layout_epoch);
+				creation_counter.increment();
+			}
+			catch( RuntimeException e ) {
+				synchronized( available_channel_deque ) {
+					number_of_channels--;
+					available_channel_deque.notify();
+				}
+				throw e;
+			}
+		}
+		synchronized( available_channel_deque ) {
+			if( !unavailable_channel_set.add(channel) ) {
 				throw new StorageException("A " + GlobalString.Channel.toString() 
 					+ " must never be used by multiple instances simultaniously!");
 			}
-			if( !unavailable_channel_list.add(channel) ) {
-				throw new StorageException("A " + GlobalString.Channel.toString() + " got lost on its way!");
-			}
 		}
 		return channel;
 	}
 	
 	
+	/*
+	 * (non-Javadoc)
+	 * @see snowflake.core.manager.IGetChannel#getChannel()
+	 */
+	@Override public Channel getChannel() {
+		if( is_closed ) {
+			throw new StorageException("The " + GlobalString.ChannelManager.toString() + " has been closed!");
+		}
+		checkout_counter.increment();
+		if( channel_mode == ChannelMode.Shared ) {
+			return getSharedChannel();
+		}
+		return getPooledChannel();
+	}
+	
+	
 	/*
 	 * (non-Javadoc)
 	 * @see snowflake.core.manager.IReturnChannel#returnChannel(snowflake.core.Returnable)
@@ -130,21 +382,22 @@ public final class ChannelManager implements Closeable, IChannelManager {
 			throw new StorageException("The returnable is no instance of Channel!");
 		}
 		Channel actual_channel = (Channel)channel;
-		synchronized( unavailable_channel_list ) {
-			if( !unavailable_channel_list.contains(actual_channel) ) {
+		if( actual_channel.isShared() ) {
+			// nothing has been checked out
+			return;
+		}
+		synchronized( available_channel_deque ) {
+			if( !unavailable_channel_set.remove(actual_channel) ) {
 				throw new StorageException("The " + GlobalString.Channel.toString() + "does not belong in here!");
 			}
-			if( !unavailable_channel_list.remove(actual_channel) ) {
-				throw new StorageException("The " + GlobalString.Channel.toString() + "could not be returned.");
-			}
-		}
-		synchronized( available_channel_list ) {
-			if( available_channel_list.size() < channel_manager_configuration.getMaximumNumberOfAvailableChannel() ) {
-				if( !available_channel_list.add(actual_channel) ) {
-					throw new StorageException("The " + GlobalString.Channel.toString() + "could not be returned.");
-				}
+			if( !is_closed 
+					&& available_channel_deque.size() < channel_manager_configuration.getMaximumNumberOfAvailableChannel() ) {
+				available_channel_deque.addFirst(actual_channel);
+				available_channel_deque.notify();
 				return;
 			}
+			number_of_channels--;
+			available_channel_deque.notify();
 		}
 		try {
 			actual_channel.close();
@@ -158,13 +411,13 @@ public final class ChannelManager implements Closeable, IChannelManager {
 	/* (non-Javadoc)
 	 * @see java.io.Closeable#close()
 	 */
-	@SuppressWarnings("resource") @Override public void close() throws IOException {
+	@Override public void close() throws IOException {
 		if( is_closed ) {
 			return;
 		}
 		is_closed = true;
-		synchronized( available_channel_list ) {
-			for( Channel channel : available_channel_list ) {
+		synchronized( available_channel_deque ) {
+			for( Channel channel : available_channel_deque ) {
 				try {
 					channel.close();
 				}
@@ -172,10 +425,9 @@ public final class ChannelManager implements Closeable, IChannelManager {
 					throw new IOException("Could not close the channel " + channel.toString() + "!", e);
 				}
 			}
-			available_channel_list.clear();
-		}
-		synchronized( unavailable_channel_list ) {
-			for( Channel channel : unavailable_channel_list ) {
+			number_of_channels -= available_channel_deque.size();
+			available_channel_deque.clear();
+			for( Channel channel : unavailable_channel_set ) {
 				try {
 					channel.close();
 				}
@@ -183,7 +435,19 @@ public final class ChannelManager implements Closeable, IChannelManager {
 					throw new IOException("Could not close the channel " + channel.toString() + "!", e);
 				}
 			}
-			unavailable_channel_list.clear();
+			available_channel_deque.notifyAll();
+		}
+		if( shared_data_file_array != null ) {
+			synchronized( shared_data_file_array ) {
+				for( RandomAccessFile shared_data_file : shared_data_file_array ) {
+					if( shared_data_file != null ) {
+						shared_data_file.close();
+					}
+				}
+			}
+		}
+		if( data_file_mapping != null ) {
+			data_file_mapping.close();
 		}
 	}
 	
@@ -4,13 +4,12 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import j3l.util.Checker;
 import j3l.util.ClosureState;
-import j3l.util.ComparisonType;
 import j3l.util.IClose;
 import j3l.util.LoopedTaskThread;
-import j3l.util.RedundantBinaryTree;
 import snowflake.GlobalString;
 import snowflake.StaticMode;
 import snowflake.api.IStorageInformation;
@@ -23,16 +22,24 @@ import snowflake.core.Flake;
 import snowflake.core.IChunk;
 import snowflake.core.SplitChunk;
 import snowflake.core.TableMember;
+import snowflake.core.event.ChunkAllocationEvent;
+import snowflake.core.event.ChunkMergeEvent;
+import snowflake.core.event.ChunkSplitEvent;
+import snowflake.core.metrics.Counter;
+import snowflake.core.metrics.LatencyHistogram;
+import snowflake.core.metrics.MetricRegistry;
+import snowflake.core.storage.AllocationPolicy;
 import snowflake.core.storage.IAllocateSpace;
 import snowflake.core.storage.IChunkManagerConfiguration;
 import snowflake.core.storage.IClearChunk;
+import snowflake.core.storage.StorageStatistics;
 
 
 /**
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.07.11_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<IOException> {
@@ -47,31 +54,43 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 	/**
 	 * <p></p>
 	 */
-	private final ChunkMergingManager chunk_merging_manager;
+	private ClosureState closure_state;
 	
 	
 	/**
 	 * <p></p>
 	 */
-	private ClosureState closure_state;
+	private final DataTable<ChunkData> data_table;
 	
 	
 	/**
 	 * <p></p>
 	 */
-	private final DataTable<ChunkData> data_table;
+	private final IChunkManagerConfiguration chunk_manager_configuration;
 	
 	
 	/**
-	 * <p></p>
+	 * <p>all available chunks which do not need to be cleared - compound operations synchronize on it</p>
 	 */
-	private final IChunkManagerConfiguration chunk_manager_configuration;
+	private final AvailableChunkIndex available_chunk_index;
 	
 	
 	/**
-	 * <p></p>
+	 * <p>chooses the available chunks {@link #allocateSpace(long)} serves a request from</p>
 	 */
-	private final RedundantBinaryTree<Chunk, Long> available_chunk_tree;
+	private final IAllocationPolicy allocation_policy;
+	
+	
+	/**
+	 * <p>the arenas small requests are served from - a thread always uses the same arena</p>
+	 */
+	private final AllocationArena[] allocation_arena_array;
+	
+	
+	/**
+	 * <p>the length of the region an arena reserves at once</p>
+	 */
+	private final long allocation_arena_size;
 	
 	
 	/**
@@ -98,6 +117,55 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 	private final LoopedTaskThread chunk_manager_thread;
 	
 	
+	/**
+	 * <p>flushes the buffered entries of the {@link #data_table} periodically - it is stopped without an interrupt</p>
+	 */
+	private final StoppableTaskThread chunk_table_flush_thread;
+	
+	
+	/**
+	 * <p>counts the requests served by {@link #allocateSpace(long)}, {@link #allocateContiguousSpace(long)} and
+	 * {@link #allocateSpaceBefore(long, long)}</p>
+	 */
+	private final Counter allocation_counter;
+	
+	
+	/**
+	 * <p></p>
+	 */
+	private final Counter allocated_byte_counter;
+	
+	
+	/**
+	 * <p>counts how often an arena has been refilled</p>
+	 */
+	private final Counter arena_refill_counter;
+	
+	
+	/**
+	 * <p></p>
+	 */
+	private final Counter split_counter;
+	
+	
+	/**
+	 * <p>counts the merges of available chunks and the joins of the chunks of flakes</p>
+	 */
+	private final Counter merge_counter;
+	
+	
+	/**
+	 * <p>counts the bytes of all chunks which have been handed to the {@link #chunk_recycling_manager}</p>
+	 */
+	private final Counter recycled_byte_counter;
+	
+	
+	/**
+	 * <p>the latencies of {@link #allocateSpace(long)}</p>
+	 */
+	private final LatencyHistogram allocation_latency_histogram;
+	
+	
 	/**
 	 * <p></p>
 	 *
@@ -105,7 +173,8 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 	 * @return
 	 */
 	public ChunkManager(IStorageInformation storage_information, IClearChunk clear_chunk, 
-			IChunkManagerConfiguration chunk_manager_configuration, IAllocateSpace allocate_space) {
+			IChunkManagerConfiguration chunk_manager_configuration, IAllocateSpace allocate_space,
+			StorageStatistics storage_statistics, MetricRegistry metric_registry) {
 		if( StaticMode.TESTING_MODE ) {
 			this.chunk_manager_configuration = Checker.checkForNull(
 				chunk_manager_configuration, GlobalString.ChunkManagerConfiguration.toString()
@@ -115,23 +184,47 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 			);
 			this.allocate_space = Checker.checkForNull(allocate_space, GlobalString.AllocateSpace.toString());
 			File chunk_table_file = new File(chunk_manager_configuration.getChunkTableFilePath());
-			data_table = new DataTable<>(Checker.checkForExistence(
-				chunk_table_file, GlobalString.ChunkTableFile.toString()
-			));
+			data_table = new DataTable<>(
+				Checker.checkForExistence(chunk_table_file, GlobalString.ChunkTableFile.toString()),
+				chunk_manager_configuration.getChunkTableDurability(),
+				chunk_manager_configuration.getChunkTableBufferSize(),
+				Checker.checkForNull(metric_registry, GlobalString.MetricRegistry.toString())
+			);
 		}
 		else {
 			this.chunk_manager_configuration = chunk_manager_configuration;
 			this.storage_information = storage_information;
 			this.allocate_space = allocate_space;
-			this.data_table = new DataTable<>(new File(chunk_manager_configuration.getChunkTableFilePath()));
+			this.data_table = new DataTable<>(
+				new File(chunk_manager_configuration.getChunkTableFilePath()),
+				chunk_manager_configuration.getChunkTableDurability(),
+				chunk_manager_configuration.getChunkTableBufferSize(),
+				metric_registry
+			);
+		}
+		allocation_counter = metric_registry.getCounter("chunk_allocations");
+		allocated_byte_counter = metric_registry.getCounter("chunk_allocated_bytes");
+		arena_refill_counter = metric_registry.getCounter("chunk_arena_refills");
+		split_counter = metric_registry.getCounter("chunk_splits");
+		merge_counter = metric_registry.getCounter("chunk_merges");
+		recycled_byte_counter = metric_registry.getCounter("chunk_recycled_bytes");
+		allocation_latency_histogram = metric_registry.getHistogram("chunk_allocation_latency_nanoseconds");
+		available_chunk_index = new AvailableChunkIndex(this, storage_statistics);
+		allocation_policy = ChunkManager.createAllocationPolicy(chunk_manager_configuration.getAllocationPolicy());
+		allocation_arena_size = chunk_manager_configuration.getAllocationArenaSize();
+		allocation_arena_array = new AllocationArena[chunk_manager_configuration.getNumberOfAllocationArenas()];
+		for(int a=0;a<allocation_arena_array.length;a++) {
+			allocation_arena_array[a] = new AllocationArena(this, storage_statistics);
 		}
-		chunk_merging_manager = new ChunkMergingManager(this);
 		chunk_recycling_manager = new ChunkRecyclingManager(
-			clear_chunk, chunk_manager_configuration.getChunkRecyclingTreshhold()
+			clear_chunk, chunk_manager_configuration.getChunkRecyclingTreshhold(), this::addAvailableChunk,
+			storage_statistics
 		);
-		available_chunk_tree = new RedundantBinaryTree<>(chunk -> new Long(chunk.getLength()));
 		closure_state = ClosureState.None;
 		chunk_manager_thread = new LoopedTaskThread(this::manage, "Snowflake ChunkManagerThread", 61_000);
+		chunk_table_flush_thread = new StoppableTaskThread(
+			data_table::flush, "Snowflake ChunkTableFlushThread", chunk_manager_configuration.getChunkTableFlushInterval()
+		);
 	}
 	
 	
@@ -141,9 +234,21 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 	 * @param
 	 * @return
 	 */
-	private void manage() {
-		chunk_merging_manager.addAll(chunk_recycling_manager.removeAll());
-		data_table.trim();
+	public static IAllocationPolicy createAllocationPolicy(AllocationPolicy allocation_policy) {
+		switch( allocation_policy ) {
+			case Greedy:
+				return new GreedyAllocationPolicy();
+			case BestFit:
+				return new BestFitAllocationPolicy();
+			case FirstFit:
+				return new FirstFitAllocationPolicy();
+			case ContiguousFirst:
+				return new ContiguousFirstAllocationPolicy();
+			case SegregatedFit:
+				return new SegregatedFitAllocationPolicy();
+			default:
+				throw new StorageException("Unknown allocation policy: " + allocation_policy.name() + "!");
+		}
 	}
 	
 	
@@ -153,6 +258,17 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 	 * @param
 	 * @return
 	 */
+	private void manage() {
+		data_table.trim();
+	}
+	
+	
+	/**
+	 * <p>adds the chunk to the {@link #available_chunk_index} - it is merged with its available neighbours right
+	 * away</p>
+	 *
+	 * @param chunk an available chunk, which does not need to be cleared
+	 */
 	private void addAvailableChunk(Chunk chunk) {
 		if( StaticMode.TESTING_MODE ) {
 			if( !isOpen() && !isInOpening() ) {
@@ -160,21 +276,7 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 			}
 		}
 		Checker.checkForValidation(chunk, GlobalString.Chunk.toString());
-		synchronized( available_chunk_tree ) {
-			if( !available_chunk_tree.add(chunk) ) {
-				throw new SecurityException("A chunk got lost on its way!");
-			}
-			if( available_chunk_tree.getSize() > chunk_manager_configuration.getMaximumAvailableChunks() ) {
-				if( !chunk_merging_manager.addAll(
-						available_chunk_tree.removeSome(
-							available_chunk_tree.getSize() - chunk_manager_configuration.getMaximumAvailableChunks()
-						)
-					)
-				) {
-					throw new SecurityException("A chunk got lost on its way!");
-				}
-			}
-		}
+		available_chunk_index.add(chunk);
 	}
 	
 	
@@ -196,21 +298,7 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 				throw new StorageException("Can not add the chunk " + chunk + ": it's either null or invalid!");
 			}
 		}
-		synchronized( available_chunk_tree ) {
-			if( !available_chunk_tree.addAll(chunk_list) ) {
-				throw new SecurityException("A chunk got lost on its way!");
-			}
-			if( available_chunk_tree.getSize() > chunk_manager_configuration.getMaximumAvailableChunks() ) {
-				if( !chunk_merging_manager.addAll(
-						available_chunk_tree.removeSome(
-							available_chunk_tree.getSize() - chunk_manager_configuration.getMaximumAvailableChunks()
-						)
-					)
-				) {
-					throw new SecurityException("A chunk got lost on its way!");
-				}
-			}
-		}
+		available_chunk_index.addAll(chunk_list);
 	}
 	
 	
@@ -229,44 +317,38 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 			}
 		}
 		
-		chunk_merging_manager.addAll(chunk_recycling_manager.removeAll());
-		Chunk chunk = chunk_merging_manager.getChunk(minimum_length);
+		ChunkData temporary_chunk_data;
+		long allocated_space;
+		long chunk_length;
+		long additional_length;
+		long available_index;
 		
-		if( chunk == null ) {
+		synchronized( available_chunk_index ) {
 			
-			ChunkData temporary_chunk_data;
-			long allocated_space;
-			long chunk_length;
-			long additional_length;
-			long available_index;
+			allocated_space = storage_information.getAllocatedSpace();
+			additional_length = (long)( allocated_space * chunk_manager_configuration.getDataFileIncreaseRate() );
 			
-			synchronized( available_chunk_tree ) {
-				
-				allocated_space = storage_information.getAllocatedSpace();
-				additional_length = (long)( allocated_space * chunk_manager_configuration.getDataFileIncreaseRate() );
-				
-				if( additional_length < 0 ) {
-					throw new StorageException("The additional_length of this method managed to overflow! :o");
-				}
-				
-				chunk_length = minimum_length + additional_length;
-				
-				if( chunk_length < chunk_manager_configuration.getPreferredAvailableStorageSize() + minimum_length ) {
-					chunk_length = chunk_manager_configuration.getPreferredAvailableStorageSize() + minimum_length;
-				}
-				
-				temporary_chunk_data = allocate_space.allocateSpace(chunk_length);
-				
+			if( additional_length < 0 ) {
+				throw new StorageException("The additional_length of this method managed to overflow! :o");
 			}
 			
+			chunk_length = minimum_length + additional_length;
+			
+			if( chunk_length < chunk_manager_configuration.getPreferredAvailableStorageSize() + minimum_length ) {
+				chunk_length = chunk_manager_configuration.getPreferredAvailableStorageSize() + minimum_length;
+			}
 			
-			available_index = data_table.getAvailableIndex();
-			chunk = new Chunk(this, temporary_chunk_data.getStartAddress(), 
-					temporary_chunk_data.getChunkLength(), available_index);
-			chunk.save(null);
+			temporary_chunk_data = allocate_space.allocateSpace(chunk_length);
 			
 		}
 		
+		
+		available_index = data_table.getAvailableIndex();
+		Chunk chunk = new Chunk(this, temporary_chunk_data.getStartAddress(), 
+				temporary_chunk_data.getChunkLength(), available_index);
+		chunk.save(null);
+		
+		// the new chunk is merged with an available chunk at the end of the data file
 		addAvailableChunk(chunk);
 		
 	}
@@ -279,31 +361,239 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 	 * @return
 	 */
 	public ArrayList<IChunk> getAvailableChunks() {
-		ArrayList<IChunk> list;
-		synchronized( available_chunk_tree ) {
-			list = new ArrayList<>(available_chunk_tree.toList());
-			list.addAll(chunk_merging_manager.getChunks());
+		ArrayList<IChunk> list = available_chunk_index.getChunks();
+		Chunk region;
+		for( AllocationArena allocation_arena : allocation_arena_array ) {
+			synchronized( allocation_arena ) {
+				region = allocation_arena.getRegion();
+			}
+			if( region != null ) {
+				list.add(region);
+			}
 		}
 		return list;
 	}
+	
+	
+	/**
+	 * <p>serves the request from the arena of the current thread - the arena is refilled, if its region is too
+	 * small</p>
+	 *
+	 * @param number_of_bytes number of bytes - must not be larger than the {@link #allocation_arena_size}
+	 * @return the chunk
+	 */
+	private Chunk allocateFromArena(long number_of_bytes) {
+		// cast is okay, because the remainder is smaller than allocation_arena_array.length (which is int)
+		AllocationArena allocation_arena = allocation_arena_array[
+			(int)(Thread.currentThread().getId() % allocation_arena_array.length)
+		];
+		synchronized( allocation_arena ) {
+			Chunk chunk = allocation_arena.allocate(number_of_bytes);
+			if( chunk == null ) {
+				Chunk region = allocation_arena.removeRegion();
+				if( region != null ) {
+					addAvailableChunk(region);
+				}
+				allocation_arena.setRegion(removeContiguousSpace(allocation_arena_size));
+				arena_refill_counter.increment();
+				chunk = allocation_arena.allocate(number_of_bytes);
+			}
+			return chunk;
+		}
+	}
+	
+	
+	/**
+	 * <p>creates a chunk with a new chunk table index, which has not been saved yet</p>
+	 *
+	 * @param start_address the start address
+	 * @param length the length
+	 * @return the chunk
+	 */
+	Chunk createChunk(long start_address, long length) {
+		return new Chunk(this, start_address, length, data_table.getAvailableIndex());
+	}
+	
+	
+	/**
+	 * <p>empties the entry of the chunk, but keeps its chunk table index reserved - the chunk is saved at this index
+	 * again later</p>
+	 *
+	 * @param chunk the chunk
+	 */
+	void emptyEntry(Chunk chunk) {
+		data_table.addEntry(new TableMember<>(ChunkManager.NULL_CHUNK_DATA, chunk.getChunkTableIndex()));
+	}
+	
+	
+	/**
+	 * <p>removes the first number_of_bytes bytes from the available chunk - the rest keeps the chunk table index of
+	 * available_chunk and is saved in its place</p>
+	 *
+	 * @param available_chunk an available chunk which is neither in an arena nor in the {@link #available_chunk_index}
+	 * @param number_of_bytes the number of bytes - must not be larger than the length of available_chunk
+	 * @return the rest of available_chunk or null, if nothing is left
+	 */
+	private Chunk removeFront(Chunk available_chunk, long number_of_bytes) {
+		if( available_chunk.getLength() == number_of_bytes ) {
+			available_chunk.delete();
+			return null;
+		}
+		Chunk rest_chunk = new Chunk(
+			this, available_chunk.getStartAddress() + number_of_bytes, available_chunk.getLength() - number_of_bytes, 
+			available_chunk.getChunkTableIndex()
+		);
+		rest_chunk.save(null);
+		return rest_chunk;
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.manager.IChunkManager#extendChunk(snowflake.core.Chunk, long)
+	 */
+	@Override public Chunk extendChunk(Chunk chunk, long number_of_bytes) {
+		if( StaticMode.TESTING_MODE ) {
+			Checker.checkForValidation(chunk, GlobalString.Chunk.toString());
+			Checker.checkForBoundaries(number_of_bytes, 1, Long.MAX_VALUE, GlobalString.NumberOfBytes.toString());
+		}
+		long extension_length = removeSpaceAt(chunk.getStartAddress() + chunk.getLength(), number_of_bytes);
+		if( extension_length == 0 ) {
+			return null;
+		}
+		Chunk extended_chunk = new Chunk(
+			this, chunk.getStartAddress(), chunk.getLength() + extension_length, chunk.getChunkTableIndex()
+		);
+		extended_chunk.setPositionInFlake(chunk.getPositionInFlake());
+		return extended_chunk;
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.manager.IChunkManager#allocateSpaceAt(long, long)
+	 */
+	@Override public Chunk allocateSpaceAt(long start_address, long number_of_bytes) {
+		if( StaticMode.TESTING_MODE ) {
+			Checker.checkForBoundaries(start_address, 0, Long.MAX_VALUE, GlobalString.StartAddress.toString());
+			Checker.checkForBoundaries(number_of_bytes, 1, Long.MAX_VALUE, GlobalString.NumberOfBytes.toString());
+		}
+		long length = removeSpaceAt(start_address, number_of_bytes);
+		if( length == 0 ) {
+			return null;
+		}
+		allocation_counter.increment();
+		allocated_byte_counter.add(length);
+		return new Chunk(this, start_address, length, data_table.getAvailableIndex());
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.manager.IChunkManager#moveChunkBoundary(snowflake.core.Chunk, snowflake.core.Chunk, long)
+	 */
+	@Override public SplitChunk moveChunkBoundary(Chunk left_chunk, Chunk right_chunk, long number_of_bytes) {
+		if( StaticMode.TESTING_MODE ) {
+			Checker.checkForValidation(left_chunk, GlobalString.LeftChunk.toString());
+			Checker.checkForValidation(right_chunk, GlobalString.RightChunk.toString());
+		}
+		if( left_chunk.getStartAddress() + left_chunk.getLength() != right_chunk.getStartAddress() ) {
+			throw new IllegalArgumentException("The chunk " + right_chunk.toString() 
+					+ " does not directly follow the chunk " + left_chunk.toString() + "!");
+		}
+		Checker.checkForBoundaries(
+			number_of_bytes, 1, right_chunk.getLength() - 1, GlobalString.NumberOfBytes.toString()
+		);
+		SplitChunk split_chunk = new SplitChunk(
+			new Chunk(
+				this, left_chunk.getStartAddress(), left_chunk.getLength() + number_of_bytes, 
+				left_chunk.getChunkTableIndex()
+			),
+			new Chunk(
+				this, right_chunk.getStartAddress() + number_of_bytes, right_chunk.getLength() - number_of_bytes, 
+				right_chunk.getChunkTableIndex()
+			)
+		);
+		if( left_chunk.getPositionInFlake() >= 0 ) {
+			split_chunk.getLeftChunk().setPositionInFlake(left_chunk.getPositionInFlake());
+			split_chunk.getRightChunk().setPositionInFlake(right_chunk.getPositionInFlake() + number_of_bytes);
+		}
+		return split_chunk;
+	}
+	
+	
+	/**
+	 * <p>removes up to number_of_bytes bytes of the available space which starts at address - from the region of the
+	 * arena of the current thread or from the {@link #available_chunk_index}</p>
+	 * <p>
+	 * 		The rest of an available chunk is saved before the caller saves the removed bytes - a crash in between
+	 * 		only loses space, if the chunk table is written through
+	 * 		(see {@link snowflake.core.storage.TableDurability#Buffered}). The rest of a region stays in the arena
+	 * 		without being saved.
+	 * </p>
+	 *
+	 * @param address the address
+	 * @param number_of_bytes the maximum number of bytes
+	 * @return the number of removed bytes or 0, if no available space starts at address
+	 */
+	private long removeSpaceAt(long address, long number_of_bytes) {
+		long extension_length = 0;
+		if( allocation_arena_array.length != 0 ) {
+			// cast is okay, because the remainder is smaller than allocation_arena_array.length (which is int)
+			AllocationArena allocation_arena = allocation_arena_array[
+				(int)(Thread.currentThread().getId() % allocation_arena_array.length)
+			];
+			synchronized( allocation_arena ) {
+				Chunk region = allocation_arena.getRegion();
+				if( region != null && region.getStartAddress() == address ) {
+					extension_length = Math.min(region.getLength(), number_of_bytes);
+					allocation_arena.removeFront(extension_length);
+				}
+			}
+		}
+		if( extension_length == 0 ) {
+			synchronized( available_chunk_index ) {
+				Chunk available_chunk = available_chunk_index.removeStartingAt(address);
+				if( available_chunk != null ) {
+					extension_length = Math.min(available_chunk.getLength(), number_of_bytes);
+					available_chunk = removeFront(available_chunk, extension_length);
+					if( available_chunk != null ) {
+						available_chunk_index.add(available_chunk);
+					}
+				}
+			}
+		}
+		return extension_length;
+	}
+	
+	
+	/**
+	 * <p>returns the regions of all arenas to the {@link #available_chunk_index} - the arenas are refilled on their
+	 * next allocation</p>
+	 */
+	public void releaseAllocationArenas() {
+		Chunk region;
+		for( AllocationArena allocation_arena : allocation_arena_array ) {
+			synchronized( allocation_arena ) {
+				region = allocation_arena.removeRegion();
+				if( region != null ) {
+					addAvailableChunk(region);
+				}
+			}
+		}
+	}
 
 
 	/**
-	 * <p></p>
+	 * <p>adds the indices of the empty entries which have been found while the chunk table has been loaded</p>
 	 *
-	 * @param
-	 * @return
+	 * @param available_index_word_array the indices as bits - see {@link snowflake.core.IndexBitmap#addAll(long[])}
 	 */
-	public void setInitialIndices(ArrayList<Long> available_index_list) {
+	public void setInitialIndices(long[] available_index_word_array) {
 		if( StaticMode.TESTING_MODE ) {
 			if( hasBeenOpened() ) {
 				throw new SecurityException("The chunk_manager must not be opened when the initial indices are set!");
 			}
-			Checker.checkForNull(available_index_list, GlobalString.AvailableIndexList.toString());
-		}
-		if( !available_index_list.isEmpty() ) {
-			data_table.addAvailableIndices(available_index_list);
+			Checker.checkForNull(available_index_word_array, GlobalString.IndexWordArray.toString());
 		}
+		data_table.addAvailableIndices(available_index_word_array);
 	}
 	
 	
@@ -344,8 +634,8 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 
 		closure_state = ClosureState.InOpening;
 		chunk_recycling_manager.start();
-		chunk_merging_manager.start();
 		chunk_manager_thread.start();
+		chunk_table_flush_thread.start();
 		closure_state = ClosureState.Open;
 		
 	}
@@ -362,10 +652,15 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 			}
 		}
 
+		// the rest of the regions has not been saved yet
+		releaseAllocationArenas();
 		closure_state = ClosureState.InClosure;
 		chunk_recycling_manager.stop();
-		chunk_merging_manager.stop();
 		chunk_manager_thread.interrupt();
+		// an interrupt during a forced flush would close the channel of the table file, so the thread is joined
+		chunk_table_flush_thread.stopAndJoin();
+		// the entries saved until now must not get lost
+		data_table.flush();
 		closure_state = ClosureState.Closed;
 		
 	}
@@ -397,6 +692,7 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 		if( !chunk_recycling_manager.add(chunk) ) {
 			throw new StorageException("Could not add " + chunk.toString() + " to the chunk_recycling_manager!");
 		}
+		recycled_byte_counter.add(chunk.getLength());
 	}
 
 
@@ -411,6 +707,9 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 			if( !chunk_recycling_manager.addAll(chunk_collection) ) {
 				throw new StorageException("Could not add all chunks to the chunk_recycling_manager!");
 			}
+			for( Chunk chunk : chunk_collection ) {
+				recycled_byte_counter.add(chunk.getLength());
+			}
 		}
 	}
 	
@@ -431,6 +730,9 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 			return chunks[0];
 		}
 		
+		ChunkMergeEvent chunk_merge_event = new ChunkMergeEvent();
+		chunk_merge_event.begin();
+		
 		
 		//tests all but the last chunk if the next chunk is their neighbour 
 		for(int a=0,n=chunks.length;a<n-1;a++) {
@@ -471,6 +773,8 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 		Chunk merged_chunk = new Chunk(this, start_address, length, data_table.getAvailableIndex());
 		merged_chunk.setPositionInFlake(position_in_flake);
 		merged_chunk.save(null);
+		merge_counter.increment();
+		chunk_merge_event.report(chunks.length, length);
 		
 		return merged_chunk;
 		
@@ -478,6 +782,38 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 	}
 	
 	
+	/* (non-Javadoc)
+	 * @see snowflake.core.manager.IChunkManager#joinChunks(java.util.List)
+	 */
+	@Override public Chunk joinChunks(List<Chunk> chunk_list) {
+		if( StaticMode.TESTING_MODE ) {
+			Checker.checkForNull(chunk_list, GlobalString.ChunkList.toString());
+		}
+		if( chunk_list.isEmpty() ) {
+			throw new IllegalArgumentException("The chunk_list must not be empty!");
+		}
+		ChunkMergeEvent chunk_merge_event = new ChunkMergeEvent();
+		chunk_merge_event.begin();
+		Chunk first_chunk = chunk_list.get(0);
+		long length = first_chunk.getLength();
+		Chunk previous_chunk = first_chunk;
+		for(int a=1,n=chunk_list.size();a<n;a++) {
+			Chunk current_chunk = chunk_list.get(a);
+			if( previous_chunk.getStartAddress() + previous_chunk.getLength() != current_chunk.getStartAddress() ) {
+				throw new IllegalArgumentException("The chunk " + current_chunk.toString() 
+						+ " does not directly follow the chunk " + previous_chunk.toString() + "!");
+			}
+			length += current_chunk.getLength();
+			previous_chunk = current_chunk;
+		}
+		Chunk joined_chunk = new Chunk(this, first_chunk.getStartAddress(), length, first_chunk.getChunkTableIndex());
+		joined_chunk.setPositionInFlake(first_chunk.getPositionInFlake());
+		merge_counter.increment();
+		chunk_merge_event.report(chunk_list.size(), length);
+		return joined_chunk;
+	}
+	
+	
 	/* (non-Javadoc)
 	 * @see snowflake.api.IChunkManager#splitChunk(snowflake.core.Chunk, long)
 	 */
@@ -489,6 +825,8 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 			throw new IllegalArgumentException("A chunk of length 1 can not be splitted.");
 		}
 		Checker.checkForBoundaries(position, 1, chunk.getLength() - 1, GlobalString.Position.toString());
+		ChunkSplitEvent chunk_split_event = new ChunkSplitEvent();
+		chunk_split_event.begin();
 		SplitChunk split_chunk = new SplitChunk(
 			new Chunk(
 				this, chunk.getStartAddress(), position, data_table.getAvailableIndex()
@@ -504,6 +842,8 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 		chunk.delete();
 		split_chunk.getLeftChunk().save(null);
 		split_chunk.getRightChunk().save(null);
+		split_counter.increment();
+		chunk_split_event.report(chunk.getLength(), position);
 		return split_chunk;
 	}
 	
@@ -518,6 +858,142 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 	}
 	
 	
+	/* (non-Javadoc)
+	 * @see snowflake.core.manager.IChunkManager#allocateContiguousSpace(long)
+	 */
+	@Override public Chunk allocateContiguousSpace(long number_of_bytes) {
+		if( StaticMode.TESTING_MODE ) {
+			if( !isOpen() ) {
+				throw new SecurityException("The instance is not open!");
+			}
+		}
+		Checker.checkForBoundaries(number_of_bytes, 1, Long.MAX_VALUE, GlobalString.NumberOfBytes.toString());
+		allocation_counter.increment();
+		allocated_byte_counter.add(number_of_bytes);
+		return removeContiguousSpace(number_of_bytes);
+	}
+	
+	
+	/**
+	 * <p>removes a single chunk of number_of_bytes bytes from the available chunks - the data file grows, if no
+	 * available chunk is large enough</p>
+	 *
+	 * @param number_of_bytes number of bytes
+	 * @return the chunk
+	 */
+	private Chunk removeContiguousSpace(long number_of_bytes) {
+		Chunk chunk;
+		do {
+			chunk = available_chunk_index.removeAtLeast(number_of_bytes);
+			if( chunk == null ) {
+				createAvailableChunk(number_of_bytes);
+			}
+		}
+		while( chunk == null );
+		if( chunk.getLength() > number_of_bytes ) {
+			// trimToSizeUnsafe() is okay, because the chunk has already been available
+			chunk = trimToSizeUnsafe(chunk, number_of_bytes);
+		}
+		return chunk;
+	}
+	
+	
+	/**
+	 * <p>allocates a single chunk of number_of_bytes bytes which ends before end_address - the available chunk with
+	 * the lowest start address is taken</p>
+	 *
+	 * @param number_of_bytes number of bytes
+	 * @param end_address the address the chunk must not reach beyond
+	 * @return the chunk or null, if no available chunk is large enough
+	 */
+	public Chunk allocateSpaceBefore(long number_of_bytes, long end_address) {
+		Checker.checkForBoundaries(number_of_bytes, 1, Long.MAX_VALUE, GlobalString.NumberOfBytes.toString());
+		Chunk chunk = available_chunk_index.removeFirstBefore(number_of_bytes, end_address);
+		if( chunk == null ) {
+			return null;
+		}
+		if( chunk.getLength() > number_of_bytes ) {
+			// trimToSizeUnsafe() is okay, because the chunk has already been available
+			chunk = trimToSizeUnsafe(chunk, number_of_bytes);
+		}
+		allocation_counter.increment();
+		allocated_byte_counter.add(number_of_bytes);
+		return chunk;
+	}
+	
+	
+	/**
+	 * <p>deletes all available chunks - and the given replaced chunks - which form a contiguous range at the end of
+	 * the data file and truncates the data file by this range</p>
+	 * <p>
+	 * 		The replaced chunks which are not deleted are recycled. The space is truncated right away, so no reader may
+	 * 		still resolve any address in it - the replaced chunks must not be part of any layout a reader can still use.
+	 * </p>
+	 *
+	 * @param replaced_chunk_collection chunks which are not part of any flake anymore, which have not been cleared
+	 * and which no reader uses anymore
+	 * @return the number of bytes the data file has been truncated by
+	 */
+	public long releaseTrailingSpace(Collection<Chunk> replaced_chunk_collection) {
+		// the region of an arena would block the end of the data file
+		releaseAllocationArenas();
+		ArrayList<Chunk> released_chunk_list = new ArrayList<>();
+		ArrayList<Chunk> remaining_replaced_chunk_list = new ArrayList<>(replaced_chunk_collection);
+		long allocated_space;
+		long end_address;
+		Chunk chunk;
+		synchronized( available_chunk_index ) {
+			allocated_space = storage_information.getAllocatedSpace();
+			end_address = allocated_space;
+			do {
+				chunk = available_chunk_index.removeEndingAt(end_address);
+				if( chunk == null ) {
+					for( Chunk replaced_chunk : remaining_replaced_chunk_list ) {
+						if( replaced_chunk.getStartAddress() + replaced_chunk.getLength() == end_address ) {
+							chunk = replaced_chunk;
+							break;
+						}
+					}
+					remaining_replaced_chunk_list.remove(chunk);
+				}
+				if( chunk != null ) {
+					end_address = chunk.getStartAddress();
+					released_chunk_list.add(chunk);
+				}
+			}
+			while( chunk != null );
+			if( !released_chunk_list.isEmpty() ) {
+				// the entries are deleted first - a crash in between only leaves unused space in the data file
+				for( Chunk released_chunk : released_chunk_list ) {
+					released_chunk.delete();
+				}
+				data_table.flush();
+				allocate_space.releaseSpace(end_address);
+			}
+		}
+		recycleChunks(remaining_replaced_chunk_list);
+		data_table.trim();
+		return allocated_space - end_address;
+	}
+	
+	
+	/**
+	 * <p>the number of bytes the available chunks at the end of the data file span</p>
+	 *
+	 * @return the number of releasable bytes
+	 */
+	public long getReleasableSpace() {
+		synchronized( available_chunk_index ) {
+			// the available chunks are merged, so at most one of them ends at the end of the data file
+			Chunk chunk = available_chunk_index.getLast();
+			if( chunk == null || chunk.getStartAddress() + chunk.getLength() != storage_information.getAllocatedSpace() ) {
+				return 0;
+			}
+			return chunk.getLength();
+		}
+	}
+	
+	
 	/* (non-Javadoc)
 	 * @see snowflake.core.manager.IChunkManager#allocateSpace(long)
 	 */
@@ -530,56 +1006,59 @@ public final class ChunkManager implements IChunkManager, IChunkMemory, IClose<I
 				number_of_bytes, 1, Long.MAX_VALUE, GlobalString.NumberOfBytes.toString()
 			);
 		}
+		allocation_counter.increment();
+		allocated_byte_counter.add(number_of_bytes);
+		ChunkAllocationEvent chunk_allocation_event = new ChunkAllocationEvent();
+		chunk_allocation_event.begin();
+		long start_time = allocation_latency_histogram.start();
+		ArrayList<Chunk> chunk_list;
+		try {
+			chunk_list = removeSpace(number_of_bytes);
+		}
+		finally {
+			allocation_latency_histogram.recordSince(start_time);
+		}
+		chunk_allocation_event.report(number_of_bytes, chunk_list.size());
+		return chunk_list;
+	}
+	
+	
+	/**
+	 * <p>removes chunks with a total length of number_of_bytes bytes from the arenas or the available chunks - the
+	 * data file grows, if not enough space is available</p>
+	 *
+	 * @param number_of_bytes number of bytes
+	 * @return the chunks
+	 */
+	private ArrayList<Chunk> removeSpace(long number_of_bytes) {
 		ArrayList<Chunk> chunk_list = new ArrayList<>(1);
+		if( allocation_arena_array.length != 0 && number_of_bytes <= allocation_arena_size >> 2 ) {
+			// small requests do not contend for the lock of the available_chunk_index
+			chunk_list.add(allocateFromArena(number_of_bytes));
+			return chunk_list;
+		}
 		Chunk current_chunk;
 		long remaining_bytes = number_of_bytes;
-		long current_available_chunk_list_size;
-		synchronized( available_chunk_tree ) {
-			do {
-				current_available_chunk_list_size = available_chunk_tree.getSize();
-				if( current_available_chunk_list_size > 0 ) {
-					current_chunk = available_chunk_tree.remove(
-						ComparisonType.SmallerThanOrEqualTo, new Long(remaining_bytes)
-					);
-					if( current_chunk != null ) {
-						remaining_bytes -= current_chunk.getLength();
-						chunk_list.add(current_chunk);
-					}
-					else {
-						break;
-					}
-				}
-				else {
-					break;
-				}
+		do {
+			synchronized( available_chunk_index ) {
+				current_chunk = allocation_policy.removeChunk(available_chunk_index, remaining_bytes);
 			}
-			while( remaining_bytes > 0 );
-		}
-		if( remaining_bytes > 0 ) {
-			do {
-				synchronized( available_chunk_tree ) {
-					current_chunk = available_chunk_tree.remove(
-						ComparisonType.GreaterThanOrEqualTo, new Long(remaining_bytes)
-					);
-				}
-				if( current_chunk != null ) {
-					if( current_chunk.getLength() <= remaining_bytes ) {
-						remaining_bytes -= current_chunk.getLength();
-						chunk_list.add(current_chunk);
-					}
-					else {
-						// trimToSizeUnsafe() is okay, because the chunk has already been available
-						chunk_list.add(trimToSizeUnsafe(current_chunk, remaining_bytes));
-						remaining_bytes = 0;
-					}
-					current_chunk = null;
+			if( current_chunk != null ) {
+				if( current_chunk.getLength() <= remaining_bytes ) {
+					remaining_bytes -= current_chunk.getLength();
+					chunk_list.add(current_chunk);
 				}
 				else {
-					createAvailableChunk(remaining_bytes);
+					// trimToSizeUnsafe() is okay, because the chunk has already been available
+					chunk_list.add(trimToSizeUnsafe(current_chunk, remaining_bytes));
+					remaining_bytes = 0;
 				}
 			}
-			while( remaining_bytes > 0 );
+			else {
+				createAvailableChunk(remaining_bytes);
+			}
 		}
+		while( remaining_bytes > 0 );
 		return chunk_list;
 	}
 	
@@ -2,7 +2,7 @@ package snowflake.core.manager;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
+import java.util.function.Consumer;
 
 import j3l.util.LoopedTaskThread;
 import j3l.util.Checker;
@@ -10,14 +10,16 @@ import snowflake.GlobalString;
 import snowflake.StaticMode;
 import snowflake.api.StorageException;
 import snowflake.core.Chunk;
+import snowflake.core.event.ChunkRecyclingEvent;
 import snowflake.core.storage.IClearChunk;
+import snowflake.core.storage.StorageStatistics;
 
 
 /**
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.07.11_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public final class ChunkRecyclingManager {
@@ -30,9 +32,9 @@ public final class ChunkRecyclingManager {
 	
 	
 	/**
-	 * <p></p>
+	 * <p>receives every chunk as soon as it has been cleared</p>
 	 */
-	private final ArrayList<Chunk> available_chunk_list;
+	private final Consumer<Chunk> available_chunk_consumer;
 	
 	
 	/**
@@ -41,6 +43,12 @@ public final class ChunkRecyclingManager {
 	private final IClearChunk clear_chunk;
 	
 	
+	/**
+	 * <p>receives every chunk which is added or cleared</p>
+	 */
+	private final StorageStatistics storage_statistics;
+	
+	
 	/**
 	 * <p></p>
 	 */
@@ -65,18 +73,26 @@ public final class ChunkRecyclingManager {
 	 * @param
 	 * @return
 	 */
-	public ChunkRecyclingManager(IClearChunk clear_chunk, long chunk_recycling_threshhold) {
+	public ChunkRecyclingManager(IClearChunk clear_chunk, long chunk_recycling_threshhold, 
+			Consumer<Chunk> available_chunk_consumer, StorageStatistics storage_statistics) {
 		if( StaticMode.TESTING_MODE ) {
 			this.clear_chunk = Checker.checkForNull(clear_chunk, GlobalString.ClearChunk.toString());
+			this.storage_statistics = Checker.checkForNull(
+				storage_statistics, GlobalString.StorageStatistics.toString()
+			);
+			this.available_chunk_consumer = Checker.checkForNull(
+				available_chunk_consumer, GlobalString.AvailableChunkConsumer.toString()
+			);
 		}
 		else {
 			this.clear_chunk = clear_chunk;
+			this.storage_statistics = storage_statistics;
+			this.available_chunk_consumer = available_chunk_consumer;
 		}
 		this.chunk_recycling_threshhold = Checker.checkForBoundaries(
 			chunk_recycling_threshhold, 1, Long.MAX_VALUE, GlobalString.CleaningTreshhold.toString()
 		);
 		chunk_recycling_list = new ArrayList<>(1000);
-		available_chunk_list = new ArrayList<>(1000);
 		chunk_recycling_thread = new LoopedTaskThread(this::recycle, "Snowflake ChunkRecyclingThread", 1000);
 		chunk_recycling_thread.setPriority(Thread.MIN_PRIORITY);
 		is_stopped = false;
@@ -117,30 +133,43 @@ public final class ChunkRecyclingManager {
 	
 	
 	/**
-	 * <p>recycles one of the chunks in {@link #chunk_recycling_tree} and puts it into {@link #available_chunk_list}</p>
+	 * <p>clears chunks in {@link #chunk_recycling_list} and hands them to the {@link #available_chunk_consumer}</p>
 	 */
 	private void recycle() {
+		ChunkRecyclingEvent chunk_recycling_event = new ChunkRecyclingEvent();
+		chunk_recycling_event.begin();
 		long number_of_remaining_bytes = chunk_recycling_threshhold;
+		int number_of_recycled_chunks = 0;
 		Chunk current_chunk;
-		do {
-			if( is_stopped ) {
-				return;
-			}
-			synchronized( chunk_recycling_list ) {
-				if( chunk_recycling_list.isEmpty() ) {
+		try {
+			do {
+				if( is_stopped ) {
 					return;
 				}
-				current_chunk = chunk_recycling_list.remove(chunk_recycling_list.size() - 1);
+				synchronized( chunk_recycling_list ) {
+					if( chunk_recycling_list.isEmpty() ) {
+						return;
+					}
+					current_chunk = chunk_recycling_list.remove(chunk_recycling_list.size() - 1);
+				}
+				storage_statistics.addRecyclable(-1, -current_chunk.getLength());
+				clear_chunk.clearChunk(current_chunk);
+				number_of_remaining_bytes -= current_chunk.getLength();
+				number_of_recycled_chunks++;
+				current_chunk.setNeedsToBeCleared(false);
+				current_chunk.save(null);
+				available_chunk_consumer.accept(current_chunk);
 			}
-			clear_chunk.clearChunk(current_chunk);
-			number_of_remaining_bytes -= current_chunk.getLength();
-			current_chunk.setNeedsToBeCleared(false);
-			current_chunk.save(null);
-			synchronized( available_chunk_list ) {
-				available_chunk_list.add(current_chunk);
+			while( number_of_remaining_bytes > 0 );
+		}
+		finally {
+			// idle runs are not reported
+			if( number_of_recycled_chunks != 0 ) {
+				chunk_recycling_event.report(
+					number_of_recycled_chunks, chunk_recycling_threshhold - number_of_remaining_bytes
+				);
 			}
 		}
-		while( number_of_remaining_bytes > 0 );
 	}
 	
 	
@@ -152,9 +181,7 @@ public final class ChunkRecyclingManager {
 	 */
 	public boolean isEmpty() {
 		synchronized( chunk_recycling_list ) {
-			synchronized( available_chunk_list ) {
-				return chunk_recycling_list.isEmpty() && available_chunk_list.isEmpty();
-			}
+			return chunk_recycling_list.isEmpty();
 		}
 	}
 	
@@ -172,6 +199,7 @@ public final class ChunkRecyclingManager {
 		chunk.save(null);
 		synchronized( chunk_recycling_list ) {
 			if( !chunk_recycling_list.contains(chunk) ) {
+				storage_statistics.addRecyclable(1, chunk.getLength());
 				return chunk_recycling_list.add(chunk);
 			}
 		}
@@ -190,6 +218,7 @@ public final class ChunkRecyclingManager {
 			Checker.checkForNull(chunk_collection, GlobalString.ChunkCollection.toString());
 		}
 		if( chunk_collection.size() > 0 ) {
+			long number_of_bytes = 0;
 			for( Chunk chunk : chunk_collection ) {
 				if( StaticMode.TESTING_MODE ) {
 					Checker.checkForValidation(chunk, GlobalString.Chunk.toString());
@@ -197,28 +226,15 @@ public final class ChunkRecyclingManager {
 				chunk.setNeedsToBeCleared(true);
 				chunk.resetPositionInFlake();
 				chunk.save(null);
+				number_of_bytes += chunk.getLength();
 			}
+			storage_statistics.addRecyclable(chunk_collection.size(), number_of_bytes);
 			synchronized( chunk_recycling_list ) {
 				return chunk_recycling_list.addAll(chunk_collection);
 			}
 		}
 		return false;
 	}
-	
-	
-	/**
-	 * <p></p>
-	 *
-	 * @param
-	 * @return
-	 */
-	public List<Chunk> removeAll() {
-		ArrayList<Chunk> list;
-		synchronized( available_chunk_list ) {
-			list = new ArrayList<>(available_chunk_list);
-			available_chunk_list.clear();
-		}
-		return list;
-	}	
+
 	
 }
@@ -0,0 +1,23 @@
+package snowflake.core.manager;
+
+import snowflake.core.Chunk;
+
+
+/**
+ * <p>see {@link snowflake.core.storage.AllocationPolicy#ContiguousFirst}</p>
+ * 
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class ContiguousFirstAllocationPolicy implements IAllocationPolicy {
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.manager.IAllocationPolicy#removeChunk(snowflake.core.manager.AvailableChunkIndex, long)
+	 */
+	@Override public Chunk removeChunk(AvailableChunkIndex available_chunk_index, long remaining_bytes) {
+		return available_chunk_index.removeAtLeast(remaining_bytes);
+	}
+	
+}
@@ -0,0 +1,283 @@
+package snowflake.core.manager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+import j3l.util.Checker;
+import snowflake.GlobalString;
+import snowflake.StaticMode;
+import snowflake.api.IFlake;
+import snowflake.api.StorageException;
+import snowflake.core.Chunk;
+import snowflake.core.Flake;
+import snowflake.core.IChunk;
+import snowflake.core.LayoutEpoch;
+import snowflake.core.event.DefragmentationEvent;
+import snowflake.core.storage.IFlakeManagerConfiguration;
+import snowflake.core.storage.ITransferData;
+
+
+/**
+ * <p>relocates the data of fragmented flakes into a single chunk while the flakes stay readable</p>
+ * <p>
+ * 		A flake is fragmented, if it consists of more chunks than the chunk count treshhold or if its chunks are
+ * 		smaller than the chunk size treshhold on average. Its data is copied into a new contiguous chunk through a
+ * 		transfer buffer and the chunks are swapped only if the flake has neither been changed nor written in the
+ * 		meantime. The replaced chunks are recycled at the end of the pass, once every channel which might still
+ * 		read or write them has left the {@link LayoutEpoch}.
+ * </p>
+ * 
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class DefragmentationManager {
+	
+	
+	/**
+	 * <p></p>
+	 */
+	private final FlakeManager flake_manager;
+	
+	
+	/**
+	 * <p></p>
+	 */
+	private final ChunkManager chunk_manager;
+	
+	
+	/**
+	 * <p></p>
+	 */
+	private final ITransferData transfer_data;
+	
+	
+	/**
+	 * <p></p>
+	 */
+	private final IFlakeManagerConfiguration flake_manager_configuration;
+	
+	
+	/**
+	 * <p>the epoch the channels enter while they use the layout of a flake</p>
+	 */
+	private final LayoutEpoch layout_epoch;
+	
+	
+	/**
+	 * <p>is held while the chunks of a flake are coalesced or moved, so that the compaction of the storage never
+	 * moves the same chunks</p>
+	 */
+	private final Lock relocation_lock;
+	
+	
+	/**
+	 * <p>is stopped without an interrupt, because an interrupt would close the channel of the data file</p>
+	 */
+	private final StoppableTaskThread defragmentation_thread;
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public DefragmentationManager(FlakeManager flake_manager, ChunkManager chunk_manager, 
+			ITransferData transfer_data, IFlakeManagerConfiguration flake_manager_configuration, 
+			LayoutEpoch layout_epoch, Lock relocation_lock) {
+		if( StaticMode.TESTING_MODE ) {
+			this.flake_manager = Checker.checkForNull(flake_manager, GlobalString.FlakeManager.toString());
+			this.chunk_manager = Checker.checkForNull(chunk_manager, GlobalString.ChunkManager.toString());
+			this.transfer_data = Checker.checkForNull(transfer_data, GlobalString.TransferData.toString());
+			this.flake_manager_configuration = Checker.checkForNull(
+				flake_manager_configuration, GlobalString.FlakeManagerConfiguration.toString()
+			);
+			this.layout_epoch = Checker.checkForNull(layout_epoch, GlobalString.LayoutEpoch.toString());
+			this.relocation_lock = Checker.checkForNull(relocation_lock, GlobalString.RelocationLock.toString());
+		}
+		else {
+			this.flake_manager = flake_manager;
+			this.chunk_manager = chunk_manager;
+			this.transfer_data = transfer_data;
+			this.flake_manager_configuration = flake_manager_configuration;
+			this.layout_epoch = layout_epoch;
+			this.relocation_lock = relocation_lock;
+		}
+		defragmentation_thread = new StoppableTaskThread(this::defragment, "Snowflake DefragmentationThread", 89_000);
+		defragmentation_thread.setPriority(Thread.MIN_PRIORITY);
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public synchronized void start() {
+		defragmentation_thread.start();
+	}
+	
+	
+	/**
+	 * <p>stops the defragmentation after the current flake and waits until the current pass has ended - the thread is
+	 * not interrupted, because an interrupt during a transfer would close the channel of the data file</p>
+	 */
+	public void stop() {
+		defragmentation_thread.stopAndJoin();
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public boolean isFragmented(IFlake flake) {
+		int number_of_chunks = flake.getNumberOfChunks();
+		if( number_of_chunks < 2 ) {
+			return false;
+		}
+		if( number_of_chunks > flake_manager_configuration.getDefragmentationChunkCountTreshhold() ) {
+			return true;
+		}
+		return flake.getLength() / number_of_chunks < flake_manager_configuration.getDefragmentationChunkSizeTreshhold();
+	}
+	
+	
+	/**
+	 * <p>coalesces the chunks of all flakes and defragments all flakes which are still fragmented - the flakes with
+	 * the most chunks come first</p>
+	 * <p>
+	 * 		The replaced chunks are recycled at the end of the pass - even if it has been stopped - after the channels
+	 * 		which might still see them have left the {@link LayoutEpoch}.
+	 * </p>
+	 */
+	private void defragment() {
+		DefragmentationEvent defragmentation_event = new DefragmentationEvent();
+		defragmentation_event.begin();
+		int number_of_inspected_flakes = 0;
+		int number_of_defragmented_flakes = 0;
+		ArrayList<Flake> fragmented_flake_list = new ArrayList<>();
+		ArrayList<Chunk> replaced_chunk_list = new ArrayList<>();
+		try {
+			for( IFlake flake : flake_manager.getFlakes() ) {
+				if( defragmentation_thread.isStopped() ) {
+					return;
+				}
+				if( flake instanceof Flake && flake.isValid() && !flake.isDamaged() ) {
+					// coalescing does not move any data, so it may shrink the number of chunks below the treshhold
+					relocation_lock.lock();
+					try {
+						flake.coalesceChunks();
+					}
+					finally {
+						relocation_lock.unlock();
+					}
+					number_of_inspected_flakes++;
+					if( isFragmented(flake) ) {
+						fragmented_flake_list.add((Flake)flake);
+					}
+				}
+			}
+			if( fragmented_flake_list.isEmpty() ) {
+				return;
+			}
+			fragmented_flake_list.sort((l, r) -> Integer.compare(r.getNumberOfChunks(), l.getNumberOfChunks()));
+			ByteBuffer transfer_buffer = ByteBuffer.allocateDirect(
+				flake_manager_configuration.getDefragmentationTransferBufferSize()
+			);
+			for( Flake flake : fragmented_flake_list ) {
+				if( defragmentation_thread.isStopped() ) {
+					return;
+				}
+				relocation_lock.lock();
+				try {
+					if( defragment(flake, transfer_buffer, replaced_chunk_list) ) {
+						number_of_defragmented_flakes++;
+					}
+				}
+				catch( IOException | StorageException e ) {
+					e.printStackTrace();
+				}
+				finally {
+					relocation_lock.unlock();
+				}
+			}
+		}
+		finally {
+			if( !replaced_chunk_list.isEmpty() ) {
+				layout_epoch.awaitReaders();
+				chunk_manager.recycleChunks(replaced_chunk_list);
+			}
+			defragmentation_event.report(
+				number_of_inspected_flakes, fragmented_flake_list.size(), number_of_defragmented_flakes
+			);
+		}
+	}
+	
+	
+	/**
+	 * <p>copies the data of the flake into a new chunk and replaces the chunks of the flake by it</p>
+	 * <p>
+	 * 		The new chunk is as long as the flake. Flakes which hold reserved bytes are skipped, because the chunks of
+	 * 		the reservation are not part of the flake - they are defragmented once the reservation has been used or
+	 * 		released.
+	 * </p>
+	 *
+	 * @param flake the flake
+	 * @param transfer_buffer the buffer the data is copied through
+	 * @param replaced_chunk_list the list the replaced chunks are added to
+	 * @return true if the flake has been defragmented, false if it has been changed in the meantime
+	 */
+	private boolean defragment(Flake flake, ByteBuffer transfer_buffer, List<Chunk> replaced_chunk_list) 
+			throws IOException {
+		if( flake.isBeingWritten() || flake.getReservedLength() != 0 ) {
+			return false;
+		}
+		long modification_count = flake.getModificationCount();
+		long write_generation = flake.getWriteGeneration();
+		IChunk[] chunks = flake.getChunks();
+		long length = flake.getLength();
+		if( chunks.length < 2 || length == 0 ) {
+			return false;
+		}
+		Chunk new_chunk = chunk_manager.allocateContiguousSpace(length);
+		boolean is_relocated = false;
+		long number_of_bytes;
+		try {
+			for( IChunk chunk : chunks ) {
+				if( defragmentation_thread.isStopped() || flake.getModificationCount() != modification_count ) {
+					return false;
+				}
+				// only the bytes of the flake are copied - relocate() refuses, if the chunks hold any other bytes
+				number_of_bytes = Math.min(chunk.getLength(), length - chunk.getPositionInFlake());
+				if( number_of_bytes <= 0 ) {
+					break;
+				}
+				transfer_data.transferData(
+					chunk.getStartAddress(), new_chunk.getStartAddress() + chunk.getPositionInFlake(), 
+					number_of_bytes, transfer_buffer
+				);
+			}
+			List<Chunk> replaced_chunks = flake.relocate(new_chunk, modification_count, write_generation);
+			if( replaced_chunks == null ) {
+				return false;
+			}
+			is_relocated = true;
+			replaced_chunk_list.addAll(replaced_chunks);
+			return true;
+		}
+		finally {
+			if( !is_relocated ) {
+				chunk_manager.recycleChunk(new_chunk);
+			}
+		}
+	}
+	
+}
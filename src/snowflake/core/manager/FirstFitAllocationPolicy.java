@@ -0,0 +1,27 @@
+package snowflake.core.manager;
+
+import snowflake.core.Chunk;
+
+
+/**
+ * <p>see {@link snowflake.core.storage.AllocationPolicy#FirstFit}</p>
+ * 
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class FirstFitAllocationPolicy implements IAllocationPolicy {
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.manager.IAllocationPolicy#removeChunk(snowflake.core.manager.AvailableChunkIndex, long)
+	 */
+	@Override public Chunk removeChunk(AvailableChunkIndex available_chunk_index, long remaining_bytes) {
+		Chunk chunk = available_chunk_index.removeFirstBefore(remaining_bytes, Long.MAX_VALUE);
+		if( chunk == null ) {
+			chunk = available_chunk_index.removeFirst();
+		}
+		return chunk;
+	}
+	
+}
@@ -14,13 +14,18 @@ import snowflake.api.IFlake;
 import snowflake.api.StorageException;
 import snowflake.core.Chunk;
 import snowflake.core.Flake;
+import snowflake.core.StreamGrowthPolicy;
+import snowflake.core.metrics.LatencyHistogram;
+import snowflake.core.metrics.MetricRegistry;
+import snowflake.core.storage.IFlakeManagerConfiguration;
+import snowflake.core.storage.StorageStatistics;
 
 
 /**
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.07.11_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public final class FlakeManager implements IFlakeManager, IClose<StorageException> {
@@ -62,21 +67,51 @@ public final class FlakeManager implements IFlakeManager, IClose<StorageExceptio
 	private final Object flake_creation_lock;
 	
 	
+	/**
+	 * <p>the growth policy of the output streams of all flakes</p>
+	 */
+	private final StreamGrowthPolicy stream_growth_policy;
+	
+	
+	/**
+	 * <p>handed to every flake</p>
+	 */
+	private final StorageStatistics storage_statistics;
+	
+	
+	/**
+	 * <p>the latencies of {@link Flake#setLength(long)} - handed to every flake</p>
+	 */
+	private final LatencyHistogram length_latency_histogram;
+	
+	
 	/**
 	 * <p></p>
 	 *
 	 * @param
 	 * @return
 	 */
-	public FlakeManager(IChannelManager channel_manager) {
+	public FlakeManager(IChannelManager channel_manager, IFlakeManagerConfiguration flake_manager_configuration,
+			StorageStatistics storage_statistics, MetricRegistry metric_registry) {
 		if( StaticMode.TESTING_MODE ) {
 			this.channel_manager = Checker.checkForNull(
 				channel_manager, GlobalString.ChannelManager.toString()
 			);
+			this.storage_statistics = Checker.checkForNull(
+				storage_statistics, GlobalString.StorageStatistics.toString()
+			);
+			Checker.checkForNull(flake_manager_configuration, GlobalString.FlakeManagerConfiguration.toString());
 		}
 		else {
 			this.channel_manager = channel_manager;
+			this.storage_statistics = storage_statistics;
 		}
+		length_latency_histogram = Checker.checkForNull(
+			metric_registry, GlobalString.MetricRegistry.toString()
+		).getHistogram("flake_set_length_latency_nanoseconds");
+		stream_growth_policy = new StreamGrowthPolicy(
+			flake_manager_configuration.getStreamReservationSize(), flake_manager_configuration.getStreamGrowthRate()
+		);
 		flake_table = new Hashtable<>();
 		closure_state = ClosureState.None;
 		flake_creation_lock = new Object();
@@ -95,6 +130,17 @@ public final class FlakeManager implements IFlakeManager, IClose<StorageExceptio
 	}
 	
 	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public int getNumberOfFlakes() {
+		return flake_table.size();
+	}
+	
+	
 	/**
 	 * <p></p>
 	 */
@@ -103,7 +149,10 @@ public final class FlakeManager implements IFlakeManager, IClose<StorageExceptio
 		if( !flakeExists(identification) ) {
 			synchronized( flake_creation_lock ) {
 				Flake flake = new Flake(identification);
-				flake.initialize(channel_manager, chunk_manager, null);
+				flake.initialize(
+					channel_manager, chunk_manager, storage_statistics, length_latency_histogram, stream_growth_policy,
+					null
+				);
 				flake.open();
 				flake_table.put(new Long(identification), flake);
 				return flake;
@@ -140,7 +189,10 @@ public final class FlakeManager implements IFlakeManager, IClose<StorageExceptio
 		}
 		synchronized( flake_creation_lock ) {
 			Flake flake = new Flake(identification);
-			flake.initialize(channel_manager, chunk_manager, initial_chunk_list);			
+			flake.initialize(
+				channel_manager, chunk_manager, storage_statistics, length_latency_histogram, stream_growth_policy,
+				initial_chunk_list
+			);			
 			flake_table.put(new Long(identification), flake);
 			return flake;
 		}
@@ -204,7 +256,9 @@ public final class FlakeManager implements IFlakeManager, IClose<StorageExceptio
 			);
 			flake = new Flake(identification);
 			flake_table.put(new Long(identification), flake);
-			flake.initialize(channel_manager, chunk_manager, null);
+			flake.initialize(
+				channel_manager, chunk_manager, storage_statistics, length_latency_histogram, stream_growth_policy, null
+			);
 			flake.open();
 		}
 		return flake;
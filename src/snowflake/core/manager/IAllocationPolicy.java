@@ -0,0 +1,26 @@
+package snowflake.core.manager;
+
+import snowflake.core.Chunk;
+
+
+/**
+ * <p>chooses the available chunks a request for space is served from</p>
+ * 
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public interface IAllocationPolicy {
+	
+	
+	/**
+	 * <p>removes the next chunk the remaining bytes will be served from - a chunk which is larger than remaining_bytes
+	 * is trimmed by the caller</p>
+	 *
+	 * @param available_chunk_index the available chunks - the caller holds its lock
+	 * @param remaining_bytes the number of bytes which still need to be allocated
+	 * @return the chunk or null, if the data file needs to be expanded
+	 */
+	Chunk removeChunk(AvailableChunkIndex available_chunk_index, long remaining_bytes);
+	
+}
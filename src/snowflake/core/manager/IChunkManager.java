@@ -1,6 +1,7 @@
 package snowflake.core.manager;
 
 import java.util.Collection;
+import java.util.List;
 
 import j3l.util.IStateClosure;
 import snowflake.core.Chunk;
@@ -11,7 +12,7 @@ import snowflake.core.SplitChunk;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.07.11_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public interface IChunkManager extends IStateClosure  {
@@ -27,6 +28,51 @@ public interface IChunkManager extends IStateClosure  {
 	Collection<Chunk> allocateSpace(long number_of_bytes);
 	
 	
+	/**
+	 * <p>allocates a single chunk of number_of_bytes bytes - the data file will be expanded, if no available chunk is
+	 * large enough</p>
+	 *
+	 * @param number_of_bytes number of bytes
+	 * @return the chunk
+	 */
+	Chunk allocateContiguousSpace(long number_of_bytes);
+	
+	
+	/**
+	 * <p>extends the chunk in place by the available space which directly follows it - the chunk is replaced by a
+	 * longer chunk with the same chunk table index, which has not been saved yet</p>
+	 *
+	 * @param chunk the chunk which will be extended
+	 * @param number_of_bytes the maximum number of bytes the chunk will be extended by
+	 * @return the extended chunk or null, if no available space directly follows the chunk
+	 */
+	Chunk extendChunk(Chunk chunk, long number_of_bytes);
+	
+	
+	/**
+	 * <p>allocates the available space which starts at start_address as a new chunk, which has not been saved
+	 * yet</p>
+	 *
+	 * @param start_address the address the chunk starts at
+	 * @param number_of_bytes the maximum number of bytes
+	 * @return the chunk or null, if no available space starts at start_address
+	 */
+	Chunk allocateSpaceAt(long start_address, long number_of_bytes);
+	
+	
+	/**
+	 * <p>moves the first number_of_bytes bytes of right_chunk to the end of left_chunk, which it directly follows in
+	 * the data file - both chunks are replaced by chunks with the same chunk table index, which have not been saved
+	 * yet</p>
+	 *
+	 * @param left_chunk the chunk which grows
+	 * @param right_chunk the chunk which shrinks
+	 * @param number_of_bytes the number of bytes - must be smaller than the length of right_chunk
+	 * @return the grown left chunk and the shrunk right chunk
+	 */
+	SplitChunk moveChunkBoundary(Chunk left_chunk, Chunk right_chunk, long number_of_bytes);
+	
+	
 	/**
 	 * <p></p>
 	 *
@@ -54,6 +100,19 @@ public interface IChunkManager extends IStateClosure  {
 	Chunk mergeChunks(Collection<Chunk> chunk_collection);
 	
 	
+	/**
+	 * <p>joins chunks of a flake which follow each other in the data file into a single chunk - the joined chunk
+	 * keeps the chunk table index and the position in the flake of the first chunk and has not been saved yet</p>
+	 * <p>
+	 * 		The caller saves the joined chunk and deletes all but the first chunk afterwards.
+	 * </p>
+	 *
+	 * @param chunk_list the chunks ordered by their start address
+	 * @return the joined chunk
+	 */
+	Chunk joinChunks(List<Chunk> chunk_list);
+	
+	
 	/**
 	 * <p></p>
 	 *
@@ -0,0 +1,36 @@
+package snowflake.core.manager;
+
+import snowflake.core.Chunk;
+
+
+/**
+ * <p>see {@link snowflake.core.storage.AllocationPolicy#SegregatedFit}</p>
+ * 
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class SegregatedFitAllocationPolicy implements IAllocationPolicy {
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.manager.IAllocationPolicy#removeChunk(snowflake.core.manager.AvailableChunkIndex, long)
+	 */
+	@Override public Chunk removeChunk(AvailableChunkIndex available_chunk_index, long remaining_bytes) {
+		long minimum_length = remaining_bytes;
+		long size_class_end = Long.highestOneBit(remaining_bytes);
+		Chunk chunk;
+		do {
+			// the end of the size class - the last size class ends at Long.MAX_VALUE
+			size_class_end = size_class_end < (Long.MAX_VALUE >> 1) + 1 ? size_class_end << 1 : Long.MAX_VALUE;
+			chunk = available_chunk_index.removeFirstInRange(minimum_length, size_class_end);
+			minimum_length = size_class_end;
+		}
+		while( chunk == null && size_class_end != Long.MAX_VALUE );
+		if( chunk == null ) {
+			chunk = available_chunk_index.removeAtMost(Long.MAX_VALUE);
+		}
+		return chunk;
+	}
+	
+}
@@ -0,0 +1,147 @@
+package snowflake.core.manager;
+
+import j3l.util.Checker;
+import snowflake.GlobalString;
+import snowflake.StaticMode;
+
+
+/**
+ * <p>runs a task repeatedly and waits the loop time span between two runs</p>
+ * <p>
+ * 		Unlike a {@link j3l.util.LoopedTaskThread} this thread is stopped without an interrupt: a FileChannel is
+ * 		closed for good, if the thread which uses it gets interrupted, so a task which does io must not be
+ * 		interrupted. {@link #stopAndJoin()} ends the wait, lets the current run finish and joins the thread.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+final class StoppableTaskThread extends Thread {
+
+
+	/**
+	 * <p></p>
+	 */
+	private final Runnable task;
+
+
+	/**
+	 * <p>the time in milliseconds which is waited between two runs</p>
+	 */
+	private final long loop_time_span;
+
+
+	/**
+	 * <p>the monitor the wait between two runs is done on</p>
+	 */
+	private final Object wait_lock;
+
+
+	/**
+	 * <p></p>
+	 */
+	private volatile boolean is_stopped;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param task the task which is run
+	 * @param name the name of the thread
+	 * @param loop_time_span the time in milliseconds which is waited between two runs
+	 */
+	public StoppableTaskThread(Runnable task, String name, long loop_time_span) {
+		super(name);
+		if( StaticMode.TESTING_MODE ) {
+			this.task = Checker.checkForNull(task, GlobalString.Task.toString());
+			this.loop_time_span = Checker.checkForBoundaries(
+				loop_time_span, 1, Long.MAX_VALUE, GlobalString.LoopTimeSpan.toString()
+			);
+		}
+		else {
+			this.task = task;
+			this.loop_time_span = loop_time_span;
+		}
+		wait_lock = new Object();
+		is_stopped = false;
+	}
+
+
+	/**
+	 * <p>the time in milliseconds which is waited between two runs</p>
+	 *
+	 * @return the loop time span
+	 */
+	public long getLoopTimeSpan() {
+		return loop_time_span;
+	}
+
+
+	/**
+	 * <p>returns true if {@link #stopAndJoin()} has been called - a task may use it to end a long run early</p>
+	 *
+	 * @return true if the thread has been stopped
+	 */
+	public boolean isStopped() {
+		return is_stopped;
+	}
+
+
+	/* (non-Javadoc)
+	 * @see java.lang.Thread#run()
+	 */
+	@Override public void run() {
+		long end_of_wait;
+		long remaining_time;
+		while( !is_stopped ) {
+			try {
+				task.run();
+			}
+			catch( RuntimeException e ) {
+				e.printStackTrace();
+			}
+			end_of_wait = System.currentTimeMillis() + loop_time_span;
+			synchronized( wait_lock ) {
+				remaining_time = loop_time_span;
+				while( !is_stopped && remaining_time > 0 ) {
+					try {
+						wait_lock.wait(remaining_time);
+					}
+					catch( InterruptedException e ) {
+						return;
+					}
+					remaining_time = end_of_wait - System.currentTimeMillis();
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * <p>ends the wait, lets the current run finish and waits until the thread has died - the thread is never
+	 * interrupted</p>
+	 */
+	public void stopAndJoin() {
+		synchronized( wait_lock ) {
+			is_stopped = true;
+			wait_lock.notifyAll();
+		}
+		if( Thread.currentThread() == this || !isAlive() ) {
+			return;
+		}
+		boolean is_interrupted = false;
+		while( isAlive() ) {
+			try {
+				join();
+			}
+			catch( InterruptedException e ) {
+				is_interrupted = true;
+			}
+		}
+		if( is_interrupted ) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,114 @@
+package snowflake.core.metrics;
+
+import j3l.util.Checker;
+import snowflake.GlobalString;
+
+
+/**
+ * <p>the counters and latency histograms of the reads and writes of all {@link snowflake.core.Channel channels} of a
+ * storage - resolved once, so that creating a channel does not look up any metric</p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class ChannelCounters {
+
+
+	/**
+	 * <p></p>
+	 */
+	private final Counter read_operation_counter;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final Counter read_byte_counter;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final Counter write_operation_counter;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final Counter write_byte_counter;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final LatencyHistogram read_latency_histogram;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final LatencyHistogram write_latency_histogram;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public ChannelCounters(MetricRegistry metric_registry) {
+		Checker.checkForNull(metric_registry, GlobalString.MetricRegistry.toString());
+		read_operation_counter = metric_registry.getCounter("channel_read_operations");
+		read_byte_counter = metric_registry.getCounter("channel_read_bytes");
+		write_operation_counter = metric_registry.getCounter("channel_write_operations");
+		write_byte_counter = metric_registry.getCounter("channel_write_bytes");
+		read_latency_histogram = metric_registry.getHistogram("channel_read_latency_nanoseconds");
+		write_latency_histogram = metric_registry.getHistogram("channel_write_latency_nanoseconds");
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param number_of_bytes the number of bytes which have been read
+	 */
+	public void countRead(long number_of_bytes) {
+		read_operation_counter.increment();
+		read_byte_counter.add(number_of_bytes);
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param number_of_bytes the number of bytes which have been written
+	 */
+	public void countWrite(long number_of_bytes) {
+		write_operation_counter.increment();
+		write_byte_counter.add(number_of_bytes);
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the histogram of the latencies of the reads
+	 */
+	public LatencyHistogram getReadLatencyHistogram() {
+		return read_latency_histogram;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the histogram of the latencies of the writes
+	 */
+	public LatencyHistogram getWriteLatencyHistogram() {
+		return write_latency_histogram;
+	}
+
+}
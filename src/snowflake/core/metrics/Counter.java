@@ -0,0 +1,64 @@
+package snowflake.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>a monotonically increasing count - striped, so that concurrent increments do not contend</p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class Counter {
+
+
+	/**
+	 * <p></p>
+	 */
+	private final LongAdder value;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public Counter() {
+		value = new LongAdder();
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void increment() {
+		value.increment();
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param amount the amount - must not be negative
+	 */
+	public void add(long amount) {
+		value.add(amount);
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public long get() {
+		return value.sum();
+	}
+
+}
@@ -0,0 +1,119 @@
+package snowflake.core.metrics;
+
+
+/**
+ * <p>the counts of a {@link LatencyHistogram} at a point in time</p>
+ * <p>
+ * 		Every value is reported as the largest value of its bucket, so the percentiles are never below the recorded
+ * 		latencies.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class HistogramSnapshot {
+
+
+	/**
+	 * <p>the counts of every bucket followed by the sum of all values</p>
+	 */
+	private final long[] count_array;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final long count;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param count_array the counts of every bucket followed by the sum of all values
+	 */
+	HistogramSnapshot(long[] count_array) {
+		this.count_array = count_array;
+		long count = 0;
+		for(int a=0;a<LatencyHistogram.NUMBER_OF_BUCKETS;a++) {
+			count += count_array[a];
+		}
+		this.count = count;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @return the number of recorded values
+	 */
+	public long getCount() {
+		return count;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @return the sum of all recorded values in nanoseconds
+	 */
+	public long getSum() {
+		return count_array[LatencyHistogram.SUM_INDEX];
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @return the mean of all recorded values in nanoseconds or 0, if nothing has been recorded
+	 */
+	public double getMean() {
+		if( count == 0 ) {
+			return 0d;
+		}
+		return (double)getSum() / count;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param percentile the percentile between 0 and 100
+	 * @return the value in nanoseconds which percentile percent of the recorded values do not exceed or 0, if
+	 * nothing has been recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if( !( percentile >= 0d && percentile <= 100d ) ) {
+			throw new IllegalArgumentException("The percentile must be between 0 and 100, but is " + percentile + "!");
+		}
+		if( count == 0 ) {
+			return 0L;
+		}
+		// cast is okay, because the product is at most count
+		long rank = Math.max(1L, (long)Math.ceil(percentile / 100d * count));
+		long cumulative_count = 0;
+		for(int a=0;a<LatencyHistogram.NUMBER_OF_BUCKETS;a++) {
+			cumulative_count += count_array[a];
+			if( cumulative_count >= rank ) {
+				return LatencyHistogram.getHighestValue(a);
+			}
+		}
+		return getMaximum();
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @return the largest recorded value in nanoseconds or 0, if nothing has been recorded
+	 */
+	public long getMaximum() {
+		for(int a=LatencyHistogram.NUMBER_OF_BUCKETS-1;a>=0;a--) {
+			if( count_array[a] != 0 ) {
+				return LatencyHistogram.getHighestValue(a);
+			}
+		}
+		return 0L;
+	}
+
+}
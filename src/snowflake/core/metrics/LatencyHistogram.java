@@ -0,0 +1,320 @@
+package snowflake.core.metrics;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * <p>a log-bucketed histogram of latencies in nanoseconds</p>
+ * <p>
+ * 		Like in a HDR histogram every power of two is divided into {@link #SUB_BUCKET_COUNT} linear buckets, so every
+ * 		recorded value is off by at most 1/32 of its magnitude. Every thread records into its own array of counts
+ * 		which it alone writes - recording does neither allocate nor contend after the first value of a thread. The
+ * 		arrays are summed up by {@link #getSnapshot()}. {@link #reset()} only moves the baseline the snapshots are
+ * 		taken against, so the recording threads never need to be stopped.
+ * </p>
+ * <p>
+ * 		A disabled histogram neither reads the clock nor records anything:
+ * </p>
+ * <pre>
+ * long start_time = latency_histogram.start();
+ * try {
+ * 	...
+ * }
+ * finally {
+ * 	latency_histogram.recordSince(start_time);
+ * }
+ * </pre>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class LatencyHistogram {
+
+
+	/**
+	 * <p>the histogram handed out, if the recording of latencies is disabled</p>
+	 */
+	public final static LatencyHistogram DISABLED = new LatencyHistogram(false);
+
+
+	/**
+	 * <p></p>
+	 */
+	public final static int SUB_BUCKET_BITS = 5;
+
+
+	/**
+	 * <p>the number of linear buckets per power of two</p>
+	 */
+	public final static int SUB_BUCKET_COUNT = 1 << LatencyHistogram.SUB_BUCKET_BITS;
+
+
+	/**
+	 * <p>the number of bits of the largest value which can be recorded</p>
+	 */
+	private final static int MAXIMUM_VALUE_BITS = 40;
+
+
+	/**
+	 * <p>the largest value which can be recorded - about 18 minutes, larger values are recorded as this value</p>
+	 */
+	public final static long MAXIMUM_VALUE = (1L << LatencyHistogram.MAXIMUM_VALUE_BITS) - 1;
+
+
+	/**
+	 * <p></p>
+	 */
+	final static int NUMBER_OF_BUCKETS =
+			(LatencyHistogram.MAXIMUM_VALUE_BITS - LatencyHistogram.SUB_BUCKET_BITS + 1) << LatencyHistogram.SUB_BUCKET_BITS;
+
+
+	/**
+	 * <p>the index of the sum of all recorded values in the arrays of counts</p>
+	 */
+	final static int SUM_INDEX = LatencyHistogram.NUMBER_OF_BUCKETS;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param value a value between 0 and {@link #MAXIMUM_VALUE}
+	 * @return the index of the bucket of the value
+	 */
+	static int getBucketIndex(long value) {
+		int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - LatencyHistogram.SUB_BUCKET_BITS);
+		// cast is okay, because value >>> shift is smaller than 2 * SUB_BUCKET_COUNT
+		return (shift << LatencyHistogram.SUB_BUCKET_BITS) + (int)(value >>> shift);
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param bucket_index the index of a bucket
+	 * @return the smallest value which is recorded in the bucket
+	 */
+	static long getLowestValue(int bucket_index) {
+		int shift = Math.max(0, (bucket_index >>> LatencyHistogram.SUB_BUCKET_BITS) - 1);
+		return (long)(bucket_index - (shift << LatencyHistogram.SUB_BUCKET_BITS)) << shift;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param bucket_index the index of a bucket
+	 * @return the largest value which is recorded in the bucket
+	 */
+	static long getHighestValue(int bucket_index) {
+		int shift = Math.max(0, (bucket_index >>> LatencyHistogram.SUB_BUCKET_BITS) - 1);
+		return LatencyHistogram.getLowestValue(bucket_index) + (1L << shift) - 1;
+	}
+
+
+	/**
+	 * <p>the counts of a single thread</p>
+	 */
+	private final static class ThreadCounts {
+
+		/**
+		 * <p></p>
+		 */
+		private final Thread thread;
+
+
+		/**
+		 * <p>the counts of every bucket followed by the sum of all values - only written by the {@link #thread}</p>
+		 */
+		private final AtomicLongArray count_array;
+
+
+		/**
+		 * <p></p>
+		 */
+		private ThreadCounts(Thread thread) {
+			this.thread = thread;
+			count_array = new AtomicLongArray(LatencyHistogram.NUMBER_OF_BUCKETS + 1);
+		}
+
+	}
+
+
+	/**
+	 * <p></p>
+	 */
+	private final boolean is_enabled;
+
+
+	/**
+	 * <p>the counts of the current thread</p>
+	 */
+	private final ThreadLocal<AtomicLongArray> thread_count_array;
+
+
+	/**
+	 * <p>the counts of all threads which are alive - only used while holding its lock</p>
+	 */
+	private final ArrayList<ThreadCounts> thread_counts_list;
+
+
+	/**
+	 * <p>the counts of all terminated threads - only used while holding the lock of the {@link #thread_counts_list}</p>
+	 */
+	private final long[] retired_count_array;
+
+
+	/**
+	 * <p>the counts at the last {@link #reset()} - only used while holding the lock of the {@link #thread_counts_list}
+	 * </p>
+	 */
+	private final long[] baseline_count_array;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param is_enabled if the latencies will be recorded
+	 */
+	LatencyHistogram(boolean is_enabled) {
+		this.is_enabled = is_enabled;
+		thread_count_array = ThreadLocal.withInitial(this::registerThread);
+		thread_counts_list = new ArrayList<>();
+		retired_count_array = new long[ LatencyHistogram.NUMBER_OF_BUCKETS + 1 ];
+		baseline_count_array = new long[ LatencyHistogram.NUMBER_OF_BUCKETS + 1 ];
+	}
+
+
+	/**
+	 * <p>creates the counts of the current thread</p>
+	 *
+	 * @return the counts of the current thread
+	 */
+	private AtomicLongArray registerThread() {
+		ThreadCounts thread_counts = new ThreadCounts(Thread.currentThread());
+		synchronized( thread_counts_list ) {
+			retireTerminatedThreads();
+			thread_counts_list.add(thread_counts);
+		}
+		return thread_counts.count_array;
+	}
+
+
+	/**
+	 * <p>moves the counts of terminated threads into the {@link #retired_count_array} - the caller must hold the lock
+	 * of the {@link #thread_counts_list}</p>
+	 */
+	private void retireTerminatedThreads() {
+		Iterator<ThreadCounts> iterator = thread_counts_list.iterator();
+		ThreadCounts thread_counts;
+		while( iterator.hasNext() ) {
+			thread_counts = iterator.next();
+			if( !thread_counts.thread.isAlive() ) {
+				// the terminated thread will never write again
+				for(int a=0;a<retired_count_array.length;a++) {
+					retired_count_array[a] += thread_counts.count_array.get(a);
+				}
+				iterator.remove();
+			}
+		}
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @return true if the latencies are recorded, false otherwise
+	 */
+	public boolean isEnabled() {
+		return is_enabled;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @return the start time of an operation which is passed to {@link #recordSince(long)} or 0, if the histogram
+	 * is disabled
+	 */
+	public long start() {
+		return is_enabled ? System.nanoTime() : 0L;
+	}
+
+
+	/**
+	 * <p>records the time which has passed since start_time</p>
+	 *
+	 * @param start_time the value returned by {@link #start()}
+	 */
+	public void recordSince(long start_time) {
+		if( is_enabled ) {
+			record(System.nanoTime() - start_time);
+		}
+	}
+
+
+	/**
+	 * <p>records a latency</p>
+	 *
+	 * @param latency the latency in nanoseconds
+	 */
+	public void record(long latency) {
+		if( !is_enabled ) {
+			return;
+		}
+		long value = Math.min(Math.max(latency, 0L), LatencyHistogram.MAXIMUM_VALUE);
+		AtomicLongArray count_array = thread_count_array.get();
+		int bucket_index = LatencyHistogram.getBucketIndex(value);
+		// the array is only written by the current thread, so no atomic increment is needed
+		count_array.lazySet(bucket_index, count_array.get(bucket_index) + 1);
+		count_array.lazySet(LatencyHistogram.SUM_INDEX, count_array.get(LatencyHistogram.SUM_INDEX) + value);
+	}
+
+
+	/**
+	 * <p>sums up the counts of all threads - the caller must hold the lock of the {@link #thread_counts_list}</p>
+	 *
+	 * @return the counts of all threads since the histogram has been created
+	 */
+	private long[] sumCounts() {
+		retireTerminatedThreads();
+		long[] count_array = retired_count_array.clone();
+		for( ThreadCounts thread_counts : thread_counts_list ) {
+			for(int a=0;a<count_array.length;a++) {
+				count_array[a] += thread_counts.count_array.get(a);
+			}
+		}
+		return count_array;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @return the latencies recorded since the last {@link #reset()}
+	 */
+	public HistogramSnapshot getSnapshot() {
+		long[] count_array;
+		synchronized( thread_counts_list ) {
+			count_array = sumCounts();
+			for(int a=0;a<count_array.length;a++) {
+				count_array[a] -= baseline_count_array[a];
+			}
+		}
+		return new HistogramSnapshot(count_array);
+	}
+
+
+	/**
+	 * <p>discards all latencies which have been recorded so far</p>
+	 */
+	public void reset() {
+		synchronized( thread_counts_list ) {
+			long[] count_array = sumCounts();
+			System.arraycopy(count_array, 0, baseline_count_array, 0, count_array.length);
+		}
+	}
+
+}
@@ -0,0 +1,272 @@
+package snowflake.core.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongSupplier;
+
+import j3l.util.Checker;
+import snowflake.GlobalString;
+
+
+/**
+ * <p>the counters and gauges of a storage</p>
+ * <p>
+ * 		Counters and histograms are created on their first request, so every component asks for them by name once
+ * 		and keeps them. Gauges are read when the metrics are queried. Names consist of lower case letters, digits and
+ * 		underscores. The metrics are exposed by the {@link MetricRegistryMBean} and the {@link MetricsHttpServer}.
+ * 		Histograms only record, if the registry has been created with the recording of latencies enabled.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class MetricRegistry {
+
+
+	/**
+	 * <p>the prefix of every name in the text format</p>
+	 */
+	private final static String TEXT_FORMAT_PREFIX = "snowflake_";
+
+
+	/**
+	 * <p>the quantiles of the histograms in the text format</p>
+	 */
+	private final static double[] TEXT_FORMAT_QUANTILES = new double[] { 0.5d, 0.9d, 0.99d, 0.999d };
+
+
+	/**
+	 * <p></p>
+	 */
+	private final ConcurrentSkipListMap<String, Counter> counter_map;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final ConcurrentSkipListMap<String, LongSupplier> gauge_map;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final ConcurrentSkipListMap<String, LatencyHistogram> histogram_map;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final boolean is_latency_recording_enabled;
+
+
+	/**
+	 * <p>creates a registry which does not record latencies</p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public MetricRegistry() {
+		this(false);
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param is_latency_recording_enabled if the histograms record latencies
+	 */
+	public MetricRegistry(boolean is_latency_recording_enabled) {
+		this.is_latency_recording_enabled = is_latency_recording_enabled;
+		counter_map = new ConcurrentSkipListMap<>();
+		gauge_map = new ConcurrentSkipListMap<>();
+		histogram_map = new ConcurrentSkipListMap<>();
+	}
+
+
+	/**
+	 * <p>returns the counter with the name - it is created, if it does not exist</p>
+	 *
+	 * @param name the name of the counter
+	 * @return the counter
+	 */
+	public Counter getCounter(String name) {
+		Counter counter = counter_map.get(name);
+		if( counter != null ) {
+			return counter;
+		}
+		MetricRegistry.checkName(name);
+		if( gauge_map.containsKey(name) || histogram_map.containsKey(name) ) {
+			throw new IllegalArgumentException("The name \"" + name + "\" is already used by another metric!");
+		}
+		return counter_map.computeIfAbsent(name, n -> new Counter());
+	}
+
+
+	/**
+	 * <p>returns the histogram with the name - it is created, if it does not exist</p>
+	 *
+	 * @param name the name of the histogram
+	 * @return the histogram or {@link LatencyHistogram#DISABLED}, if the recording of latencies is disabled
+	 */
+	public LatencyHistogram getHistogram(String name) {
+		if( !is_latency_recording_enabled ) {
+			return LatencyHistogram.DISABLED;
+		}
+		LatencyHistogram histogram = histogram_map.get(name);
+		if( histogram != null ) {
+			return histogram;
+		}
+		MetricRegistry.checkName(name);
+		if( counter_map.containsKey(name) || gauge_map.containsKey(name) ) {
+			throw new IllegalArgumentException("The name \"" + name + "\" is already used by another metric!");
+		}
+		return histogram_map.computeIfAbsent(name, n -> new LatencyHistogram(true));
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the names of all histograms in alphabetical order
+	 */
+	public Set<String> getHistogramNames() {
+		return histogram_map.keySet();
+	}
+
+
+	/**
+	 * <p>discards the recorded latencies of all histograms</p>
+	 */
+	public void resetHistograms() {
+		for( LatencyHistogram histogram : histogram_map.values() ) {
+			histogram.reset();
+		}
+	}
+
+
+	/**
+	 * <p>registers a gauge - an existing gauge with the same name is replaced</p>
+	 *
+	 * @param name the name of the gauge
+	 * @param gauge returns the current value
+	 */
+	public void registerGauge(String name, LongSupplier gauge) {
+		MetricRegistry.checkName(name);
+		Checker.checkForNull(gauge, GlobalString.Gauge.toString());
+		if( counter_map.containsKey(name) || histogram_map.containsKey(name) ) {
+			throw new IllegalArgumentException("The name \"" + name + "\" is already used by another metric!");
+		}
+		gauge_map.put(name, gauge);
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the names of all counters and gauges in alphabetical order
+	 */
+	public TreeSet<String> getNames() {
+		TreeSet<String> name_set = new TreeSet<>(counter_map.keySet());
+		name_set.addAll(gauge_map.keySet());
+		return name_set;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return true if name is the name of a counter, false otherwise
+	 */
+	public boolean isCounter(String name) {
+		return counter_map.containsKey(name);
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param name the name of the metric
+	 * @return the current value of the metric
+	 * @throws IllegalArgumentException if there is no metric with the name
+	 */
+	public long getValue(String name) {
+		Counter counter = counter_map.get(name);
+		if( counter != null ) {
+			return counter.get();
+		}
+		LongSupplier gauge = gauge_map.get(name);
+		if( gauge != null ) {
+			return gauge.getAsLong();
+		}
+		throw new IllegalArgumentException("There is no metric with the name \"" + name + "\"!");
+	}
+
+
+	/**
+	 * <p>writes all metrics in the text format of prometheus</p>
+	 *
+	 * @param output the destination
+	 */
+	public void writeText(Appendable output) throws IOException {
+		for( Map.Entry<String, Counter> entry : counter_map.entrySet() ) {
+			MetricRegistry.writeText(output, entry.getKey(), "counter", entry.getValue().get());
+		}
+		for( Map.Entry<String, LongSupplier> entry : gauge_map.entrySet() ) {
+			MetricRegistry.writeText(output, entry.getKey(), "gauge", entry.getValue().getAsLong());
+		}
+		HistogramSnapshot snapshot;
+		String name;
+		for( Map.Entry<String, LatencyHistogram> entry : histogram_map.entrySet() ) {
+			snapshot = entry.getValue().getSnapshot();
+			name = MetricRegistry.TEXT_FORMAT_PREFIX + entry.getKey();
+			output.append("# TYPE ").append(name).append(" summary\n");
+			for( double quantile : MetricRegistry.TEXT_FORMAT_QUANTILES ) {
+				output.append(name).append("{quantile=\"").append(Double.toString(quantile)).append("\"} ");
+				output.append(Long.toString(snapshot.getValueAtPercentile(quantile * 100d))).append('\n');
+			}
+			output.append(name).append("_sum ").append(Long.toString(snapshot.getSum())).append('\n');
+			output.append(name).append("_count ").append(Long.toString(snapshot.getCount())).append('\n');
+		}
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	private static void writeText(Appendable output, String name, String type, long value) throws IOException {
+		output.append("# TYPE ").append(MetricRegistry.TEXT_FORMAT_PREFIX).append(name).append(' ').append(type);
+		output.append('\n');
+		output.append(MetricRegistry.TEXT_FORMAT_PREFIX).append(name).append(' ').append(Long.toString(value));
+		output.append('\n');
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	private static void checkName(String name) {
+		Checker.checkForEmptyString(name, GlobalString.Name.toString());
+		for(int a=0;a<name.length();a++) {
+			char character = name.charAt(a);
+			if( !( ( character >= 'a' && character <= 'z' ) || ( character >= '0' && character <= '9' )
+					|| character == '_' ) ) {
+				throw new IllegalArgumentException("The name \"" + name + "\" must only consist of lower case letters, "
+						+ "digits and underscores!");
+			}
+		}
+	}
+
+}
@@ -0,0 +1,202 @@
+package snowflake.core.metrics;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ReflectionException;
+
+import j3l.util.Checker;
+import snowflake.GlobalString;
+
+
+/**
+ * <p>exposes every metric of a {@link MetricRegistry} as a read-only attribute of the type long</p>
+ * <p>
+ * 		The attributes are listed anew whenever the info of the bean is requested, because counters are created on
+ * 		their first use. Every histogram is exposed as its count, maximum and several percentiles in nanoseconds -
+ * 		e.g. the attribute "channel_read_latency_nanoseconds_p99". The operation {@link #RESET_HISTOGRAMS} discards
+ * 		the latencies recorded so far.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class MetricRegistryMBean implements DynamicMBean {
+
+
+	/**
+	 * <p>the name of the operation which resets all histograms</p>
+	 */
+	public final static String RESET_HISTOGRAMS = "resetHistograms";
+
+
+	/**
+	 * <p>the suffixes of the attributes of a histogram</p>
+	 */
+	private final static String[] HISTOGRAM_SUFFIX_ARRAY = new String[] {
+		"_count", "_max", "_p50", "_p90", "_p99", "_p999"
+	};
+
+
+	/**
+	 * <p>the percentiles of the suffixes in {@link #HISTOGRAM_SUFFIX_ARRAY} - NaN, if the suffix names no percentile
+	 * </p>
+	 */
+	private final static double[] HISTOGRAM_PERCENTILE_ARRAY = new double[] {
+		Double.NaN, Double.NaN, 50d, 90d, 99d, 99.9d
+	};
+
+
+	/**
+	 * <p></p>
+	 */
+	private final MetricRegistry metric_registry;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public MetricRegistryMBean(MetricRegistry metric_registry) {
+		this.metric_registry = Checker.checkForNull(metric_registry, GlobalString.MetricRegistry.toString());
+	}
+
+
+	/* (non-Javadoc)
+	 * @see javax.management.DynamicMBean#getAttribute(java.lang.String)
+	 */
+	@Override public Object getAttribute(String attribute) throws AttributeNotFoundException {
+		Set<String> histogram_name_set = metric_registry.getHistogramNames();
+		String histogram_name;
+		for(int a=0;a<MetricRegistryMBean.HISTOGRAM_SUFFIX_ARRAY.length;a++) {
+			if( !attribute.endsWith(MetricRegistryMBean.HISTOGRAM_SUFFIX_ARRAY[a]) ) {
+				continue;
+			}
+			histogram_name = attribute.substring(
+				0, attribute.length() - MetricRegistryMBean.HISTOGRAM_SUFFIX_ARRAY[a].length()
+			);
+			if( histogram_name_set.contains(histogram_name) ) {
+				return Long.valueOf(MetricRegistryMBean.getHistogramValue(
+					metric_registry.getHistogram(histogram_name).getSnapshot(), a
+				));
+			}
+		}
+		try {
+			return Long.valueOf(metric_registry.getValue(attribute));
+		}
+		catch( IllegalArgumentException e ) {
+			throw new AttributeNotFoundException(e.getMessage());
+		}
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param snapshot the snapshot of the histogram
+	 * @param suffix_index the index of the suffix in {@link #HISTOGRAM_SUFFIX_ARRAY}
+	 * @return the value of the attribute
+	 */
+	private static long getHistogramValue(HistogramSnapshot snapshot, int suffix_index) {
+		switch( suffix_index ) {
+			case 0:
+				return snapshot.getCount();
+			case 1:
+				return snapshot.getMaximum();
+			default:
+				return snapshot.getValueAtPercentile(MetricRegistryMBean.HISTOGRAM_PERCENTILE_ARRAY[suffix_index]);
+		}
+	}
+
+
+	/* (non-Javadoc)
+	 * @see javax.management.DynamicMBean#setAttribute(javax.management.Attribute)
+	 */
+	@Override public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+		throw new AttributeNotFoundException("The metric \"" + attribute.getName() + "\" is read-only!");
+	}
+
+
+	/* (non-Javadoc)
+	 * @see javax.management.DynamicMBean#getAttributes(java.lang.String[])
+	 */
+	@Override public AttributeList getAttributes(String[] attributes) {
+		AttributeList attribute_list = new AttributeList(attributes.length);
+		for( String attribute : attributes ) {
+			try {
+				attribute_list.add(new Attribute(attribute, getAttribute(attribute)));
+			}
+			catch( AttributeNotFoundException e ) {
+				// unknown attributes are left out of the list
+			}
+		}
+		return attribute_list;
+	}
+
+
+	/* (non-Javadoc)
+	 * @see javax.management.DynamicMBean#setAttributes(javax.management.AttributeList)
+	 */
+	@Override public AttributeList setAttributes(AttributeList attributes) {
+		// all attributes are read-only, so none has been set
+		return new AttributeList(0);
+	}
+
+
+	/* (non-Javadoc)
+	 * @see javax.management.DynamicMBean#invoke(java.lang.String, java.lang.Object[], java.lang.String[])
+	 */
+	@Override public Object invoke(String action_name, Object[] params, String[] signature) throws ReflectionException {
+		if( MetricRegistryMBean.RESET_HISTOGRAMS.equals(action_name) && ( params == null || params.length == 0 ) ) {
+			metric_registry.resetHistograms();
+			return null;
+		}
+		throw new ReflectionException(
+			new NoSuchMethodException(action_name), "The bean has no operation \"" + action_name + "\"!"
+		);
+	}
+
+
+	/* (non-Javadoc)
+	 * @see javax.management.DynamicMBean#getMBeanInfo()
+	 */
+	@Override public MBeanInfo getMBeanInfo() {
+		TreeSet<String> name_set = metric_registry.getNames();
+		ArrayList<MBeanAttributeInfo> attribute_info_list = new ArrayList<>(name_set.size());
+		for( String name : name_set ) {
+			attribute_info_list.add(new MBeanAttributeInfo(
+				name, "long", metric_registry.isCounter(name) ? "counter" : "gauge", true, false, false
+			));
+		}
+		for( String name : metric_registry.getHistogramNames() ) {
+			for( String suffix : MetricRegistryMBean.HISTOGRAM_SUFFIX_ARRAY ) {
+				attribute_info_list.add(new MBeanAttributeInfo(
+					name + suffix, "long", "histogram", true, false, false
+				));
+			}
+		}
+		MBeanOperationInfo[] operation_info_array = new MBeanOperationInfo[] {
+			new MBeanOperationInfo(
+				MetricRegistryMBean.RESET_HISTOGRAMS, "discards the recorded latencies of all histograms", null, "void",
+				MBeanOperationInfo.ACTION
+			)
+		};
+		return new MBeanInfo(
+			MetricRegistryMBean.class.getName(), "the metrics of a snowflake storage",
+			attribute_info_list.toArray(new MBeanAttributeInfo[attribute_info_list.size()]), null,
+			operation_info_array, null
+		);
+	}
+
+}
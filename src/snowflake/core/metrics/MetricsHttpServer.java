@@ -0,0 +1,118 @@
+package snowflake.core.metrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import j3l.util.Checker;
+import snowflake.GlobalString;
+
+
+/**
+ * <p>serves the metrics of a {@link MetricRegistry} in the text format of prometheus at {@link #PATH}</p>
+ * <p>
+ * 		The server only listens on the loopback address. The metrics are collected on every request, so nothing is
+ * 		computed while nobody asks.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class MetricsHttpServer implements Closeable {
+
+
+	/**
+	 * <p></p>
+	 */
+	public final static String PATH = "/metrics";
+
+
+	/**
+	 * <p></p>
+	 */
+	private final static String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+
+	/**
+	 * <p></p>
+	 */
+	private final MetricRegistry metric_registry;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final HttpServer http_server;
+
+
+	/**
+	 * <p>binds the server to the port of the loopback address and starts it</p>
+	 *
+	 * @param metric_registry the metrics which will be served
+	 * @param port the port
+	 * @throws IOException if the port can not be bound
+	 */
+	public MetricsHttpServer(MetricRegistry metric_registry, int port) throws IOException {
+		this.metric_registry = Checker.checkForNull(metric_registry, GlobalString.MetricRegistry.toString());
+		http_server = HttpServer.create(
+			new InetSocketAddress(
+				InetAddress.getLoopbackAddress(), Checker.checkForBoundaries(port, 1, 65535, GlobalString.Port.toString())
+			), 0
+		);
+		http_server.createContext(MetricsHttpServer.PATH, this::handle);
+		http_server.start();
+	}
+
+
+	/**
+	 * <p>the address the server is bound to - the metrics are served at {@link #PATH} of it</p>
+	 *
+	 * @return the bound address
+	 */
+	public InetSocketAddress getAddress() {
+		return http_server.getAddress();
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			if( !"GET".equals(exchange.getRequestMethod()) ) {
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+			StringBuilder text = new StringBuilder(4096);
+			metric_registry.writeText(text);
+			byte[] body = text.toString().getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", MetricsHttpServer.CONTENT_TYPE);
+			exchange.sendResponseHeaders(200, body.length);
+			try( OutputStream output = exchange.getResponseBody() ) {
+				output.write(body);
+			}
+		}
+		finally {
+			exchange.close();
+		}
+	}
+
+
+	/* (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override public void close() {
+		http_server.stop(0);
+	}
+
+}
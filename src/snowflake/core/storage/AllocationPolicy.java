@@ -0,0 +1,49 @@
+package snowflake.core.storage;
+
+
+/**
+ * <p>states how the {@link snowflake.core.manager.ChunkManager chunk manager} chooses the available chunks a
+ * request for space is served from</p>
+ * 
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public enum AllocationPolicy {
+	
+	
+	/**
+	 * <p>takes the largest chunks which are not larger than the remaining bytes first and only then a larger one -
+	 * this uses up small chunks, but spreads a flake over many of them</p>
+	 */
+	Greedy,
+	
+	
+	/**
+	 * <p>takes the smallest chunk which is large enough - if there is none, the largest chunk is taken and the
+	 * remaining bytes are served from further chunks</p>
+	 */
+	BestFit,
+	
+	
+	/**
+	 * <p>takes the chunk with the lowest start address which is large enough - if there is none, the chunk with the
+	 * lowest start address is taken and the remaining bytes are served from further chunks</p>
+	 */
+	FirstFit,
+	
+	
+	/**
+	 * <p>takes the smallest chunk which is large enough - if there is none, the data file is expanded, so that every
+	 * request is served from a single chunk</p>
+	 */
+	ContiguousFirst,
+	
+	
+	/**
+	 * <p>groups the chunks in size classes of powers of two and takes the chunk with the lowest start address from
+	 * the smallest size class which contains a chunk that is large enough</p>
+	 */
+	SegregatedFit;
+	
+}
@@ -0,0 +1,28 @@
+package snowflake.core.storage;
+
+
+/**
+ * <p>states how the {@link snowflake.core.manager.ChannelManager channel manager} hands out
+ * {@link snowflake.core.Channel channels}</p>
+ * 
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public enum ChannelMode {
+	
+	
+	/**
+	 * <p>all channels share a fixed number of opened data files - positional I/O is thread-safe, so a channel does
+	 * not need to be checked out exclusively</p>
+	 */
+	Shared,
+	
+	
+	/**
+	 * <p>every channel opens its own data file and is used exclusively - the number of channels is bounded and
+	 * getting a channel blocks if all of them are in use</p>
+	 */
+	Pooled;
+	
+}
@@ -0,0 +1,132 @@
+package snowflake.core.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+
+import j3l.util.Checker;
+import snowflake.GlobalString;
+import snowflake.core.ChunkRecord;
+import snowflake.core.ChunkUtility;
+import snowflake.core.event.ChunkTableConversionEvent;
+import snowflake.core.manager.ChunkManager;
+
+
+/**
+ * <p>converts a chunk table of the format of version 1 into the format of version 2</p>
+ * <p>
+ * 		The converted table is written next to the old one and replaces it by an atomic move once it has been forced
+ * 		to the disk, so that a crash during the conversion leaves the old table untouched. Empty entries stay empty,
+ * 		which keeps every chunk at its chunk table index.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class ChunkTableConverter {
+
+
+	/**
+	 * <p>the suffix of the file the converted table is written to</p>
+	 */
+	private final static String CONVERSION_SUFFIX = ".converting";
+
+
+	/**
+	 * <p>converts the chunk table - does nothing if the table is empty or already has the format of version 2</p>
+	 *
+	 * @param chunk_table_file the chunk table
+	 * @return true if the table has been converted, false otherwise
+	 * @throws IOException if the table can not be converted
+	 */
+	public static boolean convert(File chunk_table_file) throws IOException {
+		Checker.checkForNull(chunk_table_file, GlobalString.ChunkTableFile.toString());
+		if( !chunk_table_file.exists() || chunk_table_file.length() == 0 ) {
+			return false;
+		}
+		ByteBuffer record_buffer = ByteBuffer.allocate(ChunkRecord.RECORD_LENGTH);
+		try( RandomAccessFile table_file = new RandomAccessFile(chunk_table_file, "r") ) {
+			if( table_file.length() >= ChunkRecord.HEADER_LENGTH ) {
+				table_file.readFully(record_buffer.array(), 0, ChunkRecord.HEADER_LENGTH);
+				if( ChunkRecord.isHeader(record_buffer, 0) ) {
+					return false;
+				}
+			}
+		}
+		long length_of_file = chunk_table_file.length();
+		if( length_of_file % ChunkUtility.BINARY_CHUNK_SIZE != 0 ) {
+			throw new SecurityException("The file \"" + chunk_table_file.getPath() + "\" has been damaged!");
+		}
+		long number_of_entries = length_of_file / ChunkUtility.BINARY_CHUNK_SIZE;
+		ChunkTableConversionEvent chunk_table_conversion_event = new ChunkTableConversionEvent();
+		chunk_table_conversion_event.begin();
+		File converted_file = new File(chunk_table_file.getPath() + ChunkTableConverter.CONVERSION_SUFFIX);
+		byte[] chunk_buffer = new byte[ChunkUtility.BINARY_CHUNK_SIZE];
+		byte[] long_buffer = new byte[8];
+		byte[] int_buffer = new byte[4];
+		CRC32 checksum = new CRC32();
+		try( InputStream input = new BufferedInputStream(new FileInputStream(chunk_table_file)) ) {
+			try( FileOutputStream file_output = new FileOutputStream(converted_file) ) {
+				OutputStream output = new BufferedOutputStream(file_output);
+				ChunkRecord.putHeader(record_buffer, 0);
+				output.write(record_buffer.array(), 0, ChunkRecord.HEADER_LENGTH);
+				for(long a=0;a<number_of_entries;a++) {
+					ChunkTableConverter.readFully(input, chunk_buffer);
+					if( Checker.checkAllElementsForZero(chunk_buffer) ) {
+						// an empty entry stays empty
+						ChunkRecord.put(record_buffer, 0, ChunkManager.NULL_CHUNK_DATA);
+					}
+					else {
+						ChunkRecord.put(
+							record_buffer, 0, ChunkUtility.getChunkData(chunk_buffer, long_buffer, int_buffer, checksum)
+						);
+					}
+					output.write(record_buffer.array(), 0, ChunkRecord.RECORD_LENGTH);
+				}
+				output.flush();
+				file_output.getChannel().force(true);
+			}
+		}
+		catch( IOException | RuntimeException e ) {
+			converted_file.delete();
+			throw e;
+		}
+		Files.move(
+			converted_file.toPath(), chunk_table_file.toPath(),
+			StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE
+		);
+		chunk_table_conversion_event.report(number_of_entries, length_of_file);
+		return true;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	private static void readFully(InputStream input, byte[] buffer) throws IOException {
+		int read_in_bytes = 0;
+		int current_read_in_bytes;
+		while( read_in_bytes < buffer.length ) {
+			current_read_in_bytes = input.read(buffer, read_in_bytes, buffer.length - read_in_bytes);
+			if( current_read_in_bytes == -1 ) {
+				throw new IOException("The chunk table ended unexpectedly!");
+			}
+			read_in_bytes += current_read_in_bytes;
+		}
+	}
+
+}
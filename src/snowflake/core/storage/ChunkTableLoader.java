@@ -0,0 +1,824 @@
+package snowflake.core.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import j3l.util.Checker;
+import snowflake.GlobalString;
+import snowflake.StaticMode;
+import snowflake.core.Chunk;
+import snowflake.core.ChunkRecord;
+import snowflake.core.ChunkUtility;
+import snowflake.core.IndexBitmap;
+import snowflake.core.event.ChunkTableLoadEvent;
+import snowflake.core.manager.FlakeManager;
+import snowflake.core.manager.IChunkMemory;
+
+
+/**
+ * <p>loads the chunk table in parallel</p>
+ * <p>
+ * 		The table is split into parts of {@link #ENTRIES_PER_TASK} entries, which are mapped into memory and decoded
+ * 		by the threads of a fork-join pool. The fields of the {@link ChunkRecord records} are read directly from the
+ * 		mapping, so that the chunks are the only objects allocated per entry: the indices of the empty entries are set
+ * 		as bits in a word array shared by all parts - the parts start at multiples of 64, so no word is written by two
+ * 		threads - and the chunks of the flakes are kept in primitive arrays. The results of the parts are merged in the
+ * 		order of the table.
+ * </p>
+ * <p>
+ * 		Once the whole table has been loaded, the chunks of the flakes are grouped by sorting these arrays by the
+ * 		identification of the flake and the position of the chunk, and the order of the chunks of every flake is
+ * 		rebuilt from their links.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class ChunkTableLoader {
+
+
+	/**
+	 * <p>the number of entries which are mapped and decoded by a single task - a multiple of 64</p>
+	 */
+	private final static int ENTRIES_PER_TASK = 1 << 18;
+
+
+	/**
+	 * <p>added to the absolute index in the flake of chunks which are not linked, so that they follow the linked
+	 * chunks of their flake, whose position is at most Integer.MAX_VALUE</p>
+	 */
+	private final static long UNLINKED_POSITION = 1L << 32;
+
+
+	/**
+	 * <p>ranges of the flake chunks which are at most this long are sorted by insertion</p>
+	 */
+	private final static int INSERTION_SORT_LENGTH = 16;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final File chunk_table_file;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final IChunkMemory chunk_memory;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final int parallelism;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final AtomicLong number_of_loaded_entries;
+
+
+	/**
+	 * <p></p>
+	 */
+	private long number_of_entries;
+
+
+	/**
+	 * <p>the duration of the last {@link #load()} in nanoseconds</p>
+	 */
+	private long loading_time;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param chunk_table_file the chunk table
+	 * @param chunk_memory the chunk memory of the loaded chunks
+	 * @param parallelism the number of threads which decode the table
+	 */
+	public ChunkTableLoader(File chunk_table_file, IChunkMemory chunk_memory, int parallelism) {
+		if( StaticMode.TESTING_MODE ) {
+			this.chunk_table_file = Checker.checkForExistence(chunk_table_file, GlobalString.ChunkTableFile.toString());
+			this.chunk_memory = Checker.checkForNull(chunk_memory, GlobalString.ChunkMemory.toString());
+		}
+		else {
+			this.chunk_table_file = chunk_table_file;
+			this.chunk_memory = chunk_memory;
+		}
+		this.parallelism = Checker.checkForBoundaries(
+			parallelism, 1, Integer.MAX_VALUE, GlobalString.Parallelism.toString()
+		);
+		number_of_loaded_entries = new AtomicLong(0);
+		number_of_entries = 0;
+		loading_time = 0;
+	}
+
+
+	/**
+	 * <p>loads all entries of the chunk table - the loading is reported as a {@link ChunkTableLoadEvent}</p>
+	 *
+	 * @return the content of the chunk table
+	 * @throws IOException if the table can not be read
+	 */
+	public ChunkTableContent load() throws IOException {
+		ChunkTableLoadEvent chunk_table_load_event = new ChunkTableLoadEvent();
+		chunk_table_load_event.begin();
+		long start_time = System.nanoTime();
+		number_of_loaded_entries.set(0);
+		try( RandomAccessFile table_file = new RandomAccessFile(chunk_table_file, "r") ) {
+			long length_of_file = table_file.length();
+			if( length_of_file < ChunkRecord.HEADER_LENGTH
+					|| ( length_of_file - ChunkRecord.HEADER_LENGTH ) % ChunkRecord.RECORD_LENGTH != 0 ) {
+				throw new SecurityException("The file \"" + chunk_table_file.getPath() + "\" has been damaged!");
+			}
+			ByteBuffer header_buffer = ByteBuffer.allocate(ChunkRecord.HEADER_LENGTH);
+			table_file.readFully(header_buffer.array());
+			if( !ChunkRecord.isHeader(header_buffer, 0) ) {
+				throw new SecurityException("The file \"" + chunk_table_file.getPath() 
+						+ "\" has not been written in the format of version " + ChunkRecord.FORMAT_VERSION + "!");
+			}
+			number_of_entries = ( length_of_file - ChunkRecord.HEADER_LENGTH ) / ChunkRecord.RECORD_LENGTH;
+			if( number_of_entries > IndexBitmap.MAXIMUM_INDEX + 1 ) {
+				throw new SecurityException("The file \"" + chunk_table_file.getPath() + "\" contains more than "
+						+ ( IndexBitmap.MAXIMUM_INDEX + 1 ) + " entries!");
+			}
+			// cast is okay, because the number of entries has been checked
+			long[] available_index_word_array = new long[(int)( ( number_of_entries + 63 ) >>> 6 )];
+			if( number_of_entries == 0 ) {
+				return new ChunkTableContent(available_index_word_array);
+			}
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				ChunkTableContent content = pool.invoke(
+					new LoadTask(table_file.getChannel(), available_index_word_array, 0, number_of_entries)
+				);
+				content.groupFlakes();
+				chunk_table_load_event.report(
+					number_of_entries, length_of_file, content.getFlakes().size(), parallelism
+				);
+				return content;
+			}
+			catch( UncheckedIOException e ) {
+				throw new IOException("Can not read from the chunk-table-file \"" + chunk_table_file.getPath() + "\"!",
+						e.getCause());
+			}
+			finally {
+				pool.shutdown();
+			}
+		}
+		finally {
+			loading_time = System.nanoTime() - start_time;
+		}
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the number of entries of the table
+	 */
+	public long getNumberOfEntries() {
+		return number_of_entries;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the number of entries which have been decoded so far
+	 */
+	public long getNumberOfLoadedEntries() {
+		return number_of_loaded_entries.get();
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the duration of the last {@link #load()} in nanoseconds
+	 */
+	public long getLoadingTime() {
+		return loading_time;
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the number of loaded bytes per second of the last {@link #load()}
+	 */
+	public double getThroughput() {
+		if( loading_time == 0 ) {
+			return 0;
+		}
+		return number_of_loaded_entries.get() * (double)ChunkRecord.RECORD_LENGTH * 1_000_000_000d / loading_time;
+	}
+
+
+	/**
+	 * <p>the content of the chunk table or of a part of it</p>
+	 *
+	 * @since JDK 1.8
+	 * @version 2026.10.18_0
+	 * @author Johannes B. Latzel
+	 */
+	public final static class ChunkTableContent {
+
+
+		/**
+		 * <p>the available chunks which do not need to be cleared</p>
+		 */
+		private final ArrayList<Chunk> available_chunk_list;
+
+
+		/**
+		 * <p>the available chunks which need to be cleared</p>
+		 */
+		private final ArrayList<Chunk> recycle_chunk_list;
+
+
+		/**
+		 * <p>the indices of the empty entries as bits - see {@link IndexBitmap#addAll(long[])}</p>
+		 */
+		private final long[] available_index_word_array;
+
+
+		/**
+		 * <p>the identification of the flake of each chunk in the {@link #flake_chunk_array}</p>
+		 */
+		private long[] flake_identification_array;
+
+
+		/**
+		 * <p>the position of each chunk in the {@link #flake_chunk_array}: the chunk table index of the predecessor + 1
+		 * of linked chunks, the absolute index in the flake + {@link ChunkTableLoader#UNLINKED_POSITION} otherwise</p>
+		 */
+		private long[] position_array;
+
+
+		/**
+		 * <p>the chunks of the flakes in the order of the table until they are {@link #groupFlakes() grouped}</p>
+		 */
+		private Chunk[] flake_chunk_array;
+
+
+		/**
+		 * <p></p>
+		 */
+		private int number_of_flake_chunks;
+
+
+		/**
+		 * <p>the flakes with their ordered chunks, once they have been {@link #groupFlakes() grouped}</p>
+		 */
+		private final ArrayList<FlakeContent> flake_list;
+
+
+		/**
+		 * <p></p>
+		 *
+		 * @param available_index_word_array the bits of the empty entries of the whole table
+		 */
+		private ChunkTableContent(long[] available_index_word_array) {
+			this.available_index_word_array = available_index_word_array;
+			available_chunk_list = new ArrayList<>();
+			recycle_chunk_list = new ArrayList<>();
+			flake_identification_array = new long[0];
+			position_array = new long[0];
+			flake_chunk_array = new Chunk[0];
+			number_of_flake_chunks = 0;
+			flake_list = new ArrayList<>();
+		}
+
+
+		/**
+		 * <p>appends the content of the following part of the table</p>
+		 *
+		 * @param content the content of the part which follows this part
+		 */
+		private void merge(ChunkTableContent content) {
+			available_chunk_list.addAll(content.available_chunk_list);
+			recycle_chunk_list.addAll(content.recycle_chunk_list);
+			ensureFlakeChunkCapacity(number_of_flake_chunks + content.number_of_flake_chunks);
+			System.arraycopy(
+				content.flake_identification_array, 0, flake_identification_array, number_of_flake_chunks,
+				content.number_of_flake_chunks
+			);
+			System.arraycopy(
+				content.position_array, 0, position_array, number_of_flake_chunks, content.number_of_flake_chunks
+			);
+			System.arraycopy(
+				content.flake_chunk_array, 0, flake_chunk_array, number_of_flake_chunks, content.number_of_flake_chunks
+			);
+			number_of_flake_chunks += content.number_of_flake_chunks;
+		}
+
+
+		/**
+		 * <p></p>
+		 *
+		 * @param flake_identification the identification of the flake of the chunk
+		 * @param position the position of the chunk - see {@link #position_array}
+		 * @param chunk the chunk
+		 */
+		private void addFlakeChunk(long flake_identification, long position, Chunk chunk) {
+			ensureFlakeChunkCapacity(number_of_flake_chunks + 1);
+			flake_identification_array[number_of_flake_chunks] = flake_identification;
+			position_array[number_of_flake_chunks] = position;
+			flake_chunk_array[number_of_flake_chunks] = chunk;
+			number_of_flake_chunks++;
+		}
+
+
+		/**
+		 * <p>grows the arrays of the flake chunks, so that they can hold capacity chunks - the length is at least
+		 * doubled</p>
+		 *
+		 * @param capacity the number of chunks
+		 */
+		private void ensureFlakeChunkCapacity(int capacity) {
+			if( capacity <= flake_chunk_array.length ) {
+				return;
+			}
+			// cast is okay, because the result is at most Integer.MAX_VALUE - 8
+			int new_length = (int)Math.min(Math.max(capacity, 2L * flake_chunk_array.length), Integer.MAX_VALUE - 8);
+			flake_identification_array = Arrays.copyOf(flake_identification_array, new_length);
+			position_array = Arrays.copyOf(position_array, new_length);
+			flake_chunk_array = Arrays.copyOf(flake_chunk_array, new_length);
+		}
+
+
+		/**
+		 * <p>sorts the chunks of the flakes by their flake and their position and orders the chunks of every flake -
+		 * the arrays of the flake chunks are released afterwards</p>
+		 */
+		private void groupFlakes() {
+			sortFlakeChunks(0, number_of_flake_chunks);
+			int first_index = 0;
+			for(int a=1;a<=number_of_flake_chunks;a++) {
+				if( a == number_of_flake_chunks 
+						|| flake_identification_array[a] != flake_identification_array[first_index] ) {
+					flake_list.add(orderFlake(first_index, a));
+					first_index = a;
+				}
+			}
+			flake_identification_array = new long[0];
+			position_array = new long[0];
+			flake_chunk_array = new Chunk[0];
+			number_of_flake_chunks = 0;
+		}
+
+
+		/**
+		 * <p>brings the chunks of a flake into their order in the flake</p>
+		 * <p>
+		 * 		Linked chunks name the chunk table index of their predecessor, so the order is rebuilt by following the
+		 * 		links from the chunk without predecessor - the successor of a chunk is found by a binary search over
+		 * 		the sorted positions. Chunks which still store their absolute index in the flake come from an older
+		 * 		chunk table - they follow the linked chunks ordered by that index, because the conversion saves the
+		 * 		chunks of a flake from the first one on.
+		 * </p>
+		 * <p>
+		 * 		If two chunks claim the same position or if a chunk is not linked to the first chunk, the order can not
+		 * 		be rebuilt. These chunks follow all other chunks ordered by their chunk table index, so that none of
+		 * 		them is lost, and the flake needs to be treated as damaged.
+		 * </p>
+		 *
+		 * @param first_index the index of the first chunk of the flake in the sorted arrays
+		 * @param end_index the index after the last chunk of the flake
+		 * @return the flake
+		 */
+		private FlakeContent orderFlake(int first_index, int end_index) {
+			int linked_end_index = first_index;
+			while( linked_end_index < end_index 
+					&& position_array[linked_end_index] < ChunkTableLoader.UNLINKED_POSITION ) {
+				linked_end_index++;
+			}
+			ArrayList<Chunk> chunk_list = new ArrayList<>(end_index - first_index);
+			ArrayList<Chunk> unordered_chunk_list = new ArrayList<>(0);
+			Chunk chunk;
+			long position = 0;
+			int index = Arrays.binarySearch(position_array, first_index, linked_end_index, position);
+			while( index >= 0 ) {
+				// the first of the chunks which claim the same position is taken
+				while( index > first_index && position_array[index - 1] == position ) {
+					index--;
+				}
+				chunk = flake_chunk_array[index];
+				flake_chunk_array[index] = null;
+				chunk_list.add(chunk);
+				position = chunk.getChunkTableIndex() + 1;
+				index = Arrays.binarySearch(position_array, first_index, linked_end_index, position);
+			}
+			for(int a=first_index;a<linked_end_index;a++) {
+				if( flake_chunk_array[a] != null ) {
+					unordered_chunk_list.add(flake_chunk_array[a]);
+				}
+			}
+			for(int a=linked_end_index;a<end_index;a++) {
+				if( a > linked_end_index && position_array[a] == position_array[a - 1] ) {
+					unordered_chunk_list.add(flake_chunk_array[a]);
+				}
+				else {
+					chunk_list.add(flake_chunk_array[a]);
+				}
+			}
+			if( !unordered_chunk_list.isEmpty() ) {
+				unordered_chunk_list.sort((l, r) -> Long.compare(l.getChunkTableIndex(), r.getChunkTableIndex()));
+				chunk_list.addAll(unordered_chunk_list);
+			}
+			return new FlakeContent(
+				flake_identification_array[first_index], chunk_list, unordered_chunk_list.isEmpty(),
+				linked_end_index == end_index
+			);
+		}
+
+
+		/**
+		 * <p>sorts the chunks of the flakes from first_index to end_index - 1 by their flake and their position - a
+		 * quicksort which recurses into the smaller part, so the depth of the recursion stays logarithmic</p>
+		 *
+		 * @param first_index the index of the first chunk
+		 * @param end_index the index after the last chunk
+		 */
+		private void sortFlakeChunks(int first_index, int end_index) {
+			int middle_index;
+			int low_index;
+			int high_index;
+			while( end_index - first_index > ChunkTableLoader.INSERTION_SORT_LENGTH ) {
+				// the median of the first, the middle and the last chunk is the pivot, which is moved to first_index
+				middle_index = ( first_index + end_index ) >>> 1;
+				if( compareFlakeChunks(middle_index, first_index) < 0 ) {
+					swapFlakeChunks(middle_index, first_index);
+				}
+				if( compareFlakeChunks(end_index - 1, first_index) < 0 ) {
+					swapFlakeChunks(end_index - 1, first_index);
+				}
+				if( compareFlakeChunks(end_index - 1, middle_index) < 0 ) {
+					swapFlakeChunks(end_index - 1, middle_index);
+				}
+				swapFlakeChunks(first_index, middle_index);
+				low_index = first_index;
+				high_index = end_index;
+				while( true ) {
+					do {
+						low_index++;
+					}
+					while( low_index < end_index && compareFlakeChunks(low_index, first_index) < 0 );
+					do {
+						high_index--;
+					}
+					while( compareFlakeChunks(high_index, first_index) > 0 );
+					if( low_index >= high_index ) {
+						break;
+					}
+					swapFlakeChunks(low_index, high_index);
+				}
+				swapFlakeChunks(first_index, high_index);
+				if( high_index - first_index < end_index - high_index ) {
+					sortFlakeChunks(first_index, high_index);
+					first_index = high_index + 1;
+				}
+				else {
+					sortFlakeChunks(high_index + 1, end_index);
+					end_index = high_index;
+				}
+			}
+			for(int a=first_index+1;a<end_index;a++) {
+				for(int b=a;b>first_index&&compareFlakeChunks(b - 1, b)>0;b--) {
+					swapFlakeChunks(b - 1, b);
+				}
+			}
+		}
+
+
+		/**
+		 * <p></p>
+		 *
+		 * @param
+		 * @return
+		 */
+		private int compareFlakeChunks(int left_index, int right_index) {
+			int result = Long.compare(flake_identification_array[left_index], flake_identification_array[right_index]);
+			if( result != 0 ) {
+				return result;
+			}
+			return Long.compare(position_array[left_index], position_array[right_index]);
+		}
+
+
+		/**
+		 * <p></p>
+		 *
+		 * @param
+		 * @return
+		 */
+		private void swapFlakeChunks(int left_index, int right_index) {
+			long flake_identification = flake_identification_array[left_index];
+			flake_identification_array[left_index] = flake_identification_array[right_index];
+			flake_identification_array[right_index] = flake_identification;
+			long position = position_array[left_index];
+			position_array[left_index] = position_array[right_index];
+			position_array[right_index] = position;
+			Chunk chunk = flake_chunk_array[left_index];
+			flake_chunk_array[left_index] = flake_chunk_array[right_index];
+			flake_chunk_array[right_index] = chunk;
+		}
+
+
+		/**
+		 * <p></p>
+		 *
+		 * @param
+		 * @return
+		 */
+		public ArrayList<Chunk> getAvailableChunks() {
+			return available_chunk_list;
+		}
+
+
+		/**
+		 * <p></p>
+		 *
+		 * @param
+		 * @return
+		 */
+		public ArrayList<Chunk> getRecycleChunks() {
+			return recycle_chunk_list;
+		}
+
+
+		/**
+		 * <p></p>
+		 *
+		 * @param
+		 * @return the indices of the empty entries as bits - see {@link IndexBitmap#addAll(long[])}
+		 */
+		public long[] getAvailableIndices() {
+			return available_index_word_array;
+		}
+
+
+		/**
+		 * <p></p>
+		 *
+		 * @param
+		 * @return the flakes with their ordered chunks
+		 */
+		public ArrayList<FlakeContent> getFlakes() {
+			return flake_list;
+		}
+
+	}
+
+
+	/**
+	 * <p>a flake of the chunk table with its chunks in their order in the flake</p>
+	 *
+	 * @since JDK 1.8
+	 * @version 2026.10.18_0
+	 * @author Johannes B. Latzel
+	 */
+	public final static class FlakeContent {
+
+
+		/**
+		 * <p></p>
+		 */
+		private final long identification;
+
+
+		/**
+		 * <p></p>
+		 */
+		private final ArrayList<Chunk> chunk_list;
+
+
+		/**
+		 * <p>false if the order of the chunks could not be rebuilt</p>
+		 */
+		private final boolean is_ordered;
+
+
+		/**
+		 * <p>false if any chunk comes from an older chunk table and still stores its absolute index in the flake</p>
+		 */
+		private final boolean is_linked;
+
+
+		/**
+		 * <p></p>
+		 *
+		 * @param
+		 * @return
+		 */
+		private FlakeContent(long identification, ArrayList<Chunk> chunk_list, boolean is_ordered, boolean is_linked) {
+			this.identification = identification;
+			this.chunk_list = chunk_list;
+			this.is_ordered = is_ordered;
+			this.is_linked = is_linked;
+		}
+
+
+		/**
+		 * <p></p>
+		 *
+		 * @param
+		 * @return
+		 */
+		public long getIdentification() {
+			return identification;
+		}
+
+
+		/**
+		 * <p></p>
+		 *
+		 * @param
+		 * @return the chunks in their order in the flake - followed by the chunks which could not be ordered
+		 */
+		public ArrayList<Chunk> getChunks() {
+			return chunk_list;
+		}
+
+
+		/**
+		 * <p></p>
+		 *
+		 * @param
+		 * @return true if the order of the chunks has been rebuilt, false if the flake is damaged
+		 */
+		public boolean isOrdered() {
+			return is_ordered;
+		}
+
+
+		/**
+		 * <p></p>
+		 *
+		 * @param
+		 * @return false if the chunks need to be saved again to link them to their predecessors
+		 */
+		public boolean isLinked() {
+			return is_linked;
+		}
+
+	}
+
+
+	/**
+	 * <p>loads the entries from first_index to end_index - 1</p>
+	 *
+	 * @since JDK 1.8
+	 * @version 2026.10.18_0
+	 * @author Johannes B. Latzel
+	 */
+	private final class LoadTask extends RecursiveTask<ChunkTableContent> {
+
+
+		/**
+		 * <p></p>
+		 */
+		private static final long serialVersionUID = 4_387_120_568_331_904_119L;
+
+
+		/**
+		 * <p></p>
+		 */
+		private final FileChannel file_channel;
+
+
+		/**
+		 * <p>the bits of the empty entries of the whole table</p>
+		 */
+		private final long[] available_index_word_array;
+
+
+		/**
+		 * <p>a multiple of 64</p>
+		 */
+		private final long first_index;
+
+
+		/**
+		 * <p></p>
+		 */
+		private final long end_index;
+
+
+		/**
+		 * <p></p>
+		 *
+		 * @param
+		 * @return
+		 */
+		private LoadTask(FileChannel file_channel, long[] available_index_word_array, long first_index, 
+				long end_index) {
+			this.file_channel = file_channel;
+			this.available_index_word_array = available_index_word_array;
+			this.first_index = first_index;
+			this.end_index = end_index;
+		}
+
+
+		/* (non-Javadoc)
+		 * @see java.util.concurrent.RecursiveTask#compute()
+		 */
+		@Override protected ChunkTableContent compute() {
+			if( end_index - first_index > ChunkTableLoader.ENTRIES_PER_TASK ) {
+				// the parts start at multiples of 64, so that every word of the available indices belongs to one part
+				long middle_index = first_index + ( ( (end_index - first_index) / 2 ) & ~63L );
+				LoadTask left_task = new LoadTask(file_channel, available_index_word_array, first_index, middle_index);
+				left_task.fork();
+				ChunkTableContent right_content = new LoadTask(
+					file_channel, available_index_word_array, middle_index, end_index
+				).compute();
+				ChunkTableContent left_content = left_task.join();
+				left_content.merge(right_content);
+				return left_content;
+			}
+			try {
+				return decode();
+			}
+			catch( IOException e ) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+
+		/**
+		 * <p>maps and decodes the entries of this task</p>
+		 */
+		private ChunkTableContent decode() throws IOException {
+			ChunkTableContent content = new ChunkTableContent(available_index_word_array);
+			MappedByteBuffer mapped_buffer = file_channel.map(
+				MapMode.READ_ONLY,
+				ChunkRecord.HEADER_LENGTH + first_index * ChunkRecord.RECORD_LENGTH,
+				(end_index - first_index) * ChunkRecord.RECORD_LENGTH
+			);
+			Chunk chunk;
+			byte flag_vector;
+			long flake_identification;
+			long position;
+			int offset = 0;
+			for(long current_index=first_index;current_index<end_index;current_index++,offset+=ChunkRecord.RECORD_LENGTH) {
+				if( ChunkRecord.isEmpty(mapped_buffer, offset) ) {
+					// cast is okay, because the number of entries has been checked
+					available_index_word_array[(int)(current_index >>> 6)] |= 1L << current_index;
+					continue;
+				}
+				ChunkRecord.check(mapped_buffer, offset);
+				flag_vector = ChunkRecord.getFlagVector(mapped_buffer, offset);
+				chunk = new Chunk(
+					chunk_memory, ChunkRecord.getStartAddress(mapped_buffer, offset),
+					ChunkRecord.getChunkLength(mapped_buffer, offset), current_index
+				);
+				ChunkUtility.configureChunk(chunk, flag_vector);
+				flake_identification = ChunkRecord.getFlakeIdentification(mapped_buffer, offset);
+				if( ChunkUtility.isReserved(flag_vector) ) {
+					// reserved bytes have never been part of the flake
+					content.recycle_chunk_list.add(chunk);
+				}
+				else if( flake_identification == FlakeManager.ROOT_IDENTIFICATION ) {
+					if( chunk.needsToBeCleared() ) {
+						content.recycle_chunk_list.add(chunk);
+					}
+					else {
+						content.available_chunk_list.add(chunk);
+					}
+				}
+				else {
+					// the chunks are ordered once the whole table has been loaded
+					position = ChunkRecord.getIndexInFlake(mapped_buffer, offset);
+					if( !ChunkUtility.isLinked(flag_vector) ) {
+						position += ChunkTableLoader.UNLINKED_POSITION;
+					}
+					content.addFlakeChunk(flake_identification, position, chunk);
+				}
+			}
+			number_of_loaded_entries.addAndGet(end_index - first_index);
+			return content;
+		}
+
+	}
+
+}
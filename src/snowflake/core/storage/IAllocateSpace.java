@@ -7,7 +7,7 @@ import snowflake.core.ChunkData;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2015.11.27_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public interface IAllocateSpace {
@@ -22,4 +22,12 @@ public interface IAllocateSpace {
 	ChunkData allocateSpace(long number_of_bytes);
 	
 	
+	/**
+	 * <p>truncates the data file - the caller guarantees that no chunk lies beyond new_length</p>
+	 *
+	 * @param new_length the new length of the data file
+	 */
+	void releaseSpace(long new_length);
+	
+	
 }
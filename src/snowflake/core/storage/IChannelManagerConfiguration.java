@@ -4,7 +4,7 @@ package snowflake.core.storage;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.05.03_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public interface IChannelManagerConfiguration {
@@ -26,4 +26,51 @@ public interface IChannelManagerConfiguration {
 	 */
 	String getDataFilePath();
 	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	ReadMode getReadMode();
+	
+	
+	/**
+	 * <p>the size of a single mapped region of the data file, if the {@link ReadMode} is
+	 * {@link ReadMode#MemoryMapped} - only complete regions are mapped, the bytes behind the last one are read
+	 * through the channel</p>
+	 *
+	 * @param
+	 * @return
+	 */
+	int getMappedRegionSize();
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	ChannelMode getChannelMode();
+	
+	
+	/**
+	 * <p>the number of data files all channels share, if the {@link ChannelMode} is {@link ChannelMode#Shared}</p>
+	 *
+	 * @param
+	 * @return
+	 */
+	int getNumberOfSharedChannels();
+	
+	
+	/**
+	 * <p>the maximum number of channels, if the {@link ChannelMode} is {@link ChannelMode#Pooled}</p>
+	 *
+	 * @param
+	 * @return
+	 */
+	int getMaximumNumberOfChannels();
+	
 }
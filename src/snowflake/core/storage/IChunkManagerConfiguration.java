@@ -5,7 +5,7 @@ package snowflake.core.storage;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.05.03_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public interface IChunkManagerConfiguration {
@@ -15,5 +15,11 @@ public interface IChunkManagerConfiguration {
 	int getMaximumAvailableChunks();
 	String getChunkTableFilePath();
 	long getChunkRecyclingTreshhold();
+	AllocationPolicy getAllocationPolicy();
+	int getNumberOfAllocationArenas();
+	long getAllocationArenaSize();
+	TableDurability getChunkTableDurability();
+	long getChunkTableFlushInterval();
+	int getChunkTableBufferSize();
 
 }
@@ -4,7 +4,7 @@ package snowflake.core.storage;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.06.12_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public interface IStorageConfiguration extends IChunkManagerConfiguration, 
@@ -12,5 +12,7 @@ public interface IStorageConfiguration extends IChunkManagerConfiguration,
 	
 	int getClearArraySize();
 	long getMaximumStorageSize();
+	int getMetricsPort();
+	boolean isLatencyRecordingEnabled();
 	
 }
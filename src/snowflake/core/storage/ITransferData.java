@@ -0,0 +1,29 @@
+package snowflake.core.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+
+/**
+ * <p></p>
+ * 
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public interface ITransferData {
+	
+	
+	/**
+	 * <p>copies length bytes inside the data file from source_address to destination_address</p>
+	 *
+	 * @param source_address the address of the first byte which will be copied
+	 * @param destination_address the address the first byte will be copied to
+	 * @param length the number of bytes
+	 * @param transfer_buffer the buffer the data is copied through - its capacity limits the size of a single copy
+	 */
+	void transferData(long source_address, long destination_address, long length, ByteBuffer transfer_buffer) 
+			throws IOException;
+	
+	
+}
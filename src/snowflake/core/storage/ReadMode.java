@@ -0,0 +1,25 @@
+package snowflake.core.storage;
+
+
+/**
+ * <p>states how the {@link snowflake.core.Channel channels} read the data of flakes from the data file</p>
+ * 
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public enum ReadMode {
+	
+	
+	/**
+	 * <p>every read is a positional read on the channel of the data file</p>
+	 */
+	Channel,
+	
+	
+	/**
+	 * <p>the data file is mapped into memory and reads are served from the mapping</p>
+	 */
+	MemoryMapped;
+	
+}
@@ -1,14 +1,21 @@
 package snowflake.core.storage;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
-import j3l.util.ArrayTool;
 import j3l.util.Checker;
 import j3l.util.ClosureState;
 import j3l.util.IClose;
@@ -18,23 +25,30 @@ import snowflake.api.IStorageInformation;
 import snowflake.api.StorageException;
 import snowflake.core.Chunk;
 import snowflake.core.ChunkData;
-import snowflake.core.ChunkUtility;
+import snowflake.core.ChunkRecord;
+import snowflake.core.Flake;
 import snowflake.core.IChunk;
 import snowflake.core.manager.ChannelManager;
 import snowflake.core.manager.ChunkManager;
+import snowflake.core.manager.DefragmentationManager;
 import snowflake.core.manager.FlakeManager;
 import snowflake.core.manager.SpecialFlakeIdentification;
+import snowflake.core.metrics.MetricRegistry;
+import snowflake.core.metrics.MetricRegistryMBean;
+import snowflake.core.metrics.MetricsHttpServer;
+import snowflake.core.storage.ChunkTableLoader.ChunkTableContent;
+import snowflake.core.storage.ChunkTableLoader.FlakeContent;
 
 
 /**
  * <p>storage</p>
  * 
  * @since JDK 1.8
- * @version 2016.10.06_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
-public final class Storage implements IStorageInformation, IAllocateSpace, 
-										IClearChunk, IClose<IOException>, ICreateFlake, IGetFlake {
+public final class Storage implements IStorageInformation, IAllocateSpace, IClearChunk, 
+										IClose<IOException>, ICreateFlake, IGetFlake, ITransferData {
 	
 	
 		
@@ -56,6 +70,12 @@ public final class Storage implements IStorageInformation, IAllocateSpace,
 	private final ChannelManager channel_manager;
 	
 	
+	/**
+	 * <p></p>
+	 */
+	private final DefragmentationManager defragmentation_manager;
+	
+	
 	/**
 	 * <p></p>
 	 */
@@ -80,6 +100,43 @@ public final class Storage implements IStorageInformation, IAllocateSpace,
 	private final byte[] clear_array;
 	
 	
+	/**
+	 * <p>the number of bytes the data file has been truncated by since opening</p>
+	 */
+	private final AtomicLong released_space;
+	
+	
+	/**
+	 * <p>is held while chunks are moved, so that {@link #compact(long)} and the {@link DefragmentationManager} never
+	 * move the chunks of the same flake at the same time</p>
+	 */
+	private final ReentrantLock relocation_lock;
+	
+	
+	/**
+	 * <p>the counters the storage information is read from</p>
+	 */
+	private final StorageStatistics storage_statistics;
+	
+	
+	/**
+	 * <p>the counters and gauges of the storage and its components</p>
+	 */
+	private final MetricRegistry metric_registry;
+	
+	
+	/**
+	 * <p>the name the metrics are registered with at the platform MBean server or null, if they are not registered</p>
+	 */
+	private ObjectName metric_object_name;
+	
+	
+	/**
+	 * <p>serves the metrics or null, if the {@link IStorageConfiguration#getMetricsPort() port} is 0</p>
+	 */
+	private MetricsHttpServer metrics_http_server;
+	
+	
 	/**
 	 * <p></p>
 	 *
@@ -91,170 +148,145 @@ public final class Storage implements IStorageInformation, IAllocateSpace,
 		this.storage_configuration = Checker.checkForNull(
 			storage_configuration, GlobalString.StorageConfiguration.toString()
 		);
-		channel_manager 		= 	new ChannelManager(storage_configuration);
-		flake_manager 			= 	new FlakeManager(channel_manager);
-		chunk_manager 			= 	new ChunkManager(this, this, storage_configuration, this);
+		storage_statistics		=	new StorageStatistics();
+		metric_registry			=	new MetricRegistry(storage_configuration.isLatencyRecordingEnabled());
+		channel_manager 		= 	new ChannelManager(storage_configuration, metric_registry);
+		flake_manager 			= 	new FlakeManager(
+										channel_manager, storage_configuration, storage_statistics, metric_registry
+									);
+		// the chunk table is opened by the chunk manager, so it needs to be converted before
+		ChunkTableConverter.convert(new File(storage_configuration.getChunkTableFilePath()));
+		chunk_manager 			= 	new ChunkManager(
+										this, this, storage_configuration, this, storage_statistics, metric_registry
+									);
 		data_file 				= 	new RandomAccessFile(storage_configuration.getDataFilePath(), "rw");
 		clear_array 			= 	new byte[ storage_configuration.getClearArraySize() ];
+		released_space 			= 	new AtomicLong(0);
+		relocation_lock 		= 	new ReentrantLock();
+		defragmentation_manager = 	new DefragmentationManager(
+										flake_manager, chunk_manager, this, storage_configuration, 
+										channel_manager.getLayoutEpoch(), relocation_lock
+									);
 		closure_state 			= 	ClosureState.None;
+		registerGauges();
 		open();
 	}
 	
 	
+	/**
+	 * <p>registers the storage information as gauges</p>
+	 */
+	private void registerGauges() {
+		metric_registry.registerGauge("storage_allocated_space", this::getAllocatedSpace);
+		metric_registry.registerGauge("storage_used_space", storage_statistics::getUsedSpace);
+		metric_registry.registerGauge("storage_free_space", storage_statistics::getFreeSpace);
+		metric_registry.registerGauge("storage_recyclable_space", storage_statistics::getRecyclableSpace);
+		metric_registry.registerGauge("storage_released_space", released_space::get);
+		metric_registry.registerGauge("storage_used_chunks", storage_statistics::getNumberOfUsedChunks);
+		metric_registry.registerGauge("storage_free_chunks", storage_statistics::getNumberOfFreeChunks);
+		metric_registry.registerGauge("storage_recyclable_chunks", storage_statistics::getNumberOfRecyclableChunks);
+		metric_registry.registerGauge("storage_flakes", this::getNumberOfFlakes);
+		metric_registry.registerGauge("storage_damaged_flakes", storage_statistics::getNumberOfDamagedFlakes);
+	}
+	
+	
+	/**
+	 * <p>registers the metrics at the platform MBean server and starts the {@link MetricsHttpServer}, if a port has
+	 * been configured</p>
+	 */
+	private void publishMetrics() throws IOException {
+		MBeanServer mbean_server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			ObjectName object_name = new ObjectName(
+				"snowflake:type=Storage,name=" + ObjectName.quote(storage_configuration.getDataFilePath())
+			);
+			mbean_server.registerMBean(new MetricRegistryMBean(metric_registry), object_name);
+			metric_object_name = object_name;
+		}
+		catch( JMException e ) {
+			throw new StorageException("Can not register the " + GlobalString.MetricRegistry.toString() + "!", e);
+		}
+		int metrics_port = storage_configuration.getMetricsPort();
+		if( metrics_port != 0 ) {
+			metrics_http_server = new MetricsHttpServer(metric_registry, metrics_port);
+		}
+	}
+	
+	
+	/**
+	 * <p>reverts {@link #publishMetrics()}</p>
+	 */
+	private void withdrawMetrics() {
+		if( metrics_http_server != null ) {
+			metrics_http_server.close();
+			metrics_http_server = null;
+		}
+		if( metric_object_name != null ) {
+			try {
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(metric_object_name);
+			}
+			catch( JMException e ) {
+				e.printStackTrace();
+			}
+			metric_object_name = null;
+		}
+	}
+	
+	
 	/**
 	 * <p></p>
 	 *
 	 * @param
-	 * @return
+	 * @return the identifications of the flakes whose chunks have been saved in the older format
 	 */
-	private void loadChunks() throws IOException {
+	private ArrayList<Long> loadChunks() throws IOException {
+		
+		ArrayList<Long> unlinked_flake_list = new ArrayList<>();
 		
 		if( !isInOpening() ) {
-			return;
+			return unlinked_flake_list;
 		}
 		
 		
-		long current_chunk_number = 0;
-		int position_in_input_buffer = 0;
-		int max_bytes_in_buffer;
-		int bytes_in_buffer;
-		long length_of_file;
-		long current_position = 0;
-		long remaining_bytes_in_file;
-		byte[] input_buffer = new byte[ ChunkUtility.BINARY_CHUNK_SIZE * 250 ];
-		byte[] chunk_buffer = new byte[ ChunkUtility.BINARY_CHUNK_SIZE ];
-		ChunkData chunk_data;
-		Chunk chunk;
-		
-		ArrayList<Chunk> recycle_chunk_list = new ArrayList<>(1000);
-		ArrayList<Chunk> available_chunk_list = new ArrayList<>(1000);
-		ArrayList<Long> available_index_list = new ArrayList<>(1000);
-		HashMap<Long, ArrayList<Chunk>> flake_list = new HashMap<>();
-		ArrayList<Chunk> current_flake_chunk_list;
-		Long current_flake_identification;
-		
 		File chunk_table_file = new File(storage_configuration.getChunkTableFilePath());
 		
-		
-		length_of_file = chunk_table_file.length();
-		
-		if( length_of_file == 0 ) {
-			return;
+		// important, because the indices in the chunk table are stored as int
+		long maximum_length = ChunkRecord.HEADER_LENGTH + ChunkRecord.RECORD_LENGTH * (long)(Integer.MAX_VALUE);
+		if( chunk_table_file.length() > maximum_length ) {
+			throw new IOException("The size of the file \"" + storage_configuration.getChunkTableFilePath() 
+			+ "\" must not be greater than " + maximum_length + "!");
 		}
-		else if( length_of_file % ChunkUtility.BINARY_CHUNK_SIZE != 0 ) {
-			throw new SecurityException("The file \"" + storage_configuration.getChunkTableFilePath()
-			+ "\" has been damaged!");
+		
+		ChunkTableLoader chunk_table_loader = new ChunkTableLoader(
+			chunk_table_file, chunk_manager, Runtime.getRuntime().availableProcessors()
+		);
+		ChunkTableContent chunk_table_content = chunk_table_loader.load();
+		if( chunk_table_loader.getNumberOfEntries() == 0 ) {
+			return unlinked_flake_list;
 		}
 		
+		chunk_manager.addAvailableChunks(chunk_table_content.getAvailableChunks());
+		chunk_manager.recycleChunks(chunk_table_content.getRecycleChunks());
+		chunk_manager.setInitialIndices(chunk_table_content.getAvailableIndices());
 		
-		try (BufferedInputStream input_stream = new BufferedInputStream(new FileInputStream(chunk_table_file))) {
-			
-			
-			// important, because (int)(length_of_file / ChunkUtility.BINARY_CHUNK_SIZE) could overflow!
-			if( length_of_file > (ChunkUtility.BINARY_CHUNK_SIZE * (long)(Integer.MAX_VALUE)) ) {
-				throw new IOException("The size of the file \"" + storage_configuration.getChunkTableFilePath() 
-				+ "\" must not be greater than " + (ChunkUtility.BINARY_CHUNK_SIZE * (long)(Integer.MAX_VALUE)) + "!");
+		IFlake flake;
+		for( FlakeContent flake_content : chunk_table_content.getFlakes() ) {
+			flake = flake_manager.declareFlake(
+				flake_content.getIdentification(), chunk_manager, flake_content.getChunks()
+			);
+			if( !flake_content.isOrdered() ) {
+				// the other flakes are not affected, so the storage is opened anyway - the flake is counted by the
+				// storage statistics once it is opened (see getNumberOfDamagedFlakes())
+				// cast is okay, because the flake manager only declares instances of Flake
+				((Flake)flake).markAsDamaged();
+				continue;
 			}
-			
-			remaining_bytes_in_file = length_of_file;
-			
-			while( remaining_bytes_in_file != 0 ) {	
-				
-				position_in_input_buffer = 0;
-				
-				if( remaining_bytes_in_file >= input_buffer.length ) {
-					max_bytes_in_buffer = input_buffer.length;
-				}
-				else {
-					// cast is okay, because remaining_bytes_in_file is smaller than input_buffer.length which is int
-					max_bytes_in_buffer = (int)(remaining_bytes_in_file);						
-				}
-
-				bytes_in_buffer = input_stream.read(input_buffer, 0, max_bytes_in_buffer);
-				current_position += bytes_in_buffer;
-				
-				// will always have at least 8 bytes of data and at max buffer.length bytes
-				// will always contain a number of bytes which can be divided by 8
-				while( position_in_input_buffer != bytes_in_buffer ) {
-					
-					
-					ArrayTool.transferValues(chunk_buffer, input_buffer, 0, position_in_input_buffer, chunk_buffer.length);
-					position_in_input_buffer += chunk_buffer.length;
-					
-					if( !Checker.checkAllElementsForZero(chunk_buffer) ) {
-						
-						chunk_data = ChunkUtility.getChunkData(chunk_buffer);
-						chunk = new Chunk(chunk_manager, chunk_data.getStartAddress(), 
-								chunk_data.getChunkLength(), current_chunk_number);
-						ChunkUtility.configureChunk(chunk, chunk_data.getFlagVector());
-						
-						if( chunk_data.getFlakeIdentification() == FlakeManager.ROOT_IDENTIFICATION ) {
-							
-							if( chunk.needsToBeCleared() ) {
-								recycle_chunk_list.add(chunk);
-							}
-							else {
-								available_chunk_list.add(chunk);
-							}
-							
-						}
-						else {
-							int current_index_in_flake = chunk_data.getIndexInFlake();
-							current_flake_identification = new Long(chunk_data.getFlakeIdentification());
-							if( !flake_list.containsKey(current_flake_identification) ) {
-								flake_list.put(current_flake_identification, new ArrayList<>(1));
-							}
-							current_flake_chunk_list = flake_list.get(current_flake_identification);
-							while( current_flake_chunk_list.size() <= chunk_data.getIndexInFlake() ) {
-								current_flake_chunk_list.add(null);
-							}
-							if( !current_flake_chunk_list.isEmpty() ) {
-								Chunk removed_chunk = current_flake_chunk_list.remove(current_index_in_flake);
-								if( removed_chunk != null ) {
-									throw new StorageException("Removed a non-null element \"" + removed_chunk.toString() + "\"!");
-								}
-							}
-							current_flake_chunk_list.add(current_index_in_flake, chunk);
-							// flake_modifier.addChunkToFlake(current_flake_identification.longValue(), chunk, 
-							//		chunk_data.getIndexInFlake(), this);
-						}
-						
-					}
-					else {
-						// index is available
-						available_index_list.add(new Long(current_chunk_number));
-					}
-					
-					current_chunk_number++;
-					
-				}
-				
-				
-				remaining_bytes_in_file = length_of_file - current_position;
-				
+			if( !flake_content.isLinked() ) {
+				unlinked_flake_list.add(Long.valueOf(flake_content.getIdentification()));
 			}
-			
 		}
-		catch (IOException e) {
-			throw new IOException("Can not read from the chunk-table-file \""
-					+ storage_configuration.getChunkTableFilePath() + "\" at position: " + current_position
-					+ " | chunk: " + current_chunk_number, e);
-		}
-		
-		chunk_manager.addAvailableChunks(available_chunk_list);
-		chunk_manager.recycleChunks(recycle_chunk_list);
-		chunk_manager.setInitialIndices(available_index_list);
 		
-		for( Long identification : flake_list.keySet() ) {
-			current_flake_chunk_list = flake_list.get(identification);
-			for(int a=current_flake_chunk_list.size()-1;a>=0;a--) {
-				if( current_flake_chunk_list.get(a) == null ) {
-					System.out.println("should this happen? like, ever??");
-					current_flake_chunk_list.remove(a);
-				}
-			}
-			flake_manager.declareFlake(identification.longValue(), chunk_manager, current_flake_chunk_list);
-		}
+		return unlinked_flake_list;
 		
 	}
 	
@@ -339,10 +371,17 @@ public final class Storage implements IStorageInformation, IAllocateSpace,
 		
 		closure_state = ClosureState.InOpening;
 		
-		loadChunks();
+		ArrayList<Long> unlinked_flake_list = loadChunks();
 		
 		flake_manager.open();
+		
+		// converts the chunks of flakes from older chunk tables, so that every chunk is linked to its predecessor
+		for( Long identification : unlinked_flake_list ) {
+			((Flake)flake_manager.getFlake(identification.longValue())).saveChunks();
+		}
 		chunk_manager.open();
+		defragmentation_manager.start();
+		publishMetrics();
 				
 		closure_state = ClosureState.Open;
 		
@@ -360,6 +399,8 @@ public final class Storage implements IStorageInformation, IAllocateSpace,
 		
 		closure_state = ClosureState.InClosure;
 		
+		withdrawMetrics();
+		defragmentation_manager.stop();
 		flake_manager.close();
 		chunk_manager.close();
 		storage_configuration.saveConfiguration();
@@ -369,6 +410,99 @@ public final class Storage implements IStorageInformation, IAllocateSpace,
 	}
 	
 	
+	/**
+	 * <p>moves chunks from the end of the data file into available chunks before them and truncates the data file by
+	 * all available chunks at its end</p>
+	 * <p>
+	 * 		The chunks are moved from the end towards the start until a chunk can not be moved, because no available
+	 * 		chunk before it is large enough or because its flake is being written, or until the next chunk would
+	 * 		exceed the io_budget. Flakes stay readable and writable in the meantime.
+	 * </p>
+	 * <p>
+	 * 		A reader may still use the chunks which are replaced, so they are only released - or recycled - after
+	 * 		every channel which might still see them has left the {@link snowflake.core.LayoutEpoch}. The compaction
+	 * 		holds the {@link #relocation_lock}, so concurrent calls and the defragmentation wait for each other.
+	 * </p>
+	 *
+	 * @param io_budget the maximum number of bytes which will be copied
+	 * @return the number of bytes the data file has been truncated by
+	 */
+	public long compact(long io_budget) throws IOException {
+		if( !isOpen() ) {
+			throw new StorageException("The storage is not open!");
+		}
+		Checker.checkForBoundaries(io_budget, 0, Long.MAX_VALUE, GlobalString.NumberOfBytes.toString());
+		relocation_lock.lock();
+		try {
+			ArrayList<IChunk> used_chunk_list = new ArrayList<>();
+			HashMap<IChunk, Flake> owner_table = new HashMap<>();
+			for( IFlake flake : flake_manager.getFlakes() ) {
+				if( flake instanceof Flake && flake.isValid() ) {
+					for( IChunk chunk : flake.getChunks() ) {
+						used_chunk_list.add(chunk);
+						owner_table.put(chunk, (Flake)flake);
+					}
+				}
+			}
+			used_chunk_list.sort((l, r) -> Long.compare(r.getStartAddress(), l.getStartAddress()));
+			ArrayList<Chunk> replaced_chunk_list = new ArrayList<>();
+			ByteBuffer transfer_buffer = ByteBuffer.allocateDirect(
+				storage_configuration.getDefragmentationTransferBufferSize()
+			);
+			long remaining_budget = io_budget;
+			long modification_count;
+			long write_generation;
+			Flake owner_flake;
+			Chunk old_chunk;
+			Chunk new_chunk;
+			for( IChunk chunk : used_chunk_list ) {
+				if( chunk.getLength() > remaining_budget ) {
+					break;
+				}
+				owner_flake = owner_table.get(chunk);
+				if( owner_flake.isBeingWritten() ) {
+					break;
+				}
+				modification_count = owner_flake.getModificationCount();
+				write_generation = owner_flake.getWriteGeneration();
+				new_chunk = chunk_manager.allocateSpaceBefore(chunk.getLength(), chunk.getStartAddress());
+				if( new_chunk == null ) {
+					break;
+				}
+				// cast is okay, because all chunks of a flake are instances of Chunk
+				old_chunk = (Chunk)chunk;
+				boolean is_replaced = false;
+				try {
+					transferData(
+						old_chunk.getStartAddress(), new_chunk.getStartAddress(), old_chunk.getLength(), transfer_buffer
+					);
+					is_replaced = owner_flake.replaceChunk(old_chunk, new_chunk, modification_count, write_generation);
+				}
+				finally {
+					if( !is_replaced ) {
+						chunk_manager.recycleChunk(new_chunk);
+					}
+				}
+				if( !is_replaced ) {
+					break;
+				}
+				replaced_chunk_list.add(old_chunk);
+				remaining_budget -= old_chunk.getLength();
+			}
+			if( !replaced_chunk_list.isEmpty() ) {
+				// the data file may only be truncated once no reader can resolve an address of a replaced chunk
+				channel_manager.getLayoutEpoch().awaitReaders();
+			}
+			long number_of_released_bytes = chunk_manager.releaseTrailingSpace(replaced_chunk_list);
+			released_space.addAndGet(number_of_released_bytes);
+			return number_of_released_bytes;
+		}
+		finally {
+			relocation_lock.unlock();
+		}
+	}
+	
+	
 	/* (non-Javadoc)
 	 * @see j3l.util.interfaces.IStateClosure#getClosureState()
 	 */
@@ -416,6 +550,33 @@ public final class Storage implements IStorageInformation, IAllocateSpace,
 	}
 	
 	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.ITransferData#transferData(long, long, long, java.nio.ByteBuffer)
+	 */
+	@Override public void transferData(long source_address, long destination_address, long length, 
+			ByteBuffer transfer_buffer) throws IOException {
+		FileChannel file_channel = data_file.getChannel();
+		long transferred_bytes = 0;
+		int advance_in_buffer;
+		while( transferred_bytes != length ) {
+			// cast is okay, because the minimum is smaller than or equal to transfer_buffer.capacity() (which is int)
+			advance_in_buffer = (int)Math.min(length - transferred_bytes, transfer_buffer.capacity());
+			transfer_buffer.clear();
+			transfer_buffer.limit(advance_in_buffer);
+			while( transfer_buffer.hasRemaining() ) {
+				if( file_channel.read(transfer_buffer, source_address + transferred_bytes + transfer_buffer.position()) < 0 ) {
+					throw new IOException("Can not read beyond the end of the " + GlobalString.DataFile.toString() + "!");
+				}
+			}
+			transfer_buffer.flip();
+			while( transfer_buffer.hasRemaining() ) {
+				file_channel.write(transfer_buffer, destination_address + transferred_bytes + transfer_buffer.position());
+			}
+			transferred_bytes += advance_in_buffer;
+		}
+	}
+	
+	
 	/* (non-Javadoc)
 	 * @see snowflake.core.IAllocateSpace#allocateSpace(long)
 	 */
@@ -443,21 +604,39 @@ public final class Storage implements IStorageInformation, IAllocateSpace,
 			} catch (IOException e) {
 				throw new StorageException("Failed to allocate \"" + number_of_bytes  + "\" bytes!", e);
 			}
+			channel_manager.mapDataFile(new_length);
 		}
 		return chunk_data;
 	}
 	
 	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IAllocateSpace#releaseSpace(long)
+	 */
+	@Override public void releaseSpace(long new_length) {
+		synchronized( data_file ) {
+			long current_length = getAllocatedSpace();
+			Checker.checkForBoundaries(new_length, 0, current_length, GlobalString.Length.toString());
+			if( new_length == current_length ) {
+				return;
+			}
+			channel_manager.truncateDataFileMapping(new_length);
+			try {
+				data_file.setLength(new_length);
+			}
+			catch( IOException e ) {
+				throw new StorageException("Failed to truncate the " + GlobalString.DataFile.toString() 
+						+ " to \"" + new_length + "\" bytes!", e);
+			}
+		}
+	}
+	
+	
 	/* (non-Javadoc)
 	 * @see snowflake.api.storage.IStorageInformation#getNumberOfFlakes()
 	 */
 	@Override public int getNumberOfFlakes() {
-		long number_of_flakes = flake_manager.getFlakes().size();
-		if( number_of_flakes > Integer.MAX_VALUE ) {
-			return Integer.MAX_VALUE;
-		}
-		// cast okay, because number_of_flakes is smaller than or equal to Integer.MAX_VALUE
-		return (int)number_of_flakes;
+		return flake_manager.getNumberOfFlakes();
 	}
 
 	
@@ -465,7 +644,7 @@ public final class Storage implements IStorageInformation, IAllocateSpace,
 	 * @see snowflake.api.storage.IStorageInformation#getNumberOfDamagedFlakes()
 	 */
 	@Override public int getNumberOfDamagedFlakes() {
-		long number_of_damaged_flakes = flake_manager.getFlakes().stream().filter(flake -> flake.isDamaged()).count();
+		long number_of_damaged_flakes = storage_statistics.getNumberOfDamagedFlakes();
 		if( number_of_damaged_flakes > Integer.MAX_VALUE ) {
 			return Integer.MAX_VALUE;
 		}
@@ -502,7 +681,7 @@ public final class Storage implements IStorageInformation, IAllocateSpace,
 	 * @see snowflake.api.storage.IStorageInformation#getNumberOfUsedChunks()
 	 */
 	@Override public long getNumberOfUsedChunks() {
-		return flake_manager.getFlakes().stream().mapToLong(flake -> flake.getNumberOfChunks()).sum();
+		return storage_statistics.getNumberOfUsedChunks();
 	}
 	
 	
@@ -511,7 +690,7 @@ public final class Storage implements IStorageInformation, IAllocateSpace,
 	 * @see snowflake.api.storage.IStorageInformation#getNumberOfFreeChunks()
 	 */
 	@Override public long getNumberOfFreeChunks() {
-		return chunk_manager.getAvailableChunks().size();
+		return storage_statistics.getNumberOfFreeChunks();
 	}
 	
 	
@@ -532,7 +711,7 @@ public final class Storage implements IStorageInformation, IAllocateSpace,
 	 * @see snowflake.api.storage.IStorageInformation#getFreeSpace()
 	 */
 	@Override public long getFreeSpace() {
-		return chunk_manager.getAvailableChunks().stream().mapToLong(chunk -> chunk.getLength()).sum();
+		return storage_statistics.getFreeSpace();
 	}
 	
 	
@@ -540,7 +719,7 @@ public final class Storage implements IStorageInformation, IAllocateSpace,
 	 * @see snowflake.api.storage.IStorageInformation#getUsedSpace()
 	 */
 	@Override public long getUsedSpace() {
-		return flake_manager.getFlakes().stream().filter(f -> f.isValid()).mapToLong(f -> f.getLength()).sum();
+		return storage_statistics.getUsedSpace();
 	}
 	
 	
@@ -559,6 +738,69 @@ public final class Storage implements IStorageInformation, IAllocateSpace,
 	}
 
 
+	/* (non-Javadoc)
+	 * @see snowflake.api.IStorageInformation#getReleasableSpace()
+	 */
+	@Override public long getReleasableSpace() {
+		return chunk_manager.getReleasableSpace();
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.api.IStorageInformation#getReleasedSpace()
+	 */
+	@Override public long getReleasedSpace() {
+		return released_space.get();
+	}
+	
+	
+	/**
+	 * <p>the address the {@link MetricsHttpServer} is bound to</p>
+	 *
+	 * @return the address or null, if the metrics are not served
+	 */
+	public InetSocketAddress getMetricsAddress() {
+		MetricsHttpServer current_metrics_http_server = metrics_http_server;
+		if( current_metrics_http_server == null ) {
+			return null;
+		}
+		return current_metrics_http_server.getAddress();
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the counters the storage information is read from
+	 */
+	public StorageStatistics getStorageStatistics() {
+		return storage_statistics;
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the counters and gauges of the storage and its components
+	 */
+	public MetricRegistry getMetricRegistry() {
+		return metric_registry;
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the manager of the chunks of the storage
+	 */
+	public ChunkManager getChunkManager() {
+		return chunk_manager;
+	}
+	
+	
 	/* (non-Javadoc)
 	 * @see snowflake.core.storage.ICreateFlake#createFlake()
 	 */
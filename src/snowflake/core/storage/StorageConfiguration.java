@@ -15,7 +15,7 @@ import snowflake.StaticMode;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.07.11_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public final class StorageConfiguration implements IStorageConfiguration {
@@ -247,6 +247,195 @@ public final class StorageConfiguration implements IStorageConfiguration {
 	}
 	
 	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void setAllocationPolicy(AllocationPolicy allocation_policy) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.AllocationPolicy.getName(), 
+			Checker.checkForNull(allocation_policy, StorageConfigurationElement.AllocationPolicy.getName()).name()
+		);
+	}
+	
+	
+	/**
+	 * <p>0 disables the minimum reservation of output streams</p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void setStreamReservationSize(long stream_reservation_size) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.StreamReservationSize.getName(), 
+			Long.toString(
+				Checker.checkForBoundaries(
+					stream_reservation_size, 
+					0,
+					Long.MAX_VALUE, 
+					StorageConfigurationElement.StreamReservationSize.getName()
+				)
+			)
+		);
+	}
+	
+	
+	/**
+	 * <p>0 disables the geometric growth of the reservation of output streams</p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void setStreamGrowthRate(double stream_growth_rate) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.StreamGrowthRate.getName(), 
+			Double.toString(
+				Checker.checkForBoundaries(
+					stream_growth_rate, 
+					0,
+					Double.MAX_VALUE, 
+					StorageConfigurationElement.StreamGrowthRate.getName()
+				)
+			)
+		);
+	}
+	
+	
+	/**
+	 * <p>0 disables the allocation arenas</p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void setNumberOfAllocationArenas(int number_of_allocation_arenas) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.NumberOfAllocationArenas.getName(), 
+			Integer.toString(
+				Checker.checkForBoundaries(
+					number_of_allocation_arenas, 
+					0,
+					Integer.MAX_VALUE, 
+					StorageConfigurationElement.NumberOfAllocationArenas.getName()
+				)
+			)
+		);
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void setAllocationArenaSize(long allocation_arena_size) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.AllocationArenaSize.getName(), 
+			Long.toString(
+				Checker.checkForBoundaries(
+					allocation_arena_size, 
+					1,
+					Long.MAX_VALUE, 
+					StorageConfigurationElement.AllocationArenaSize.getName()
+				)
+			)
+		);
+	}
+	
+	
+	/**
+	 * <p>the chunk table is {@link TableDurability#WriteThrough written through} by default - buffering it is
+	 * opt-in, because buffered entries which have not been flushed are lost in a crash</p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void setChunkTableDurability(TableDurability table_durability) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.ChunkTableDurability.getName(), 
+			Checker.checkForNull(table_durability, StorageConfigurationElement.ChunkTableDurability.getName()).name()
+		);
+	}
+	
+	
+	/**
+	 * <p>the number of milliseconds between two flushes of the buffered chunk table entries</p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void setChunkTableFlushInterval(long chunk_table_flush_interval) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.ChunkTableFlushInterval.getName(), 
+			Long.toString(
+				Checker.checkForBoundaries(
+					chunk_table_flush_interval, 
+					1,
+					Long.MAX_VALUE, 
+					StorageConfigurationElement.ChunkTableFlushInterval.getName()
+				)
+			)
+		);
+	}
+	
+	
+	/**
+	 * <p>the number of buffered chunk table entries which causes a flush</p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void setChunkTableBufferSize(int chunk_table_buffer_size) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.ChunkTableBufferSize.getName(), 
+			Integer.toString(
+				Checker.checkForBoundaries(
+					chunk_table_buffer_size, 
+					1,
+					Integer.MAX_VALUE, 
+					StorageConfigurationElement.ChunkTableBufferSize.getName()
+				)
+			)
+		);
+	}
+	
+	
+	/**
+	 * <p>the port of the loopback address the metrics are served at in a text format - 0 disables the server</p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void setMetricsPort(int metrics_port) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.MetricsPort.getName(), 
+			Integer.toString(
+				Checker.checkForBoundaries(
+					metrics_port, 
+					0,
+					65535, 
+					StorageConfigurationElement.MetricsPort.getName()
+				)
+			)
+		);
+	}
+	
+	
+	/**
+	 * <p>if latency histograms are recorded on the hot paths of the storage - disabled by default</p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void setLatencyRecording(boolean is_latency_recording_enabled) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.LatencyRecording.getName(), Boolean.toString(is_latency_recording_enabled)
+		);
+	}
+	
+	
 	/**
 	 * <p></p>
 	 *s
@@ -268,6 +457,97 @@ public final class StorageConfiguration implements IStorageConfiguration {
 	}
 	
 	
+	/**
+	 * <p></p>
+	 *s
+	 * @param
+	 * @return
+	 */
+	public void setMappedRegionSize(int mapped_region_size) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.MappedRegionSize.getName(), 
+			Integer.toString(
+				Checker.checkForBoundaries(
+					mapped_region_size, 
+					1,
+					Integer.MAX_VALUE, 
+					StorageConfigurationElement.MappedRegionSize.getName()
+				)
+			)
+		);
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void setReadMode(ReadMode read_mode) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.DataFileReadMode.getName(), 
+			Checker.checkForNull(read_mode, StorageConfigurationElement.DataFileReadMode.getName()).name()
+		);
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void setChannelMode(ChannelMode channel_mode) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.ChannelMode.getName(), 
+			Checker.checkForNull(channel_mode, StorageConfigurationElement.ChannelMode.getName()).name()
+		);
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void setNumberOfSharedChannels(int number_of_shared_channels) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.NumberOfSharedChannels.getName(), 
+			Integer.toString(
+				Checker.checkForBoundaries(
+					number_of_shared_channels, 
+					1,
+					Integer.MAX_VALUE, 
+					StorageConfigurationElement.NumberOfSharedChannels.getName()
+				)
+			)
+		);
+	}
+	
+	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void setMaximumNumberOfChannels(int maximum_number_of_channels) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.MaximumNumberOfChannels.getName(), 
+			Integer.toString(
+				Checker.checkForBoundaries(
+					maximum_number_of_channels, 
+					1,
+					Integer.MAX_VALUE, 
+					StorageConfigurationElement.MaximumNumberOfChannels.getName()
+				)
+			)
+		);
+	}
+	
+	
 	/**
 	 * <p></p>
 	 *
@@ -310,6 +590,27 @@ public final class StorageConfiguration implements IStorageConfiguration {
 	}
 	
 	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void setDefragmentationChunkCountTreshhold(int defragmentation_chunk_count_treshhold) {
+		configuration_manager.setElement(
+			StorageConfigurationElement.DefragmentationChunkCountTreshhold.getName(), 
+			Integer.toString(
+				Checker.checkForBoundaries(
+					defragmentation_chunk_count_treshhold, 
+					1, 
+					Integer.MAX_VALUE, 
+					StorageConfigurationElement.DefragmentationChunkCountTreshhold.getName()
+				)
+			)
+		);
+	}
+	
+	
 	/**
 	 * <p></p>
 	 *
@@ -447,6 +748,14 @@ public final class StorageConfiguration implements IStorageConfiguration {
 	}
 	
 	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IFlakeManagerConfiguration#getDefragmentationChunkCountTreshhold()
+	 */
+	@Override public int getDefragmentationChunkCountTreshhold() {
+		return getValue(StorageConfigurationElement.DefragmentationChunkCountTreshhold.toString(), 64);
+	}
+	
+	
 	/* (non-Javadoc)
 	 * @see snowflake.api.configuration.IReadonlyStorageConfiguration#getDataFilePath()
 	 */
@@ -469,6 +778,106 @@ public final class StorageConfiguration implements IStorageConfiguration {
 	@Override public int getMaximumAvailableChunks() {
 		return getValue(StorageConfigurationElement.MaximumAvailableChunks.toString(), 1000);
 	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IChunkManagerConfiguration#getAllocationPolicy()
+	 */
+	@Override public AllocationPolicy getAllocationPolicy() {
+		String value_string = getValue(
+			StorageConfigurationElement.AllocationPolicy.toString(), AllocationPolicy.BestFit.name()
+		);
+		try {
+			return AllocationPolicy.valueOf(value_string);
+		}
+		catch( IllegalArgumentException e ) {
+			e.printStackTrace();
+		}
+		return AllocationPolicy.BestFit;
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IFlakeManagerConfiguration#getStreamReservationSize()
+	 */
+	@Override public long getStreamReservationSize() {
+		return getValue(StorageConfigurationElement.StreamReservationSize.toString(), 1_048_576L);
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IFlakeManagerConfiguration#getStreamGrowthRate()
+	 */
+	@Override public double getStreamGrowthRate() {
+		return getValue(StorageConfigurationElement.StreamGrowthRate.toString(), 0.25d);
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IChunkManagerConfiguration#getNumberOfAllocationArenas()
+	 */
+	@Override public int getNumberOfAllocationArenas() {
+		return getValue(
+			StorageConfigurationElement.NumberOfAllocationArenas.toString(), Runtime.getRuntime().availableProcessors()
+		);
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IChunkManagerConfiguration#getAllocationArenaSize()
+	 */
+	@Override public long getAllocationArenaSize() {
+		return getValue(StorageConfigurationElement.AllocationArenaSize.toString(), 4_194_304L);
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IChunkManagerConfiguration#getChunkTableDurability()
+	 */
+	@Override public TableDurability getChunkTableDurability() {
+		String value_string = getValue(
+			StorageConfigurationElement.ChunkTableDurability.toString(), TableDurability.WriteThrough.name()
+		);
+		try {
+			return TableDurability.valueOf(value_string);
+		}
+		catch( IllegalArgumentException e ) {
+			e.printStackTrace();
+		}
+		return TableDurability.WriteThrough;
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IChunkManagerConfiguration#getChunkTableFlushInterval()
+	 */
+	@Override public long getChunkTableFlushInterval() {
+		return getValue(StorageConfigurationElement.ChunkTableFlushInterval.toString(), 1_000L);
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IChunkManagerConfiguration#getChunkTableBufferSize()
+	 */
+	@Override public int getChunkTableBufferSize() {
+		return getValue(StorageConfigurationElement.ChunkTableBufferSize.toString(), 4096);
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IStorageConfiguration#getMetricsPort()
+	 */
+	@Override public int getMetricsPort() {
+		return getValue(StorageConfigurationElement.MetricsPort.toString(), 0);
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IStorageConfiguration#isLatencyRecordingEnabled()
+	 */
+	@Override public boolean isLatencyRecordingEnabled() {
+		return Boolean.parseBoolean(getValue(StorageConfigurationElement.LatencyRecording.toString(), "false"));
+	}
 
 
 	/* (non-Javadoc)
@@ -493,5 +902,59 @@ public final class StorageConfiguration implements IStorageConfiguration {
 	@Override public long getMaximumStorageSize() {
 		return getValue(StorageConfigurationElement.MaximumStorageSize.toString(), Long.MAX_VALUE);
 	}
+
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IChannelManagerConfiguration#getReadMode()
+	 */
+	@Override public ReadMode getReadMode() {
+		String value_string = getValue(StorageConfigurationElement.DataFileReadMode.toString(), ReadMode.Channel.name());
+		try {
+			return ReadMode.valueOf(value_string);
+		}
+		catch( IllegalArgumentException e ) {
+			e.printStackTrace();
+		}
+		return ReadMode.Channel;
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IChannelManagerConfiguration#getMappedRegionSize()
+	 */
+	@Override public int getMappedRegionSize() {
+		return getValue(StorageConfigurationElement.MappedRegionSize.toString(), 1 << 30);
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IChannelManagerConfiguration#getChannelMode()
+	 */
+	@Override public ChannelMode getChannelMode() {
+		String value_string = getValue(StorageConfigurationElement.ChannelMode.toString(), ChannelMode.Shared.name());
+		try {
+			return ChannelMode.valueOf(value_string);
+		}
+		catch( IllegalArgumentException e ) {
+			e.printStackTrace();
+		}
+		return ChannelMode.Shared;
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IChannelManagerConfiguration#getNumberOfSharedChannels()
+	 */
+	@Override public int getNumberOfSharedChannels() {
+		return getValue(StorageConfigurationElement.NumberOfSharedChannels.toString(), 1);
+	}
+	
+	
+	/* (non-Javadoc)
+	 * @see snowflake.core.storage.IChannelManagerConfiguration#getMaximumNumberOfChannels()
+	 */
+	@Override public int getMaximumNumberOfChannels() {
+		return getValue(StorageConfigurationElement.MaximumNumberOfChannels.toString(), 64);
+	}
 	
 }
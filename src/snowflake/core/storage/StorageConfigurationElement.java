@@ -9,7 +9,7 @@ import snowflake.StaticMode;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.07.11_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public enum StorageConfigurationElement {
@@ -25,7 +25,23 @@ public enum StorageConfigurationElement {
 	MaximumAvailableChunks("maximum_available_chunks"),
 	ChunkRecyclingTreshhold("chunk_recycling_treshhold"), 
 	MaximumStorageSize("maximum_storage_size"),
-	MaximumNumberOfAvailableChannel("maximum_number_of_available_channel");
+	MaximumNumberOfAvailableChannel("maximum_number_of_available_channel"),
+	DataFileReadMode("data_file_read_mode"),
+	MappedRegionSize("mapped_region_size"),
+	ChannelMode("channel_mode"),
+	NumberOfSharedChannels("number_of_shared_channels"),
+	MaximumNumberOfChannels("maximum_number_of_channels"),
+	DefragmentationChunkCountTreshhold("defragmentation_chunk_count_treshhold"),
+	AllocationPolicy("allocation_policy"),
+	NumberOfAllocationArenas("number_of_allocation_arenas"),
+	AllocationArenaSize("allocation_arena_size"),
+	StreamReservationSize("stream_reservation_size"),
+	StreamGrowthRate("stream_growth_rate"),
+	ChunkTableDurability("chunk_table_durability"),
+	ChunkTableFlushInterval("chunk_table_flush_interval"),
+	ChunkTableBufferSize("chunk_table_buffer_size"),
+	MetricsPort("metrics_port"),
+	LatencyRecording("latency_recording");
 	
 	
 	/**
@@ -0,0 +1,203 @@
+package snowflake.core.storage;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>the counters behind the {@link snowflake.api.IStorageInformation storage information}</p>
+ * <p>
+ * 		The flakes, the available chunks and the recycled chunks report every change of their number and length to
+ * 		these counters, so that no query needs to visit them. The counters are striped, so the reporting threads do not
+ * 		contend with each other. A sum which is read while changes are in flight may be off by these changes.
+ * </p>
+ *
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public final class StorageStatistics {
+
+
+	/**
+	 * <p>the number of bytes of all flakes which are not damaged</p>
+	 */
+	private final LongAdder used_space;
+
+
+	/**
+	 * <p>the number of chunks of all flakes</p>
+	 */
+	private final LongAdder number_of_used_chunks;
+
+
+	/**
+	 * <p>the number of bytes of all available chunks</p>
+	 */
+	private final LongAdder free_space;
+
+
+	/**
+	 * <p>the number of available chunks</p>
+	 */
+	private final LongAdder number_of_free_chunks;
+
+
+	/**
+	 * <p>the number of bytes of all chunks which wait for being cleared</p>
+	 */
+	private final LongAdder recyclable_space;
+
+
+	/**
+	 * <p>the number of chunks which wait for being cleared</p>
+	 */
+	private final LongAdder number_of_recyclable_chunks;
+
+
+	/**
+	 * <p></p>
+	 */
+	private final LongAdder number_of_damaged_flakes;
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public StorageStatistics() {
+		used_space = new LongAdder();
+		number_of_used_chunks = new LongAdder();
+		free_space = new LongAdder();
+		number_of_free_chunks = new LongAdder();
+		recyclable_space = new LongAdder();
+		number_of_recyclable_chunks = new LongAdder();
+		number_of_damaged_flakes = new LongAdder();
+	}
+
+
+	/**
+	 * <p>reports a change of the chunks of a flake</p>
+	 *
+	 * @param number_of_chunks the number of chunks the flake has gained (negative if it has lost chunks)
+	 * @param number_of_bytes the number of bytes the flake has gained (negative if it has shrunk)
+	 */
+	public void addUsed(long number_of_chunks, long number_of_bytes) {
+		number_of_used_chunks.add(number_of_chunks);
+		used_space.add(number_of_bytes);
+	}
+
+
+	/**
+	 * <p>reports a change of the available chunks</p>
+	 *
+	 * @param number_of_chunks the number of chunks which have become available (negative if they have been removed)
+	 * @param number_of_bytes the number of bytes which have become available (negative if they have been removed)
+	 */
+	public void addFree(long number_of_chunks, long number_of_bytes) {
+		number_of_free_chunks.add(number_of_chunks);
+		free_space.add(number_of_bytes);
+	}
+
+
+	/**
+	 * <p>reports a change of the chunks which wait for being cleared</p>
+	 *
+	 * @param number_of_chunks the number of chunks which have been added (negative if they have been cleared)
+	 * @param number_of_bytes the number of bytes which have been added (negative if they have been cleared)
+	 */
+	public void addRecyclable(long number_of_chunks, long number_of_bytes) {
+		number_of_recyclable_chunks.add(number_of_chunks);
+		recyclable_space.add(number_of_bytes);
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public void addDamagedFlake() {
+		number_of_damaged_flakes.increment();
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public long getUsedSpace() {
+		return used_space.sum();
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public long getNumberOfUsedChunks() {
+		return number_of_used_chunks.sum();
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public long getFreeSpace() {
+		return free_space.sum();
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public long getNumberOfFreeChunks() {
+		return number_of_free_chunks.sum();
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public long getRecyclableSpace() {
+		return recyclable_space.sum();
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public long getNumberOfRecyclableChunks() {
+		return number_of_recyclable_chunks.sum();
+	}
+
+
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return
+	 */
+	public long getNumberOfDamagedFlakes() {
+		return number_of_damaged_flakes.sum();
+	}
+
+}
@@ -0,0 +1,40 @@
+package snowflake.core.storage;
+
+
+/**
+ * <p>states when the entries of the chunk table are written and how far they are forced to the disk</p>
+ * 
+ * @since JDK 1.8
+ * @version 2026.10.18_0
+ * @author Johannes B. Latzel
+ */
+public enum TableDurability {
+	
+	
+	/**
+	 * <p>every entry is written as soon as it is added - the default</p>
+	 */
+	WriteThrough,
+	
+	
+	/**
+	 * <p>the entries are buffered and written in sorted batches periodically, if the buffer is full and on
+	 * closing - the operating system decides when they reach the disk, so the entries added since the last flush
+	 * are lost in a crash</p>
+	 * <p>
+	 * 		A batch is written sorted by the indices of the entries, not in the order they have been added. The
+	 * 		orderings which keep a crash harmless - e.g. a chunk is deleted before a neighbour grows over it - only
+	 * 		hold for {@link #WriteThrough}. A crash during a flush may leave a later entry written without an earlier
+	 * 		one, so chunks may overlap once the table is loaded again.
+	 * </p>
+	 */
+	Buffered,
+	
+	
+	/**
+	 * <p>like {@link #Buffered}, but every batch is forced to the disk via
+	 * {@link java.nio.channels.FileChannel#force(boolean) FileChannel.force(false)}</p>
+	 */
+	Forced;
+	
+}
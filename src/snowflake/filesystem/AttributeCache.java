@@ -11,12 +11,13 @@ import snowflake.GlobalString;
 import snowflake.StaticMode;
 import snowflake.api.IFlake;
 import snowflake.api.StorageException;
+import snowflake.core.metrics.LatencyHistogram;
 
 /**
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.07.23_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public final class AttributeCache implements IValidate {
@@ -197,18 +198,25 @@ public final class AttributeCache implements IValidate {
 	/**
 	 * <p></p>
 	 *
-	 * @param
-	 * @return
+	 * @param attribute
+	 * @param latency_histogram records how long the attribute takes to be saved in the attribute flake
 	 */
-	public void setAttribute(Attribute attribute) {
+	public void setAttribute(Attribute attribute, LatencyHistogram latency_histogram) {
 		checkDeletion();
 		if( StaticMode.TESTING_MODE ) {
 			Checker.checkForNull(attribute, GlobalString.Attribute.toString());
+			Checker.checkForNull(latency_histogram, GlobalString.LatencyHistogram.toString());
 		}
 		synchronized( attribute_list ) {
 			synchronized( attribute_flake ) {
 				attribute_list.removeIf(a -> a.getName().equals(attribute.getName()));
-				AttributeUtility.setAttribute(attribute, attribute_flake);
+				long start_time = latency_histogram.start();
+				try {
+					AttributeUtility.setAttribute(attribute, attribute_flake);
+				}
+				finally {
+					latency_histogram.recordSince(start_time);
+				}
 			}
 			attribute_list.add(attribute);
 		}
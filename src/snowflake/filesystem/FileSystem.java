@@ -16,6 +16,7 @@ import snowflake.api.CommonAttribute;
 import snowflake.api.FileSystemException;
 import snowflake.api.IDirectory;
 import snowflake.api.IFlake;
+import snowflake.core.metrics.LatencyHistogram;
 import snowflake.core.storage.Storage;
 import snowflake.filesystem.attribute.Name;
 import snowflake.filesystem.attribute.TimeStamp;
@@ -25,7 +26,7 @@ import snowflake.filesystem.manager.DeduplicationManager;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.09.25_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public class FileSystem implements IClose<FileSystemException> {
@@ -67,6 +68,18 @@ public class FileSystem implements IClose<FileSystemException> {
 	private final DeduplicationManager deduplication_manager;
 	
 	
+	/**
+	 * <p>the latencies of {@link #getNode(String)}</p>
+	 */
+	private final LatencyHistogram node_lookup_latency_histogram;
+	
+	
+	/**
+	 * <p>the latencies of {@link AttributeUtility#setAttribute(Attribute, IFlake)}</p>
+	 */
+	private final LatencyHistogram attribute_latency_histogram;
+	
+	
 	/**
 	 * <p></p>
 	 */
@@ -81,6 +94,8 @@ public class FileSystem implements IClose<FileSystemException> {
 	 */
 	public FileSystem(Storage storage) {
 		this.storage = Checker.checkForNull(storage, GlobalString.Storage.toString());
+		node_lookup_latency_histogram = storage.getMetricRegistry().getHistogram("node_lookup_latency_nanoseconds");
+		attribute_latency_histogram = storage.getMetricRegistry().getHistogram("attribute_set_latency_nanoseconds");
 		root_directory = new RootDirectory(this);
 		try {
 			file_table = new FileTable(storage.getFileTableFlake());
@@ -94,7 +109,9 @@ public class FileSystem implements IClose<FileSystemException> {
 		catch( IOException e ) {
 			throw new FileSystemException("Can create the directory_table!", e);
 		}
-		deduplication_manager = new DeduplicationManager(this, storage.getDeduplicationTableFlake(), storage, storage);
+		deduplication_manager = new DeduplicationManager(
+			this, storage.getDeduplicationTableFlake(), storage, storage, storage.getMetricRegistry()
+		);
 		closure_state = ClosureState.None;
 	}
 	
@@ -241,6 +258,23 @@ public class FileSystem implements IClose<FileSystemException> {
 	 * @return
 	 */
 	public Node getNode(String path) {
+		long start_time = node_lookup_latency_histogram.start();
+		try {
+			return resolveNode(path);
+		}
+		finally {
+			node_lookup_latency_histogram.recordSince(start_time);
+		}
+	}
+	
+	
+	/**
+	 * <p>walks from the root directory along the path</p>
+	 *
+	 * @param path the path of the node
+	 * @return the node
+	 */
+	private Node resolveNode(String path) {
 		String[] path_elements = Checker.checkForEmptyString(
 			path, GlobalString.Path.toString()).split(FileSystem.NODE_SEPERATOR
 		);
@@ -324,6 +358,17 @@ public class FileSystem implements IClose<FileSystemException> {
 	}
 	
 	
+	/**
+	 * <p></p>
+	 *
+	 * @param
+	 * @return the histogram of the latencies of saving an attribute
+	 */
+	public LatencyHistogram getAttributeLatencyHistogram() {
+		return attribute_latency_histogram;
+	}
+	
+	
 	/**
 	 * <p></p>
 	 *
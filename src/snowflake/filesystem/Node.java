@@ -20,7 +20,7 @@ import snowflake.filesystem.attribute.Name;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.07.25_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public abstract class Node implements IValidate, Indexable, ILock {
@@ -163,7 +163,7 @@ public abstract class Node implements IValidate, Indexable, ILock {
 	 */
 	public final void setAttribute(Attribute attribute, Lock lock) {
 		checkForLock(lock);
-		attribute_cache.setAttribute(attribute);
+		attribute_cache.setAttribute(attribute, getFileSystem().getAttributeLatencyHistogram());
 	}
 	
 	
@@ -22,6 +22,9 @@ import snowflake.api.IFlake;
 import snowflake.api.StorageException;
 import snowflake.core.FlakeInputStream;
 import snowflake.core.FlakeOutputStream;
+import snowflake.core.event.DeduplicationEvent;
+import snowflake.core.metrics.LatencyHistogram;
+import snowflake.core.metrics.MetricRegistry;
 import snowflake.core.storage.ICreateFlake;
 import snowflake.core.storage.IGetFlake;
 import snowflake.filesystem.Attribute;
@@ -37,7 +40,7 @@ import snowflake.filesystem.attribute.DeduplicationProgressDescription;
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.09.25_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public final class DeduplicationManager implements IClose<FileSystemException> {
@@ -151,13 +154,19 @@ public final class DeduplicationManager implements IClose<FileSystemException> {
 	private final IGetFlake get_flake;
 	
 	
+	/**
+	 * <p>the latencies of {@link #deduplicate(File)}</p>
+	 */
+	private final LatencyHistogram deduplication_latency_histogram;
+	
+	
 	/**
 	 * <p></p>
 	 * 
 	 * @param
 	 */
 	public DeduplicationManager(FileSystem file_system, IFlake deduplication_table_flake,
-										ICreateFlake create_flake, IGetFlake get_flake) {
+										ICreateFlake create_flake, IGetFlake get_flake, MetricRegistry metric_registry) {
 		if( StaticMode.TESTING_MODE ) {
 			this.file_system = Checker.checkForNull(file_system, GlobalString.FileSystem.toString());
 			this.create_flake = Checker.checkForNull(create_flake, GlobalString.CreateFlake.toString());
@@ -169,8 +178,11 @@ public final class DeduplicationManager implements IClose<FileSystemException> {
 			this.get_flake = get_flake;
 		}
 		deduplicant_list = new ArrayList<>();
+		deduplication_latency_histogram = Checker.checkForNull(
+			metric_registry, GlobalString.MetricRegistry.toString()
+		).getHistogram("deduplication_latency_nanoseconds");
 		try {
-			deduplication_table = new DeduplicationTable(deduplication_table_flake);
+			deduplication_table = new DeduplicationTable(deduplication_table_flake, metric_registry);
 		}
 		catch( IOException e ) {
 			throw new FileSystemException("Can not instantiate the deduplication_table!", e);
@@ -274,6 +286,25 @@ public final class DeduplicationManager implements IClose<FileSystemException> {
 	 * @return
 	 */
 	public void deduplicate(File file) {
+		DeduplicationEvent deduplication_event = new DeduplicationEvent();
+		deduplication_event.begin();
+		long start_time = deduplication_latency_histogram.start();
+		try {
+			deduplicateFile(file, deduplication_event);
+		}
+		finally {
+			deduplication_latency_histogram.recordSince(start_time);
+		}
+	}
+	
+	
+	/**
+	 * <p>replaces the data of the file block by block with the indices of the blocks in the deduplication table</p>
+	 *
+	 * @param file the file
+	 * @param deduplication_event reports the processed blocks
+	 */
+	private void deduplicateFile(File file, DeduplicationEvent deduplication_event) {
 		if( StaticMode.TESTING_MODE ) {
 			Checker.checkForValidation(file, GlobalString.File.toString());
 		}
@@ -305,6 +336,8 @@ public final class DeduplicationManager implements IClose<FileSystemException> {
 		LongBuffer long_buffer = LongBuffer.allocate( DeduplicationBlock.SIZE / Long.BYTES );
 		final ByteBuffer deduplication_block_buffer = ByteBuffer.allocate(DeduplicationBlock.SIZE);
 		final long file_length = file.getLength();
+		long number_of_duplicate_blocks = 0;
+		long number_of_registered_blocks = 0;
 		try( FlakeInputStream fin = file.getFlakeInputStream() ) {
 			current_data_pointer = fin.getDataPointer();
 			current_data_pointer.setPosition(deduplication_progress_description.getCurrentDataPointer());
@@ -341,10 +374,12 @@ public final class DeduplicationManager implements IClose<FileSystemException> {
 				Util.readComplete(fin, deduplication_block_buffer);
 				long index = deduplication_table.getIndex(deduplication_block_buffer);
 				if( index != -1 ) {
-					long_buffer.put(deduplication_table.getIndex(deduplication_block_buffer));
+					long_buffer.put(index);
+					number_of_duplicate_blocks++;
 				}
 				else {
 					long_buffer.put(deduplication_table.register(deduplication_block_buffer));
+					number_of_registered_blocks++;
 				}
 			}
 			file.setAttribute(
@@ -363,6 +398,10 @@ public final class DeduplicationManager implements IClose<FileSystemException> {
 		}
 		finally {
 			file.unlock(lock);
+			deduplication_event.report(
+				number_of_duplicate_blocks + number_of_registered_blocks, number_of_duplicate_blocks,
+				number_of_registered_blocks
+			);
 		}
 	}
 	
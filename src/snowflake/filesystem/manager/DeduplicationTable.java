@@ -17,12 +17,14 @@ import snowflake.api.IFlake;
 import snowflake.api.StorageException;
 import snowflake.core.FlakeInputStream;
 import snowflake.core.FlakeOutputStream;
+import snowflake.core.metrics.Counter;
+import snowflake.core.metrics.MetricRegistry;
 
 /**
  * <p></p>
  * 
  * @since JDK 1.8
- * @version 2016.09.25_0
+ * @version 2026.10.18_0
  * @author Johannes B. Latzel
  */
 public final class DeduplicationTable implements IClose<FileSystemException> {	
@@ -81,16 +83,32 @@ public final class DeduplicationTable implements IClose<FileSystemException> {
 	private ClosureState closure_state;
 	
 	
+	/**
+	 * <p>counts the blocks which have been found in the table</p>
+	 */
+	private final Counter hit_counter;
+	
+	
+	/**
+	 * <p>counts the blocks which have not been found in the table</p>
+	 */
+	private final Counter miss_counter;
+	
+	
 	/**
 	 * <p></p>
 	 * 
-	 * @param
+	 * @param deduplication_table_flake
+	 * @param metric_registry the registry of the counters of the lookups
 	 * @throws IOException 
 	 */
-	public DeduplicationTable(IFlake deduplication_table_flake) throws IOException {
+	public DeduplicationTable(IFlake deduplication_table_flake, MetricRegistry metric_registry) throws IOException {
 		this.deduplication_table_flake = Checker.checkForValidation(
 			deduplication_table_flake, GlobalString.DeduplicationTableFlake.toString()
 		);
+		Checker.checkForNull(metric_registry, GlobalString.MetricRegistry.toString());
+		hit_counter = metric_registry.getCounter("deduplication_hits");
+		miss_counter = metric_registry.getCounter("deduplication_misses");
 		this.table_output = deduplication_table_flake.getFlakeOutputStream();
 		this.table_input = deduplication_table_flake.getFlakeInputStream();
 		deduplication_map = new HashMap<>();
@@ -182,7 +200,7 @@ public final class DeduplicationTable implements IClose<FileSystemException> {
 	 */
 	@SuppressWarnings("unchecked") public long register(ByteBuffer data_block) {
 		DeduplicationTable.checkDataBlock(data_block);
-		if( getIndex(data_block) != -1 ) {
+		if( findIndex(data_block) != -1 ) {
 			throw new FileSystemException("The block is already registered!");
 		}
 		long index;
@@ -261,7 +279,25 @@ public final class DeduplicationTable implements IClose<FileSystemException> {
 	 * @param
 	 * @return the index of the associated deplucation_block or -1 if it does not exist
 	 */
-	@SuppressWarnings("unchecked") public long getIndex(ByteBuffer data_block) {
+	public long getIndex(ByteBuffer data_block) {
+		long index = findIndex(data_block);
+		if( index == -1 ) {
+			miss_counter.increment();
+		}
+		else {
+			hit_counter.increment();
+		}
+		return index;
+	}
+	
+	
+	/**
+	 * <p>looks the block up without counting the lookup</p>
+	 *
+	 * @param
+	 * @return the index of the associated deplucation_block or -1 if it does not exist
+	 */
+	@SuppressWarnings("unchecked") private long findIndex(ByteBuffer data_block) {
 		Checker.checkForNull(data_block, GlobalString.DataBlock.toString());
 		Checker.checkForBoundaries(
 			data_block.capacity(),